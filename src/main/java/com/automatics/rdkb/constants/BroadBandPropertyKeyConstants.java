@@ -836,4 +836,43 @@ public class BroadBandPropertyKeyConstants {
 	public static final String CLI_CONFIG_AUTOVAULT_LOCATION = "autovault.cliconfig.file.path";
 
 	public static final String WEBPA_CFG_AUTOVAULT_LOCATION = "autovault.webpacfg.file.path";
+
+    /** The property key for the first wait interval (in milliseconds) used by the adaptive polling engine */
+    public static final String PROP_KEY_POLLING_INITIAL_INTERVAL = "polling.adaptive.initial.interval";
+
+    /** The property key for the backoff multiplier used by the adaptive polling engine */
+    public static final String PROP_KEY_POLLING_BACKOFF_MULTIPLIER = "polling.adaptive.backoff.multiplier";
+
+    /** The property key for the jitter percentage applied to each wait by the adaptive polling engine */
+    public static final String PROP_KEY_POLLING_JITTER_PERCENTAGE = "polling.adaptive.jitter.percentage";
+
+    /** The property key for maximum number of WebPA requests executed concurrently per device */
+    public static final String PROP_KEY_WEBPA_PARALLEL_REQUEST_CONCURRENCY = "webpa.parallel.request.concurrency";
+
+    /** The property key for timeout (in milliseconds) of parallel WebPA requests */
+    public static final String PROP_KEY_WEBPA_PARALLEL_REQUEST_TIMEOUT = "webpa.parallel.request.timeout";
+
+    /** The property key for the window (in milliseconds) in which single WebPA GETs of a device are coalesced */
+    public static final String PROP_KEY_WEBPA_COALESCING_WINDOW = "webpa.coalescing.window";
+
+    /** The partial property key for time to live (in milliseconds) of a WebPA read cache class, appended with the class name */
+    public static final String PROP_KEY_WEBPA_CACHE_TTL = "webpa.cache.ttl.";
+
+    /** The property key for the number of consecutive WebPA failures after which the WebPA circuit of a device is opened */
+    public static final String PROP_KEY_WEBPA_CIRCUIT_BREAKER_FAILURE_THRESHOLD = "webpa.circuit.breaker.failure.threshold";
+
+    /** The property key for the time (in milliseconds) after which an open WebPA circuit is probed */
+    public static final String PROP_KEY_WEBPA_CIRCUIT_BREAKER_OPEN_DURATION = "webpa.circuit.breaker.open.duration";
+
+    /** The property key for the port on which the WebPA notification receiver listens */
+    public static final String PROP_KEY_WEBPA_NOTIFICATION_RECEIVER_PORT = "webpa.notification.receiver.port";
+
+    /** The property key for the time (in milliseconds) after which an idle pooled SSH session is disconnected */
+    public static final String PROP_KEY_SSH_POOL_IDLE_TIMEOUT = "ssh.pool.idle.timeout";
+
+    /** The property key for the interval (in milliseconds) at which idle pooled SSH sessions are checked for liveness */
+    public static final String PROP_KEY_SSH_POOL_HEALTH_CHECK_INTERVAL = "ssh.pool.health.check.interval";
+
+    /** The property key for the maximum number of idle pooled SSH sessions per user and host */
+    public static final String PROP_KEY_SSH_POOL_MAX_IDLE_SESSIONS = "ssh.pool.max.idle.sessions";
 }
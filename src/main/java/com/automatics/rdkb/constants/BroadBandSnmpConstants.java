@@ -569,4 +569,6 @@ public class BroadBandSnmpConstants {
 
     }
 
+    /** Command option of the SNMPv3 commands executed as docsisManager */
+    public static final String SNMP_V3_COMMAND_OPTION = "-OQ -v 3 -u docsisManager";
 }
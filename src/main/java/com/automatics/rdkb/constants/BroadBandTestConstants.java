@@ -6916,5 +6916,118 @@ public class BroadBandTestConstants extends RDKBTestConstants {
 
 	/** String variable to store brlan down self heal logs */
 	public static final String STRING_BRLAN_DOWN_SELF_HEAL_LOG = "Either brlan0 or l2sd0.100 is not completely up, setting event to recreate vlan and brlan0 interface";
-    
+
+    /** Default first wait interval in milliseconds for adaptive polling */
+    public static final long DEFAULT_POLLING_INITIAL_INTERVAL_IN_MILLIS = 500L;
+
+    /** Default backoff multiplier for adaptive polling */
+    public static final double DEFAULT_POLLING_BACKOFF_MULTIPLIER = 2.0;
+
+    /** Default jitter percentage applied to each adaptive polling wait */
+    public static final int DEFAULT_POLLING_JITTER_PERCENTAGE = 10;
+
+    /** Time after which idle parallel WebPA request threads are released */
+    public static final long WEBPA_PARALLEL_REQUEST_IDLE_TIMEOUT_IN_MILLIS = ONE_MINUTE_IN_MILLIS;
+
+    /** Default timeout for parallel WebPA requests */
+    public static final long WEBPA_PARALLEL_REQUEST_DEFAULT_TIMEOUT_IN_MILLIS = TWO_MINUTE_IN_MILLIS;
+
+    /** Default window in which single WebPA GETs of a device are coalesced */
+    public static final long WEBPA_COALESCING_DEFAULT_WINDOW_IN_MILLIS = 50L;
+
+    /** Marker echoed before the output of each dmcli command in a batched dmcli get */
+    public static final String DMCLI_BATCH_FRAME_BEGIN = "@@DMCLI_FRAME_BEGIN:";
+
+    /** Marker echoed after the output of each dmcli command in a batched dmcli get */
+    public static final String DMCLI_BATCH_FRAME_END = "@@DMCLI_FRAME_END:";
+
+    /** Maximum number of parameters sent in one batched dmcli get command */
+    public static final int DMCLI_BATCH_MAX_PARAMETERS = 50;
+
+    /** Default number of recorded iterations of each WebPA benchmark scenario */
+    public static final int WEBPA_BENCHMARK_DEFAULT_ITERATIONS = 100;
+
+    /** Number of unrecorded warm up iterations of each WebPA benchmark scenario */
+    public static final int WEBPA_BENCHMARK_WARM_UP_ITERATIONS = 5;
+
+    /** Default number of consecutive WebPA failures after which the WebPA circuit of a device is opened */
+    public static final int WEBPA_CIRCUIT_BREAKER_DEFAULT_FAILURE_THRESHOLD = 3;
+
+    /** Number of recent WebPA requests over which the failure rate of a device is calculated */
+    public static final int WEBPA_CIRCUIT_BREAKER_WINDOW_SIZE = 20;
+
+    /** Failure percentage over the recent WebPA requests at which the WebPA circuit of a device is opened */
+    public static final int WEBPA_CIRCUIT_BREAKER_FAILURE_PERCENTAGE = 50;
+
+    /** Default time after which an open WebPA circuit is probed */
+    public static final long WEBPA_CIRCUIT_BREAKER_DEFAULT_OPEN_DURATION_IN_MILLIS = ONE_MINUTE_IN_MILLIS;
+
+    /** Maximum time after which an open WebPA circuit is probed, after repeated probe failures */
+    public static final long WEBPA_CIRCUIT_BREAKER_MAX_OPEN_DURATION_IN_MILLIS = FIVE_MINUTE_IN_MILLIS;
+
+    /** Path on which the WebPA notification receiver accepts notifications */
+    public static final String WEBPA_NOTIFICATION_RECEIVER_PATH = "/webpa/notification";
+
+    /** Default time after which an idle pooled SSH session is disconnected */
+    public static final long SSH_POOL_DEFAULT_IDLE_TIMEOUT_IN_MILLIS = FIVE_MINUTE_IN_MILLIS;
+
+    /** Default interval at which idle pooled SSH sessions are checked for liveness */
+    public static final long SSH_POOL_DEFAULT_HEALTH_CHECK_INTERVAL_IN_MILLIS = THIRTY_SECOND_IN_MILLIS;
+
+    /** Default maximum number of idle pooled SSH sessions per user and host */
+    public static final int SSH_POOL_DEFAULT_MAX_IDLE_SESSIONS = 4;
+
+    /** Marker echoed to check the liveness of a pooled SSH session */
+    public static final String SSH_POOL_HEALTH_CHECK_MARKER = "@@SSH_POOL_ALIVE@@";
+
+    /** Initial wait before retrying a failed SSH connection, doubled on each retry */
+    public static final long SSH_CONNECTION_INITIAL_RETRY_WAIT_IN_MILLIS = TWO_SECOND_IN_MILLIS;
+
+    /** Default number of recorded iterations of each pattern matching benchmark scenario */
+    public static final int PATTERN_BENCHMARK_DEFAULT_ITERATIONS = 1000;
+
+    /** Number of unrecorded warm up iterations of each pattern matching benchmark scenario, to let the JIT compile */
+    public static final int PATTERN_BENCHMARK_WARM_UP_ITERATIONS = 200;
+
+    /** Maximum time to wait for the log search in the ARM and ATOM consoles */
+    public static final long DUAL_CONSOLE_SEARCH_TIMEOUT_IN_MILLIS = TWO_MINUTE_IN_MILLIS;
+
+    /** Device file to which the resource sampler appends the CPU and memory samples */
+    public static final String RESOURCE_SAMPLER_OUTPUT_FILE = "/tmp/rdkb_resource_samples.txt";
+
+    /** Device file holding the PID of the resource sampler, removed to stop the sampler */
+    public static final String RESOURCE_SAMPLER_PID_FILE = "/tmp/rdkb_resource_sampler.pid";
+
+    /** Default number of most recent samples kept for each metric of the resource sampler */
+    public static final int RESOURCE_SAMPLER_DEFAULT_CAPACITY = 3600;
+
+    /** Maximum time a polling loop executed on the device blocks a single console call */
+    public static final long DEVICE_POLLING_MAX_CALL_DURATION_IN_MILLIS = ONE_MINUTE_IN_MILLIS;
+
+    /** Prefix of the device file holding the output of the last attempt of a polling loop executed on the device */
+    public static final String DEVICE_POLLING_OUTPUT_FILE_PREFIX = "/tmp/rdkb_device_poll_";
+
+    /** Number of TR-181 parameters read with each bulk WebPA get of the SNMP and WebPA cross verification */
+    public static final int CROSS_VERIFICATION_WEBPA_BATCH_SIZE = 20;
+
+    /** Maximum number of WebPA and SNMP reads of the SNMP and WebPA cross verification running at the same time */
+    public static final int CROSS_VERIFICATION_MAX_CONCURRENCY = 8;
+
+    /** Maximum time to wait for the WebPA and SNMP reads of the SNMP and WebPA cross verification */
+    public static final long CROSS_VERIFICATION_TIMEOUT_IN_MILLIS = TWO_MINUTE_IN_MILLIS;
+
+    /** Default number of recorded iterations of each SNMP benchmark scenario */
+    public static final int SNMP_BENCHMARK_DEFAULT_ITERATIONS = 100;
+
+    /** Number of unrecorded warm up iterations of each SNMP benchmark scenario */
+    public static final int SNMP_BENCHMARK_WARM_UP_ITERATIONS = 5;
+
+    /** Number of rows of each table column preloaded in the local SNMP agent stand-in */
+    public static final int SNMP_STAND_IN_TABLE_ROWS = 16;
+
+    /** Number of retries of a lost request to the local SNMP agent stand-in, as the net-snmp default */
+    public static final int SNMP_STAND_IN_RETRIES = 5;
+
+    /** Number of rows returned by each get bulk request of the local SNMP agent stand-in, as the net-snmp default */
+    public static final int SNMP_STAND_IN_MAX_REPETITIONS = 10;
 }
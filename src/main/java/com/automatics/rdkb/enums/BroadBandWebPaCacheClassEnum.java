@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.enums;
+
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+
+/**
+ * Enumeration for classes of TR-181 parameters cached by the WebPA read cache, with the default time to live of each
+ * class. Cached values of every class are flushed on reboot and factory reset. Running firmware details are not
+ * cached, since code downloads and device initiated reboots do not pass through the flushing helpers.
+ */
+public enum BroadBandWebPaCacheClassEnum {
+
+    /** Provisioning which changes rarely during a test, e.g. partner ID */
+    PROVISIONING("provisioning", BroadBandTestConstants.FIVE_MINUTE_IN_MILLIS);
+
+    /** Name of the class, used in property keys */
+    private String className;
+
+    /** Default time to live in milliseconds */
+    private long defaultTimeToLive;
+
+    /**
+     * Enumeration constructor.
+     *
+     * @param className
+     *            name of the class
+     * @param defaultTimeToLive
+     *            default time to live in milliseconds
+     */
+    private BroadBandWebPaCacheClassEnum(String className, long defaultTimeToLive) {
+	this.className = className;
+	this.defaultTimeToLive = defaultTimeToLive;
+    }
+
+    /**
+     * @return the className
+     */
+    public String getClassName() {
+	return className;
+    }
+
+    /**
+     * @return the defaultTimeToLive
+     */
+    public long getDefaultTimeToLive() {
+	return defaultTimeToLive;
+    }
+}
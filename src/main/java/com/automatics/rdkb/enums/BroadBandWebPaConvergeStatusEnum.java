@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.enums;
+
+/**
+ * Enumeration for the outcome of a parameter when converging WebPA parameters to their target values.
+ */
+public enum BroadBandWebPaConvergeStatusEnum {
+
+    /** Parameter already had the target value and was not set */
+    UNCHANGED(true),
+
+    /** Parameter was set and verified with the target value */
+    CONVERGED(true),
+
+    /** Set request of the changed parameters failed */
+    SET_FAILED(false),
+
+    /** Parameter was set, but did not have the target value when verified */
+    VERIFICATION_FAILED(false);
+
+    /** True, if the parameter has the target value */
+    private boolean success;
+
+    /**
+     * Enumeration constructor.
+     *
+     * @param success
+     *            true, if the parameter has the target value
+     */
+    private BroadBandWebPaConvergeStatusEnum(boolean success) {
+	this.success = success;
+    }
+
+    /**
+     * @return the success
+     */
+    public boolean isSuccess() {
+	return success;
+    }
+}
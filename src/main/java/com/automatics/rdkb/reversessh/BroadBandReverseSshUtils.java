@@ -28,10 +28,12 @@ import com.automatics.providers.connection.SshConnection;
 import com.automatics.rdkb.constants.BroadBandCommandConstants;
 import com.automatics.rdkb.constants.BroadBandPropertyKeyConstants;
 import com.automatics.rdkb.utils.BroadBandCommonUtils;
+import com.automatics.rdkb.utils.BroadBandIncrementalLogSearch;
 import com.automatics.rdkb.utils.BroadbandPropertyFileHandler;
 import com.automatics.rdkb.utils.DeviceModeHandler;
 import com.automatics.rdkb.utils.ServerUtils;
 import com.automatics.rdkb.utils.cdl.FirmwareDownloadUtils;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.tap.AutomaticsTapApi;
 import com.automatics.utils.AutomaticsPropertyUtility;
 import com.automatics.utils.CommonMethods;
@@ -149,29 +151,18 @@ public class BroadBandReverseSshUtils {
     public static String searchLogFilesWithPollingIntervalUsingReverseSsh(AutomaticsTapApi tapEnv, Dut device,
 	    String searchText, String logFile, long pollDuration, long pollInterval) {
 	LOGGER.debug("STARTING METHOD searchLogFilesWithPollingIntervalUsingReverseSsh");
-	StringBuffer sbCommand = new StringBuffer(BroadBandTestConstants.GREP_COMMAND);
-	// In case the search text contains space and not wrapped with double quotes.
-	if (searchText.contains(BroadBandTestConstants.SINGLE_SPACE_CHARACTER)
-		&& !searchText.contains(BroadBandTestConstants.DOUBLE_QUOTE)) {
-	    sbCommand.append(BroadBandTestConstants.DOUBLE_QUOTE);
-	    sbCommand.append(searchText);
-	    sbCommand.append(BroadBandTestConstants.DOUBLE_QUOTE);
-	} else {
-	    sbCommand.append(searchText);
-	}
-	sbCommand.append(BroadBandTestConstants.SINGLE_SPACE_CHARACTER);
-	sbCommand.append(logFile);
-	String [] command =  new String [] {sbCommand.toString()};
-	LOGGER.info("COMMAND TO BE EXECUTED: " + command);
+	String grepCommand = BroadBandIncrementalLogSearch.getGrepCommand(searchText);
+	LOGGER.info("COMMAND TO BE EXECUTED: " + grepCommand + BroadBandTestConstants.SINGLE_SPACE_CHARACTER + logFile);
+	// Each poll after the first scans only the bytes appended since the previous poll
+	BroadBandIncrementalLogSearch logSearch = new BroadBandIncrementalLogSearch(logFile);
 	long startTime = System.currentTimeMillis();
 	String searchResponse = null;
 	do {
 	    tapEnv.waitTill(pollInterval);
-	    searchResponse = tapEnv.executeCommandUsingReverseSsh(device, command);
+	    searchResponse = tapEnv.executeCommandUsingReverseSsh(device,
+		    new String[] { logSearch.getSearchCommand(grepCommand) });
 	    LOGGER.info("searchResponse " + searchResponse);
-	    searchResponse = CommonMethods.isNotNull(searchResponse)
-		    && !searchResponse.contains(BroadBandTestConstants.NO_SUCH_FILE_OR_DIRECTORY) ? searchResponse.trim()
-			    : null;
+	    searchResponse = logSearch.update(searchResponse);
 	} while ((System.currentTimeMillis() - startTime) < pollDuration && CommonMethods.isNull(searchResponse));
 	LOGGER.info(
 		"SEARCH RESPONSE FOR - " + searchText + " IN THE LOG FILE - " + logFile + " IS : " + searchResponse);
@@ -222,6 +213,7 @@ public class BroadBandReverseSshUtils {
 	} catch (Exception e) {
 	    LOGGER.error("Failed to reboot the box using the command. Rebooting using 'reboot' power switch");	   
 	} 
+	BroadBandWebPaCache.flush(device);
 	LOGGER.info("Final Reboot Status." + rebootStatus);
 	return rebootStatus;
     }
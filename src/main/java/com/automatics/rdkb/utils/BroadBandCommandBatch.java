@@ -0,0 +1,249 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Utility class which executes a list of commands in a single call to the ATOM or ARM console. Each command is framed
+ * by an echoed start marker and an echoed end marker holding its exit status, so that the output and exit status of
+ * each command are read from the combined response. The markers need no quoting, as the command may be wrapped again
+ * on its way to the ATOM console.
+ */
+public class BroadBandCommandBatch {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandCommandBatch.class);
+
+    /** Prefix of the start and end markers */
+    private static final String MARKER_PREFIX = "@@BATCH:";
+
+    /** Suffix of the start and end markers */
+    private static final String MARKER_SUFFIX = "@@";
+
+    /** Number of batches executed, making the markers of each batch unique */
+    private static final AtomicLong BATCH_COUNT = new AtomicLong();
+
+    /**
+     * Method to execute the commands in the ATOM console in a single call
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param commands
+     *            commands to be executed, in order
+     * @return list of {@link CommandResult}, in the order of the commands
+     */
+    public static List<CommandResult> executeCommandsInAtomConsole(Dut device, AutomaticsTapApi tapEnv,
+	    List<String> commands) {
+	return executeCommands(device, tapEnv, commands, true);
+    }
+
+    /**
+     * Method to execute the commands in the ARM console using SSH in a single call
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param commands
+     *            commands to be executed, in order
+     * @return list of {@link CommandResult}, in the order of the commands
+     */
+    public static List<CommandResult> executeCommandsUsingSsh(Dut device, AutomaticsTapApi tapEnv,
+	    List<String> commands) {
+	return executeCommands(device, tapEnv, commands, false);
+    }
+
+    /**
+     * Method to execute the commands in the ATOM or ARM console in a single call
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param commands
+     *            commands to be executed, in order
+     * @param isAtom
+     *            true to execute in the ATOM console, false in the ARM console
+     * @return list of {@link CommandResult}, in the order of the commands
+     */
+    public static List<CommandResult> executeCommands(Dut device, AutomaticsTapApi tapEnv, List<String> commands,
+	    boolean isAtom) {
+	LOGGER.debug("STARTING METHOD: executeCommands");
+	List<CommandResult> results = new ArrayList<CommandResult>();
+	if (!commands.isEmpty()) {
+	    String batchId = Long.toHexString(System.currentTimeMillis()) + BATCH_COUNT.incrementAndGet();
+	    String batchCommand = getBatchCommand(batchId, commands);
+	    LOGGER.info("EXECUTING " + commands.size() + " COMMANDS IN " + (isAtom ? "ATOM" : "ARM") + " CONSOLE: "
+		    + commands);
+	    String response = isAtom ? tapEnv.executeCommandOnAtom(device, batchCommand)
+		    : tapEnv.executeCommandUsingSsh(device, batchCommand);
+	    results = parseResponse(batchId, commands, response);
+	    LOGGER.info("BATCH RESULTS: " + results);
+	}
+	LOGGER.debug("ENDING METHOD: executeCommands");
+	return results;
+    }
+
+    /**
+     * Method to build the command executing the commands in order, each framed by the start and end markers of the
+     * batch
+     *
+     * @param batchId
+     *            identifier of the batch, made of letters and digits
+     * @param commands
+     *            commands to be executed, in order
+     * @return command to be executed
+     */
+    public static String getBatchCommand(String batchId, List<String> commands) {
+	StringBuilder batchCommand = new StringBuilder();
+	for (int index = 0; index < commands.size(); index++) {
+	    String command = commands.get(index).trim();
+	    while (command.endsWith(";")) {
+		command = command.substring(0, command.length() - 1).trim();
+	    }
+	    batchCommand.append("echo ").append(MARKER_PREFIX).append(batchId).append(':').append(index)
+		    .append(MARKER_SUFFIX).append("; ").append(command).append(command.endsWith("&") ? " " : "; ")
+		    .append("echo ").append(MARKER_PREFIX).append(batchId).append(':').append(index).append(":$?")
+		    .append(MARKER_SUFFIX).append("; ");
+	}
+	return batchCommand.toString().trim();
+    }
+
+    /**
+     * Method to read the output and exit status of each command from the response of the batch command. The start
+     * marker is read only at the start of a line, so that the echo of the batch command itself is skipped; the end
+     * marker may follow output without new line.
+     *
+     * @param batchId
+     *            identifier of the batch
+     * @param commands
+     *            commands of the batch, in order
+     * @param response
+     *            response of the batch command
+     * @return list of {@link CommandResult}, in the order of the commands
+     */
+    public static List<CommandResult> parseResponse(String batchId, List<String> commands, String response) {
+	List<CommandResult> results = new ArrayList<CommandResult>();
+	for (String command : commands) {
+	    results.add(new CommandResult(command));
+	}
+	if (CommonMethods.isNotNull(response)) {
+	    String marker = Pattern.quote(MARKER_PREFIX + batchId + ":");
+	    String suffix = Pattern.quote(MARKER_SUFFIX);
+	    Matcher matcher = Pattern.compile("(?m)^[ \\t]*" + marker + "(\\d+)" + suffix + "[ \\t\\r]*$|" + marker
+		    + "(\\d+):(\\d+)" + suffix).matcher(response);
+	    CommandResult current = null;
+	    int outputStart = 0;
+	    while (matcher.find()) {
+		if (null != matcher.group(1)) {
+		    if (null != current) {
+			current.output = response.substring(outputStart, matcher.start()).trim();
+		    }
+		    int index = Integer.parseInt(matcher.group(1));
+		    current = index < results.size() ? results.get(index) : null;
+		    outputStart = matcher.end();
+		} else if (null != current && current == getResult(results, matcher.group(2))) {
+		    current.output = response.substring(outputStart, matcher.start()).trim();
+		    current.exitStatus = Integer.valueOf(matcher.group(3));
+		    current = null;
+		}
+	    }
+	    if (null != current) {
+		current.output = response.substring(outputStart).trim();
+	    }
+	}
+	return results;
+    }
+
+    /**
+     * Helper method to get the result of the command index read from a marker
+     */
+    private static CommandResult getResult(List<CommandResult> results, String index) {
+	int commandIndex = Integer.parseInt(index);
+	return commandIndex < results.size() ? results.get(commandIndex) : null;
+    }
+
+    /**
+     * Output and exit status of a command of a batch
+     */
+    public static class CommandResult {
+
+	/** Command */
+	private final String command;
+
+	/** Output of the command; null if the command was not started */
+	private String output;
+
+	/** Exit status of the command; null if the command did not complete */
+	private Integer exitStatus;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private CommandResult(String command) {
+	    this.command = command;
+	}
+
+	/**
+	 * @return the command
+	 */
+	public String getCommand() {
+	    return command;
+	}
+
+	/**
+	 * @return the output of the command; null if the command was not started
+	 */
+	public String getOutput() {
+	    return output;
+	}
+
+	/**
+	 * @return the exit status of the command; null if the command did not complete
+	 */
+	public Integer getExitStatus() {
+	    return exitStatus;
+	}
+
+	/**
+	 * @return true if the command completed with exit status 0
+	 */
+	public boolean isSuccess() {
+	    return null != exitStatus && exitStatus == 0;
+	}
+
+	@Override
+	public String toString() {
+	    return command + " (exit status = " + exitStatus + ")";
+	}
+    }
+}
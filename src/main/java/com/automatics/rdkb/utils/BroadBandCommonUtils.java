@@ -79,6 +79,9 @@ import com.automatics.rdkb.utils.cdl.FirmwareDownloadUtils;
 import com.automatics.rdkb.utils.dmcli.DmcliUtils;
 import com.automatics.rdkb.utils.snmp.BroadBandSnmpMib;
 import com.automatics.rdkb.utils.snmp.BroadBandSnmpUtils;
+import com.automatics.rdkb.utils.snmp.BroadBandSnmpWebPaCrossVerification;
+import com.automatics.rdkb.utils.snmp.BroadBandSnmpWebPaCrossVerification.CrossCheck;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 import com.automatics.rdkb.utils.wifi.BroadBandWiFiUtils;
 import com.automatics.rdkb.utils.wifi.connectedclients.BroadBandConnectedClientInfo;
@@ -171,6 +174,8 @@ public class BroadBandCommonUtils {
 	List<WebPaParameter> webPaParameters = new ArrayList<WebPaParameter>();
 	webPaParameters.add(webPaParameter);
 	WebPaServerResponse response = tapEnv.setWebPaParameterValues(device, webPaParameters);
+	// Invalidated after the set, so that a read racing with the set cannot cache the old value
+	BroadBandWebPaCache.invalidate(device, webPaParameter.getName());
 	LOGGER.info("RESPONSE CODE: " + response.getStatusCode());
 	LOGGER.info("RESPONSE MESSAGE: " + response.getMessage());
 	boolean result = response.getStatusCode() == RDKBTestConstants.CONSTANT_200
@@ -204,28 +209,16 @@ public class BroadBandCommonUtils {
     public static String searchLogFiles(AutomaticsTapApi tapEnv, Dut device, String searchText, String logFile,
 	    long pollDuration, long pollInterval) {
 	LOGGER.debug("STARTING METHOD searchLogFiles");
-	StringBuffer sbCommand = new StringBuffer(BroadBandTestConstants.GREP_COMMAND);
-	// In case the search text contains space and not wrapped with double quotes.
-	if (searchText.contains(BroadBandTestConstants.SINGLE_SPACE_CHARACTER)
-		&& !searchText.contains(BroadBandTestConstants.DOUBLE_QUOTE)) {
-	    sbCommand.append(BroadBandTestConstants.DOUBLE_QUOTE);
-	    sbCommand.append(searchText);
-	    sbCommand.append(BroadBandTestConstants.DOUBLE_QUOTE);
-	} else {
-	    sbCommand.append(searchText);
-	}
-	sbCommand.append(BroadBandTestConstants.SINGLE_SPACE_CHARACTER);
-	sbCommand.append(logFile);
-	LOGGER.info("COMMAND TO BE EXECUTED: " + sbCommand.toString());
+	String grepCommand = BroadBandIncrementalLogSearch.getGrepCommand(searchText);
+	LOGGER.info("COMMAND TO BE EXECUTED: " + grepCommand + BroadBandTestConstants.SINGLE_SPACE_CHARACTER + logFile);
+	// Each poll after the first scans only the bytes appended since the previous poll
+	BroadBandIncrementalLogSearch logSearch = new BroadBandIncrementalLogSearch(logFile);
 	long startTime = System.currentTimeMillis();
 	String searchResponse = null;
 	do {
 	    tapEnv.waitTill(pollInterval);
-	    searchResponse = tapEnv.executeCommandUsingSsh(device, sbCommand.toString());
-	    searchResponse = CommonMethods.isNotNull(searchResponse)
-		    && !searchResponse.contains(BroadBandTestConstants.NO_SUCH_FILE_OR_DIRECTORY)
-			    ? searchResponse.trim()
-			    : null;
+	    searchResponse = logSearch
+		    .update(tapEnv.executeCommandUsingSsh(device, logSearch.getSearchCommand(grepCommand)));
 	} while ((System.currentTimeMillis() - startTime) < pollDuration && CommonMethods.isNull(searchResponse));
 
 	LOGGER.info(
@@ -234,6 +227,62 @@ public class BroadBandCommonUtils {
 	return searchResponse;
     }
 
+    /**
+     * Utility method to search for the given text in the lines appended to the given log file since the previous
+     * incremental search or mark of the log file, based on Poll Interval & Poll Duration. Unlike
+     * {@link #searchLogFiles(AutomaticsTapApi, Dut, String, String, long, long)}, lines scanned by an earlier call
+     * are not searched again, which keeps the cost of each poll constant as the log file grows.
+     * 
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param searchText
+     *            String representing the Search Text. It needs to be passed with the required escape character.
+     * @param logFile
+     *            String representing the log file.
+     * @param pollDuration
+     *            Long representing the duration for which polling needs to be performed.
+     * @param pollInterval
+     *            Long representing the polling interval.
+     * 
+     * @return String representing the matched lines; null if not found
+     */
+    public static String searchLogFilesIncrementally(AutomaticsTapApi tapEnv, Dut device, String searchText,
+	    String logFile, long pollDuration, long pollInterval) {
+	LOGGER.debug("STARTING METHOD searchLogFilesIncrementally");
+	String grepCommand = BroadBandIncrementalLogSearch.getGrepCommand(searchText);
+	BroadBandIncrementalLogSearch logSearch = BroadBandIncrementalLogSearch.getInstance(device, logFile);
+	long startTime = System.currentTimeMillis();
+	String searchResponse = null;
+	do {
+	    tapEnv.waitTill(pollInterval);
+	    searchResponse = logSearch
+		    .update(tapEnv.executeCommandUsingSsh(device, logSearch.getSearchCommand(grepCommand)));
+	} while ((System.currentTimeMillis() - startTime) < pollDuration && CommonMethods.isNull(searchResponse));
+	LOGGER.info(
+		"SEARCH RESPONSE FOR - " + searchText + " IN THE LOG FILE - " + logFile + " IS : " + searchResponse);
+	LOGGER.debug("ENDING METHOD searchLogFilesIncrementally");
+	return searchResponse;
+    }
+
+    /**
+     * Utility method to mark the current end of the given log file, so that the next call of
+     * {@link #searchLogFilesIncrementally(AutomaticsTapApi, Dut, String, String, long, long)} searches only the lines
+     * appended after this point. Call before triggering the action whose logs are verified.
+     * 
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param logFile
+     *            String representing the log file.
+     */
+    public static void markLogFiles(AutomaticsTapApi tapEnv, Dut device, String logFile) {
+	BroadBandIncrementalLogSearch logSearch = BroadBandIncrementalLogSearch.getInstance(device, logFile);
+	logSearch.update(tapEnv.executeCommandUsingSsh(device, logSearch.getMarkCommand()));
+    }
+
     /**
      * Helper method to search the log message with polling time
      * 
@@ -365,14 +414,7 @@ public class BroadBandCommonUtils {
     public static String patternFinderMatchPositionBased(String response, String patternToMatch, int matchPosition) {
 
 	LOGGER.debug("STARTING METHOD: patternFinderMatchPositionBased");
-	String matchedString = null;
-	if (CommonMethods.isNotNull(response) && CommonMethods.isNotNull(patternToMatch)) {
-	    Pattern pattern = Pattern.compile(patternToMatch);
-	    Matcher matcher = pattern.matcher(response);
-	    if (matcher.find()) {
-		matchedString = matcher.group(matchPosition);
-	    }
-	}
+	String matchedString = BroadBandPatternRegistry.find(response, patternToMatch, matchPosition);
 	LOGGER.info("PATTERN MATCHED STRING:" + matchedString);
 
 	LOGGER.debug("ENDING METHOD: patternFinderMatchPositionBased");
@@ -426,6 +468,7 @@ public class BroadBandCommonUtils {
      */
     public static boolean performFactoryResetWebPa(AutomaticsTapApi tapEnv, Dut device) {
 	LOGGER.info("ENTERING METHOD performFactoryResetWebPa");
+	BroadBandWebPaCache.flush(device);
 	boolean result = BroadBandWiFiUtils.setWebPaParams(device, WebPaParamConstants.WEBPA_PARAM_FACTORY_RESET,
 		BroadBandTestConstants.STRING_FOR_FACTORY_RESET_OF_THE_DEVICE, BroadBandTestConstants.CONSTANT_0);
 	LOGGER.info("Result is : " + result);
@@ -488,6 +531,31 @@ public class BroadBandCommonUtils {
 	return response;
     }
 
+    /**
+     * Method to execute customized command by polling, either from the test host or as a loop on the device which
+     * needs a single console call for several attempts
+     * 
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param command
+     *            command to be executed
+     * @param maxDuration
+     *            duration for which polling needs to be performed
+     * @param pollingInterval
+     *            polling interval
+     * @param isPolledOnDevice
+     *            true to poll as a loop on the device using {@link BroadBandDevicePolling}
+     * @return response
+     */
+    public static String executeCommandByPolling(Dut device, AutomaticsTapApi tapEnv, String command, long maxDuration,
+	    long pollingInterval, boolean isPolledOnDevice) {
+	return isPolledOnDevice
+		? BroadBandDevicePolling.pollCommand(device, tapEnv, command, maxDuration, pollingInterval, false)
+		: executeCommandByPolling(device, tapEnv, command, maxDuration, pollingInterval);
+    }
+
     /**
      * Helper method to get status of rabid and advsec process
      * 
@@ -533,6 +601,7 @@ public class BroadBandCommonUtils {
      */
     public static boolean performFactoryResetAndWaitForWebPaProcessToUp(AutomaticsTapApi tapEnv, Dut device) {
 	LOGGER.debug("ENTERING METHOD performFactoryResetAndWaitForWebPaProcessToUp");
+	BroadBandWebPaCache.flush(device);
 	boolean result = BroadBandWebPaUtils.setParameterValuesUsingWebPaOrDmcli(device, tapEnv,
 		WebPaParamConstants.WEBPA_PARAM_FACTORY_RESET, BroadBandTestConstants.CONSTANT_0,
 		BroadBandTestConstants.STRING_FOR_FACTORY_RESET_OF_THE_DEVICE);
@@ -663,6 +732,28 @@ public class BroadBandCommonUtils {
 	return response;
     }
 
+    /**
+     * Utility method to search for the given text in the given log file in the ARM and ATOM consoles at the same time,
+     * instead of one console after the other
+     * 
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param searchText
+     *            String representing the Search Text. It needs to be passed with the required escape character.
+     * @param logFile
+     *            String representing the log file.
+     * @param isSearchInAnyConsole
+     *            true to return as soon as the text is found in either console, false to wait for both consoles
+     * 
+     * @return {@link BroadBandDualConsoleSearch.DualConsoleResult} with the response and time taken of each console
+     */
+    public static BroadBandDualConsoleSearch.DualConsoleResult searchLogFilesInArmAndAtomConsole(
+	    AutomaticsTapApi tapEnv, Dut device, String searchText, String logFile, boolean isSearchInAnyConsole) {
+	return BroadBandDualConsoleSearch.searchLogFile(tapEnv, device, searchText, logFile, isSearchInAnyConsole);
+    }
+
     /**
      * Method to obtain the list of matched strings for the specific pattern
      * 
@@ -680,24 +771,10 @@ public class BroadBandCommonUtils {
 	    int patternMatcherGroup) {
 
 	LOGGER.debug("STARTING METHOD: BroadBandCommonUtils.patternFinderForMultipleMatches()");
-	// matched string
-	String matchedString = "";
-	// instance of pattern for match
-	Pattern pattern = null;
-	// Instance of matcher
-	Matcher matcher = null;
 	List<String> matchedStringList = new ArrayList<String>();
 	try {
-
-	    if (CommonMethods.isNotNull(response) && CommonMethods.isNotNull(patternToMatch)) {
-		pattern = Pattern.compile(patternToMatch);
-		matcher = pattern.matcher(response);
-		while (matcher.find()) {
-		    matchedString = matcher.group(patternMatcherGroup);
-		    LOGGER.info("Matching string : " + matchedString);
-		    matchedStringList.add(matchedString.trim());
-		}
-	    }
+	    matchedStringList = BroadBandPatternRegistry.findAll(response, patternToMatch, patternMatcherGroup);
+	    LOGGER.debug("Matching strings : " + matchedStringList);
 	} catch (Exception exception) {
 	    LOGGER.error("Exception occured in patternFinder()", exception);
 	}
@@ -717,24 +794,11 @@ public class BroadBandCommonUtils {
 
 	LOGGER.debug("STARTING METHOD: patternFinder()");
 
-	// matched string
-	String matchedString = "";
-	// instance of pattern for match
-	Pattern pattern = null;
-	// Instance of matcher
-	Matcher matcher = null;
 	List<String> matchedStringList = new ArrayList<String>();
 	try {
-
-	    if (CommonMethods.isNotNull(response) && CommonMethods.isNotNull(patternToMatch)) {
-		pattern = Pattern.compile(patternToMatch);
-		matcher = pattern.matcher(response);
-		while (matcher.find()) {
-		    matchedString = matcher.group(1);
-		    LOGGER.info("Matching string : " + matchedString);
-		    matchedStringList.add(matchedString.trim());
-		}
-	    }
+	    matchedStringList = BroadBandPatternRegistry.findAll(response, patternToMatch,
+		    BroadBandTestConstants.CONSTANT_1);
+	    LOGGER.debug("Matching strings : " + matchedStringList);
 	} catch (Exception exception) {
 	    LOGGER.error("Exception occured in patternFinder()", exception);
 	}
@@ -926,43 +990,24 @@ public class BroadBandCommonUtils {
     public static boolean verifyLogUsingTimeStamp(String dateResponse, String searchResponse) {
 	LOGGER.debug("ENTERING METHOD verifyLogUsingTimeStamp");
 	boolean result = false;
-	SimpleDateFormat logMessageDateTimeFormat = new SimpleDateFormat(
-		BroadBandTestConstants.TIMESTAMP_FORMAT_LOG_MESSAGE);
 	LOGGER.info("dateResponse: " + dateResponse);
 	LOGGER.info("searchResponse: " + searchResponse);
-	// Parse the TimeStamp captured on the device with the required format.
-	Date dtCapturedDateTime = null;
-	try {
-	    dtCapturedDateTime = CommonMethods.isNotNull(dateResponse)
-		    ? logMessageDateTimeFormat.parse(dateResponse.trim())
-		    : null;
-	    LOGGER.info("CAPTURED TIMESTAMP (DATE INSTANCE): " + dtCapturedDateTime);
-	} catch (ParseException parseException) {
-	    LOGGER.error(dateResponse + " COULD NOT BE PARSED: " + parseException.getMessage());
+	// Parse the TimeStamp captured on the device & the TimeStamp at the start of the log message.
+	long capturedDateTime = BroadBandLogTimestampParser.parse(dateResponse);
+	long logMessageDateTime = BroadBandLogTimestampParser.parse(searchResponse);
+	if (capturedDateTime == BroadBandLogTimestampParser.INVALID_TIMESTAMP) {
+	    LOGGER.error(dateResponse + " COULD NOT BE PARSED");
 	}
-
-	// Parse the TimeStamp from the log message after extracting it.
-	String strLogMessageDateTime = CommonMethods.isNotNull(searchResponse)
-		? CommonMethods.patternFinder(searchResponse,
-			BroadBandTestConstants.PATTERN_MATCHER_TIMESTAMP_LOG_MESSAGE)
-		: null;
-	LOGGER.info("LOG FILE TIMESTAMP AFTER EXTRACTING(strLogMessageDateTime): " + strLogMessageDateTime);
-	Date logMessageDateTime = null;
-	try {
-	    logMessageDateTime = CommonMethods.isNotNull(strLogMessageDateTime)
-		    ? logMessageDateTimeFormat.parse(strLogMessageDateTime)
-		    : null;
-	    LOGGER.info("LOG MESSAGE TIMESTAMP (DATE INSTANCE):: " + logMessageDateTime);
-	} catch (ParseException parseException) {
-	    LOGGER.error(strLogMessageDateTime + " COULD NOT BE PARSED: " + parseException.getMessage());
+	if (logMessageDateTime == BroadBandLogTimestampParser.INVALID_TIMESTAMP) {
+	    LOGGER.error("TIMESTAMP OF " + searchResponse + " COULD NOT BE PARSED");
 	}
 
-	// Convert the captured DateTime to MilliSeconds & Compare them.
 	// If the TimeStamp Captured before performing action has a value lower
 	// than the TimeStamp in log message, then
-	// it returns TRUE.
-	result = null != dtCapturedDateTime && null != logMessageDateTime
-		&& dtCapturedDateTime.getTime() < logMessageDateTime.getTime();
+	// it returns TRUE. Both are compared at second precision, as captured.
+	result = capturedDateTime != BroadBandLogTimestampParser.INVALID_TIMESTAMP
+		&& logMessageDateTime != BroadBandLogTimestampParser.INVALID_TIMESTAMP
+		&& capturedDateTime / 1000 < logMessageDateTime / 1000;
 
 	LOGGER.info("LOG VALIDATION (USING TIMESTAMP) RESULT: " + result);
 	LOGGER.debug("ENDING METHOD verifyLogUsingTimeStamp");
@@ -998,6 +1043,31 @@ public class BroadBandCommonUtils {
 	return response;
     }
 
+    /**
+     * Helper method to search text in log file with polling method, either from the test host or as a loop on the
+     * device which needs a single console call for several attempts
+     * 
+     * @param tapEnv
+     *            Instance of {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param command
+     *            search command
+     * @param pollDuration
+     *            maximum poll duration
+     * @param pollInterval
+     *            polling interval
+     * @param isPolledOnDevice
+     *            true to poll as a loop on the device using {@link BroadBandDevicePolling}
+     * @return searchResponse response for search text
+     */
+    public static String searchLogByPolling(AutomaticsTapApi tapEnv, Dut device, String command, long pollDuration,
+	    long pollInterval, boolean isPolledOnDevice) {
+	return isPolledOnDevice
+		? BroadBandDevicePolling.pollCommand(device, tapEnv, command, pollDuration, pollInterval, false, false)
+		: searchLogByPolling(tapEnv, device, command, pollDuration, pollInterval);
+    }
+
     /**
      * Method to verify Ping test for set interval of time .
      * 
@@ -2330,6 +2400,7 @@ public class BroadBandCommonUtils {
      */
     public static boolean rebootAndWaitForStbAccessible(Dut device, AutomaticsTapApi tapEnv) {
 	LOGGER.info("STARTING METHOD: rebootAndWaitForStbAccessible()");
+	BroadBandWebPaCache.flush(device);
 	boolean isStbAccessible = false;
 	String errorMessage = "Failed to perform reboot";
 	tapEnv.executeCommandUsingSsh(device, BroadBandCommandConstants.CMD_TO_REBOOT_DEVICE);
@@ -2395,15 +2466,10 @@ public class BroadBandCommonUtils {
     public static long getGMTEpochTimeFromUTCLogMessage(String logMessage) throws Exception {
 	LOGGER.debug("Entering method: getGMTEpochTimeFromUTCLogMessage");
 	long epochTime = BroadBandTestConstants.CONSTANT_0;
-	String timeStamp = null;
 	if (CommonMethods.isNotNull(logMessage)) {
-	    timeStamp = CommonMethods.patternFinder(logMessage,
-		    BroadBandTestConstants.PATTERN_MATCHER_TIMESTAMP_SPEEDTEST_LOG_MESSAGE);
-	    if (CommonMethods.isNotNull(timeStamp)) {
-		timeStamp = concatStringUsingStringBuffer(timeStamp, BroadBandTestConstants.SINGLE_SPACE_CHARACTER,
-			BroadBandTestConstants.TIMEZONE_UTC);
-		epochTime = new SimpleDateFormat(BroadBandTestConstants.TIMESTAMP_FORMAT_SPEEDTEST_LOG_MESSAGE)
-			.parse(timeStamp).getTime() / BroadBandTestConstants.CONSTANT_1000;
+	    long timeStamp = BroadBandLogTimestampParser.find(logMessage, BroadBandLogTimestampParser.UTC);
+	    if (timeStamp != BroadBandLogTimestampParser.INVALID_TIMESTAMP) {
+		epochTime = timeStamp / BroadBandTestConstants.CONSTANT_1000;
 		LOGGER.info("Epoch time from timestamp in log message: " + epochTime);
 	    }
 	} else {
@@ -2821,41 +2887,11 @@ public class BroadBandCommonUtils {
      */
     public static BroadBandResultObject executeAndCompareValuesFromWebpaAndSnmp(AutomaticsTapApi tapEnv, Dut device,
 	    String tr181Param, BroadBandSnmpMib snmpMib) {
-
-	BroadBandResultObject result = new BroadBandResultObject();
-	boolean status = false;
-	String valueFromWebpa = null;
-	String valueFromSnmp = null;
-	String errorMessage = null;
-
-	try {
-	    errorMessage = "Unable to retrieve value for param '" + tr181Param + "' from WebPA";
-	    valueFromWebpa = tapEnv.executeWebPaCommand(device, tr181Param);
-	    if (CommonMethods.isNotNull(valueFromWebpa)) {
-		errorMessage = "Unable to retrieve value for OID '" + snmpMib.getOid() + "' from SNMP";
-		if (CommonMethods.isNotNull(snmpMib.getTableIndex())) {
-		    valueFromSnmp = BroadBandSnmpUtils.executeSnmpGetWithTableIndexOnRdkDevices(tapEnv, device,
-			    snmpMib.getOid(), snmpMib.getTableIndex());
-		} else {
-		    valueFromSnmp = BroadBandSnmpUtils.executeSnmpGetOnRdkDevices(tapEnv, device, snmpMib.getOid());
-		}
-		if (CommonMethods.isNotNull(valueFromSnmp)) {
-		    status = BroadBandCommonUtils.compareValues(BroadBandTestConstants.CONSTANT_TXT_COMPARISON,
-			    valueFromWebpa, valueFromSnmp);
-		    errorMessage = "Value retrieved from WEBPA and SNMP do not match. Value from WEBPA : "
-			    + valueFromWebpa + "; Value from SNMP : " + valueFromSnmp;
-		}
-	    }
-	} catch (Exception e) {
-	    LOGGER.error("Execption occured while retrieving values from WEBPA/SNMP :" + e.getMessage());
-	    errorMessage = e.getMessage();
-	}
-
-	result.setErrorMessage(errorMessage);
-	result.setStatus(status);
-
-	return result;
-
+	// WebPA and SNMP values are retrieved at the same time
+	return BroadBandSnmpWebPaCrossVerification
+		.verify(tapEnv, device,
+			new CrossCheck(tr181Param, snmpMib, BroadBandSnmpWebPaCrossVerification.TEXT_COMPARATOR))
+		.getResults().get(0).toResultObject();
     }
 
     /**
@@ -2998,6 +3034,27 @@ public class BroadBandCommonUtils {
 	return response;
     }
 
+    /**
+     * Method to execute a list of commands in Atom console in a single call, instead of one call per command
+     * 
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param commands
+     *            commands to execute, in order
+     * @return list of {@link BroadBandCommandBatch.CommandResult} with the output and exit status of each command, in
+     *         the order of the commands
+     */
+    public static List<BroadBandCommandBatch.CommandResult> executeCommandsInAtomConsole(Dut device,
+	    AutomaticsTapApi tapEnv, List<String> commands) {
+	LOGGER.debug("STARTING METHOD: executeCommandsInAtomConsole()");
+	List<BroadBandCommandBatch.CommandResult> results = BroadBandCommandBatch
+		.executeCommandsInAtomConsole(device, tapEnv, commands);
+	LOGGER.debug("ENDING METHOD: executeCommandsInAtomConsole()");
+	return results;
+    }
+
     /**
      * Method to get PID of process from Atom console
      * 
@@ -3051,6 +3108,32 @@ public class BroadBandCommonUtils {
      */
     public static String searchLogFilesInAtomConsoleByPolling(AutomaticsTapApi tapEnv, Dut device, String searchText,
 	    String logFile, long pollDuration, long pollInterval) {
+	return searchLogFilesInAtomConsoleByPolling(tapEnv, device, searchText, logFile, pollDuration, pollInterval,
+		false);
+    }
+
+    /**
+     * Helper method to search text in log file with polling method, either from the test host or as a loop on the
+     * ATOM console which needs a single console call for several attempts
+     * 
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param searchText
+     *            search text message
+     * @param logFile
+     *            log file location
+     * @param pollDuration
+     *            maximum poll duration
+     * @param pollInterval
+     *            polling interval
+     * @param isPolledOnDevice
+     *            true to poll as a loop on the ATOM console using {@link BroadBandDevicePolling}
+     * @return searchResponse response for search text
+     */
+    public static String searchLogFilesInAtomConsoleByPolling(AutomaticsTapApi tapEnv, Dut device, String searchText,
+	    String logFile, long pollDuration, long pollInterval, boolean isPolledOnDevice) {
 	LOGGER.debug("STARTING METHOD searchLogFilesInAtomConsoleByPolling");
 	String command = BroadBandTestConstants.GREP_COMMAND;
 	// In case the search text contains space and not wrapped with double quotes.
@@ -3065,16 +3148,22 @@ public class BroadBandCommonUtils {
 	command = BroadBandCommonUtils.concatStringUsingStringBuffer(command,
 		BroadBandTestConstants.SINGLE_SPACE_CHARACTER, logFile);
 	LOGGER.info("COMMAND TO BE EXECUTED: " + command);
-	long startTime = System.currentTimeMillis();
 	String searchResponse = null;
-	do {
-	    tapEnv.waitTill(pollInterval);
-	    searchResponse = BroadBandCommonUtils.executeCommandInAtomConsole(device, tapEnv, command);
-	    searchResponse = CommonMethods.isNotNull(searchResponse)
-		    && !searchResponse.contains(BroadBandTestConstants.NO_SUCH_FILE_OR_DIRECTORY)
-			    ? searchResponse.trim()
-			    : null;
-	} while ((System.currentTimeMillis() - startTime) < pollDuration && CommonMethods.isNull(searchResponse));
+	if (isPolledOnDevice) {
+	    searchResponse = BroadBandDevicePolling.pollCommand(device, tapEnv, command, pollDuration, pollInterval,
+		    true);
+	} else {
+	    long startTime = System.currentTimeMillis();
+	    do {
+		tapEnv.waitTill(pollInterval);
+		searchResponse = BroadBandCommonUtils.executeCommandInAtomConsole(device, tapEnv, command);
+		searchResponse = CommonMethods.isNotNull(searchResponse)
+			&& !searchResponse.contains(BroadBandTestConstants.NO_SUCH_FILE_OR_DIRECTORY)
+				? searchResponse.trim()
+				: null;
+	    } while ((System.currentTimeMillis() - startTime) < pollDuration
+		    && CommonMethods.isNull(searchResponse));
+	}
 
 	LOGGER.info(
 		"SEARCH RESPONSE FOR - " + searchText + " IN THE LOG FILE - " + logFile + " IS : " + searchResponse);
@@ -3649,27 +3738,22 @@ public class BroadBandCommonUtils {
 		result = missingLogFiles.isEmpty();
 		mustHaveLogFileList.removeAll(missingLogFiles);
 		if (!mustHaveLogFileList.isEmpty()) {
+		    // Tail all the available log files in a single call to the console
+		    List<String> commandsToExecute = new ArrayList<String>();
 		    for (String logFile : mustHaveLogFileList) {
 			pathForBackupFile = BroadBandCommonUtils.concatStringUsingStringBuffer(backUpPath,
 				BroadBandTestConstants.TAG_BACK_UP_FILE, logFile);
 			commandToExecute = command.replace(BroadBandTestConstants.STRING_REPLACE, logFile)
 				.replace(BroadBandTestConstants.REPLACE_BACKUP_FILE, pathForBackupFile);
 			if (!logFilesUpdate.get(logFile)) {
-			    if (consoleType.equals(BroadBandTestConstants.STRING_ATOM_CONSOLE)) {
-				tapEnv.executeCommandOnAtom(device, commandToExecute);
-			    } else if (consoleType.equals(BroadBandTestConstants.ARM)) {
-				tapEnv.executeCommandUsingSsh(device, commandToExecute);
-			    } else {
-				if (isAtomSyncAvailable) {
-				    tapEnv.executeCommandOnAtom(device, commandToExecute);
-				} else {
-				    tapEnv.executeCommandUsingSsh(device, commandToExecute);
-				}
-			    }
+			    commandsToExecute.add(commandToExecute);
 			    logFilesUpdate.put(logFile, true);
 			    mapForLogFileWithPath.put(logFile, pathForBackupFile);
 			}
 		    }
+		    BroadBandCommandBatch.executeCommands(device, tapEnv, commandsToExecute,
+			    consoleType.equals(BroadBandTestConstants.STRING_ATOM_CONSOLE)
+				    || (!consoleType.equals(BroadBandTestConstants.ARM) && isAtomSyncAvailable));
 		}
 		mustHaveLogFileList = new ArrayList<String>(missingLogFiles);
 		LOGGER.info("Successfully verified all the must have log files are present : " + result);
@@ -4004,6 +4088,7 @@ public class BroadBandCommonUtils {
      */
     public static boolean rebootViaWebpaAndWaitForStbAccessible(Dut device, AutomaticsTapApi tapEnv) {
 	LOGGER.info("STARTING METHOD: rebootViaWebpaAndWaitForStbAccessible()");
+	BroadBandWebPaCache.flush(device);
 	boolean isRebootedAndStbAccessible = false;
 	boolean webpaSetSuccessful = false;
 	long startTime = System.currentTimeMillis();
@@ -4789,6 +4874,7 @@ public class BroadBandCommonUtils {
     public static boolean performFactoryResetWebPaByPassingTriggerTime(AutomaticsTapApi tapEnv, Dut device,
 	    long factoryResetTiggerTime) {
 	LOGGER.debug("ENTERING METHOD : performFactoryResetWebPaByPassingTriggerTime");
+	BroadBandWebPaCache.flush(device);
 	// boolean variable to store the status
 	boolean result = false;
 	result = BroadBandWiFiUtils.setWebPaParams(device, WebPaParamConstants.WEBPA_PARAM_FACTORY_RESET,
@@ -5388,27 +5474,22 @@ public class BroadBandCommonUtils {
 		result = missingLogFiles.isEmpty();
 		mustHaveLogFileList.removeAll(missingLogFiles);
 		if (!mustHaveLogFileList.isEmpty()) {
+		    // Tail all the available log files in a single call to the console
+		    List<String> commandsToExecute = new ArrayList<String>();
 		    for (String logFile : mustHaveLogFileList) {
 			pathForBackupFile = BroadBandCommandConstants.PATH_FOR_BACK_UP_FILE
 				.replace(BroadBandTestConstants.STRING_REPLACE, logFile);
 			commandToExecute = command.replace(BroadBandTestConstants.STRING_REPLACE, logFile)
 				.replace(BroadBandTestConstants.REPLACE_BACKUP_FILE, pathForBackupFile);
 			if (!logFilesUpdate.get(logFile)) {
-			    if (consoleType.equals(BroadBandTestConstants.STRING_ATOM_CONSOLE)) {
-				tapEnv.executeCommandOnAtom(device, commandToExecute);
-			    } else if (consoleType.equals(BroadBandTestConstants.ARM)) {
-				tapEnv.executeCommandUsingSsh(device, commandToExecute);
-			    } else {
-				if (isAtomSyncAvailable) {
-				    tapEnv.executeCommandOnAtom(device, commandToExecute);
-				} else {
-				    tapEnv.executeCommandUsingSsh(device, commandToExecute);
-				}
-			    }
+			    commandsToExecute.add(commandToExecute);
 			    logFilesUpdate.put(logFile, true);
 			    mapForLogFileWithPath.put(logFile, pathForBackupFile);
 			}
 		    }
+		    BroadBandCommandBatch.executeCommands(device, tapEnv, commandsToExecute,
+			    consoleType.equals(BroadBandTestConstants.STRING_ATOM_CONSOLE)
+				    || (!consoleType.equals(BroadBandTestConstants.ARM) && isAtomSyncAvailable));
 		}
 		mustHaveLogFileList = missingLogFiles;
 		LOGGER.info("Successfully verified all the must have log files are present : " + result);
@@ -5629,6 +5710,7 @@ public class BroadBandCommonUtils {
 			Dut device) {
 
 		LOGGER.debug("ENTERING METHOD performFactoryResetSnmp");
+		BroadBandWebPaCache.flush(device);
 		// BroadBandSnmpUtils.executeSnmpSetWithTableIndexOnRdkDevices(tapEnv,
 		// device,
 		// BroadBandSnmpMib.ESTB_FACTORY_RESET_DEVICE.getOid(),
@@ -6065,17 +6147,22 @@ public class BroadBandCommonUtils {
 	    String... patternList) {
 	LOGGER.debug("Entering method: searchAtomFileForPatterns");
 	boolean result = false;
-	String command = null;
 	String response = null;
+	List<String> commands = new ArrayList<String>();
 	for (String pattern : patternList) {
-	    command = concatStringUsingStringBuffer(BroadBandTestConstants.GREP_COMMAND,
+	    commands.add(concatStringUsingStringBuffer(BroadBandTestConstants.GREP_COMMAND,
 		    BroadBandTestConstants.SYMBOL_QUOTES, pattern, BroadBandTestConstants.SYMBOL_QUOTES,
-		    BroadBandTestConstants.SINGLE_SPACE_CHARACTER, fileName);
-	    LOGGER.info("Command to be executed: " + command);
-	    response = CommonMethods.executeCommandInAtomConsole(device, tapEnv, command);
+		    BroadBandTestConstants.SINGLE_SPACE_CHARACTER, fileName));
+	}
+	LOGGER.info("Commands to be executed: " + commands);
+	// Search all the patterns in a single call to the atom console
+	List<BroadBandCommandBatch.CommandResult> commandResults = executeCommandsInAtomConsole(device, tapEnv,
+		commands);
+	for (int index = 0; index < patternList.length; index++) {
+	    response = commandResults.get(index).getOutput();
 	    LOGGER.info("Command response: " + response);
-	    result = CommonMethods.isNotNull(response) && CommonMethods.patternMatcher(response, pattern);
-	    LOGGER.info("Search result for " + pattern + ": " + result);
+	    result = CommonMethods.isNotNull(response) && CommonMethods.patternMatcher(response, patternList[index]);
+	    LOGGER.info("Search result for " + patternList[index] + ": " + result);
 	    if (!result) {
 		break;
 	    }
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Utility class which polls a command on the device itself, as a bounded shell loop with its own interval and number
+ * of attempts, so that a whole poll costs a single console call instead of one call per attempt. The loop stops at the
+ * first attempt with output and prints that output after a match marker. As a console call which blocks too long may
+ * be timed out by the framework, each call runs the loop for at most
+ * {@link BroadBandTestConstants#DEVICE_POLLING_MAX_CALL_DURATION_IN_MILLIS} and the loop is started again until the
+ * poll duration is over. The loop needs no shell variables, as the command may be wrapped again on its way to the
+ * ATOM console.
+ */
+public class BroadBandDevicePolling {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandDevicePolling.class);
+
+    /** Prefix of the match marker */
+    private static final String MARKER_PREFIX = "@@POLL:";
+
+    /** Suffix of the match marker */
+    private static final String MARKER_SUFFIX = "@@";
+
+    /** Number of polls executed, making the marker and output file of each poll unique */
+    private static final AtomicLong POLL_COUNT = new AtomicLong();
+
+    /**
+     * Method to poll the command on the device until it gives output other than a missing file error, or the poll
+     * duration is over
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param command
+     *            command to be polled
+     * @param pollDuration
+     *            duration for which polling needs to be performed
+     * @param pollInterval
+     *            polling interval, rounded up to whole seconds on the device
+     * @param isAtom
+     *            true to poll in the ATOM console, false in the ARM console
+     * @return trimmed output of the first attempt with output; null if there is no such attempt
+     */
+    public static String pollCommand(Dut device, AutomaticsTapApi tapEnv, String command, long pollDuration,
+	    long pollInterval, boolean isAtom) {
+	return pollCommand(device, tapEnv, command, pollDuration, pollInterval, isAtom, true);
+    }
+
+    /**
+     * Method to poll the command on the device until it gives output, or the poll duration is over
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param command
+     *            command to be polled
+     * @param pollDuration
+     *            duration for which polling needs to be performed
+     * @param pollInterval
+     *            polling interval, rounded up to whole seconds on the device
+     * @param isAtom
+     *            true to poll in the ATOM console, false in the ARM console
+     * @param isMissingFileIgnored
+     *            true to carry on polling while the output holds
+     *            {@link BroadBandTestConstants#NO_SUCH_FILE_OR_DIRECTORY}
+     * @return trimmed output of the first attempt with output; null if there is no such attempt
+     */
+    public static String pollCommand(Dut device, AutomaticsTapApi tapEnv, String command, long pollDuration,
+	    long pollInterval, boolean isAtom, boolean isMissingFileIgnored) {
+	LOGGER.debug("STARTING METHOD: pollCommand");
+	String pollId = Long.toHexString(System.currentTimeMillis()) + POLL_COUNT.incrementAndGet();
+	long intervalInSeconds = Math.max(BroadBandTestConstants.CONSTANT_1,
+		(pollInterval + BroadBandTestConstants.ONE_SECOND_IN_MILLIS - 1)
+			/ BroadBandTestConstants.ONE_SECOND_IN_MILLIS);
+	LOGGER.info("POLLING IN " + (isAtom ? "ATOM" : "ARM") + " CONSOLE FOR " + pollDuration + " ms, EVERY "
+		+ intervalInSeconds + " s: " + command);
+	String output = null;
+	int calls = 0;
+	long startTime = System.currentTimeMillis();
+	long remainingTime = pollDuration;
+	do {
+	    long callDuration = Math.min(remainingTime,
+		    BroadBandTestConstants.DEVICE_POLLING_MAX_CALL_DURATION_IN_MILLIS);
+	    // Each attempt is followed by a sleep, so that the call blocks for about the number of attempts times the
+	    // interval
+	    int attempts = (int) Math.max(BroadBandTestConstants.CONSTANT_1,
+		    callDuration / (intervalInSeconds * BroadBandTestConstants.ONE_SECOND_IN_MILLIS));
+	    String pollCommand = getPollCommand(pollId, command, attempts, intervalInSeconds, isMissingFileIgnored);
+	    String response = isAtom ? tapEnv.executeCommandOnAtom(device, pollCommand)
+		    : tapEnv.executeCommandUsingSsh(device, pollCommand);
+	    calls++;
+	    output = parseResponse(pollId, response);
+	    remainingTime = pollDuration - (System.currentTimeMillis() - startTime);
+	} while (null == output && remainingTime > 0);
+	LOGGER.info("POLL " + (null != output ? "MATCHED" : "TIMED OUT") + " AFTER " + calls + " CALLS IN "
+		+ (System.currentTimeMillis() - startTime) + " ms: " + output);
+	LOGGER.debug("ENDING METHOD: pollCommand");
+	return output;
+    }
+
+    /**
+     * Method to build the shell loop which executes the command up to the given number of attempts, stopping at the
+     * first attempt with output and printing the match marker followed by that output
+     *
+     * @param pollId
+     *            identifier of the poll, made of letters and digits
+     * @param command
+     *            command to be polled
+     * @param attempts
+     *            maximum number of attempts
+     * @param intervalInSeconds
+     *            seconds to sleep between attempts
+     * @param isMissingFileIgnored
+     *            true to carry on polling while the output holds
+     *            {@link BroadBandTestConstants#NO_SUCH_FILE_OR_DIRECTORY}
+     * @return command to be executed
+     */
+    public static String getPollCommand(String pollId, String command, int attempts, long intervalInSeconds,
+	    boolean isMissingFileIgnored) {
+	String outputFile = BroadBandTestConstants.DEVICE_POLLING_OUTPUT_FILE_PREFIX + pollId;
+	String trimmedCommand = command.trim();
+	while (trimmedCommand.endsWith(";")) {
+	    trimmedCommand = trimmedCommand.substring(0, trimmedCommand.length() - 1).trim();
+	}
+	StringBuilder pollCommand = new StringBuilder("for attempt in");
+	for (int attempt = 1; attempt <= attempts; attempt++) {
+	    pollCommand.append(' ').append(attempt);
+	}
+	pollCommand.append("; do { ").append(trimmedCommand).append("; } > ").append(outputFile).append(" 2>&1; ");
+	pollCommand.append("if [ -s ").append(outputFile).append(" ]; then ");
+	if (isMissingFileIgnored) {
+	    pollCommand.append("grep -q '").append(BroadBandTestConstants.NO_SUCH_FILE_OR_DIRECTORY).append("' ")
+		    .append(outputFile).append(" || ");
+	}
+	pollCommand.append("{ echo ").append(MARKER_PREFIX).append(pollId).append(MARKER_SUFFIX).append("; cat ")
+		.append(outputFile).append("; break; }; fi; sleep ").append(intervalInSeconds).append("; done; rm -f ")
+		.append(outputFile);
+	return pollCommand.toString();
+    }
+
+    /**
+     * Method to read the output of the matching attempt from the response of the poll command. The match marker is
+     * read only as a whole line, so that the echo of the poll command itself is skipped.
+     *
+     * @param pollId
+     *            identifier of the poll
+     * @param response
+     *            response of the poll command
+     * @return trimmed output of the matching attempt; null if no attempt matched
+     */
+    public static String parseResponse(String pollId, String response) {
+	String output = null;
+	if (CommonMethods.isNotNull(response)) {
+	    String marker = MARKER_PREFIX + pollId + MARKER_SUFFIX;
+	    int lineStart = 0;
+	    while (lineStart < response.length() && null == output) {
+		int lineEnd = response.indexOf(BroadBandTestConstants.CHAR_NEW_LINE, lineStart);
+		lineEnd = lineEnd < 0 ? response.length() : lineEnd;
+		if (response.substring(lineStart, lineEnd).trim().equals(marker)) {
+		    output = response.substring(Math.min(lineEnd + 1, response.length())).trim();
+		}
+		lineStart = lineEnd + 1;
+	    }
+	}
+	return output;
+    }
+}
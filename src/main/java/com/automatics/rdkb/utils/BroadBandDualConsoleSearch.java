@@ -0,0 +1,363 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Utility class which searches a log file in the ARM and ATOM consoles at the same time, each console on its own
+ * thread and channel, and merges the responses with the time taken by each console. A search which needs a match in
+ * only one console can return as soon as either console finds it. On devices without ATOM console only the ARM
+ * console is searched.
+ */
+public class BroadBandDualConsoleSearch {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandDualConsoleSearch.class);
+
+    /** Executor of the console searches, shared by all devices */
+    private static final ExecutorService SEARCH_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+
+	private final AtomicInteger threadCount = new AtomicInteger();
+
+	@Override
+	public Thread newThread(Runnable runnable) {
+	    Thread thread = new Thread(runnable, "dual-console-search-" + threadCount.incrementAndGet());
+	    thread.setDaemon(true);
+	    return thread;
+	}
+    });
+
+    /**
+     * Method to search the log file in the ARM and ATOM consoles at the same time, waiting for both consoles
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param searchText
+     *            search text with the required escape characters
+     * @param logFile
+     *            log file
+     * @return {@link DualConsoleResult}
+     */
+    public static DualConsoleResult searchLogFile(AutomaticsTapApi tapEnv, Dut device, String searchText,
+	    String logFile) {
+	return searchLogFile(tapEnv, device, searchText, logFile, false);
+    }
+
+    /**
+     * Method to search the log file in the ARM and ATOM consoles at the same time. Each console is searched as
+     * {@link BroadBandCommonUtils#searchLogFiles(AutomaticsTapApi, Dut, String, String)} and
+     * {@link BroadBandCommonUtils#searchAtomConsoleLogs(AutomaticsTapApi, Dut, String, String)} do. A console which
+     * does not respond within {@link BroadBandTestConstants#DUAL_CONSOLE_SEARCH_TIMEOUT_IN_MILLIS} is left out of the
+     * result.
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param searchText
+     *            search text with the required escape characters
+     * @param logFile
+     *            log file
+     * @param returnOnFirstMatch
+     *            true to return as soon as either console finds the search text, without waiting for the other
+     * @return {@link DualConsoleResult}
+     */
+    public static DualConsoleResult searchLogFile(AutomaticsTapApi tapEnv, Dut device, String searchText,
+	    String logFile, boolean returnOnFirstMatch) {
+	LOGGER.debug("STARTING METHOD: searchLogFile");
+	long startTime = System.currentTimeMillis();
+	boolean isAtomAvailable = CommonMethods.isAtomSyncAvailable(device, tapEnv);
+	DualConsoleResult result = new DualConsoleResult(isAtomAvailable);
+	CompletionService<ConsoleResponse> completionService = new ExecutorCompletionService<ConsoleResponse>(
+		SEARCH_EXECUTOR);
+	List<Future<ConsoleResponse>> futures = new ArrayList<Future<ConsoleResponse>>();
+	futures.add(completionService.submit(new ConsoleSearch(tapEnv, device, searchText, logFile, false)));
+	if (isAtomAvailable) {
+	    futures.add(completionService.submit(new ConsoleSearch(tapEnv, device, searchText, logFile, true)));
+	}
+	long deadline = startTime + BroadBandTestConstants.DUAL_CONSOLE_SEARCH_TIMEOUT_IN_MILLIS;
+	try {
+	    for (int pending = futures.size(); pending > 0; pending--) {
+		Future<ConsoleResponse> future = completionService
+			.poll(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+		if (null == future) {
+		    LOGGER.error("Timed out waiting for the log search in ARM and ATOM consoles");
+		    break;
+		}
+		ConsoleResponse consoleResponse = future.get();
+		result.setResponse(consoleResponse);
+		if (returnOnFirstMatch && CommonMethods.isNotNull(consoleResponse.response)) {
+		    break;
+		}
+	    }
+	} catch (InterruptedException e) {
+	    LOGGER.error("Interrupted while waiting for the log search in ARM and ATOM consoles");
+	    Thread.currentThread().interrupt();
+	} catch (ExecutionException e) {
+	    LOGGER.error("Exception occured during the log search in ARM and ATOM consoles: " + e.getMessage());
+	}
+	for (Future<ConsoleResponse> future : futures) {
+	    future.cancel(true);
+	}
+	result.durationMillis = System.currentTimeMillis() - startTime;
+	LOGGER.info("DUAL CONSOLE SEARCH RESULT FOR - " + searchText + " IN THE LOG FILE - " + logFile + " : "
+		+ result);
+	LOGGER.debug("ENDING METHOD: searchLogFile");
+	return result;
+    }
+
+    /**
+     * Search of the log file in one console
+     */
+    private static class ConsoleSearch implements Callable<ConsoleResponse> {
+
+	/** {@link AutomaticsTapApi} instance */
+	private final AutomaticsTapApi tapEnv;
+
+	/** Device to be searched */
+	private final Dut device;
+
+	/** Search text */
+	private final String searchText;
+
+	/** Log file */
+	private final String logFile;
+
+	/** Whether the ATOM console is searched */
+	private final boolean isAtom;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private ConsoleSearch(AutomaticsTapApi tapEnv, Dut device, String searchText, String logFile, boolean isAtom) {
+	    this.tapEnv = tapEnv;
+	    this.device = device;
+	    this.searchText = searchText;
+	    this.logFile = logFile;
+	    this.isAtom = isAtom;
+	}
+
+	@Override
+	public ConsoleResponse call() {
+	    long startTime = System.currentTimeMillis();
+	    String response = null;
+	    try {
+		response = isAtom ? BroadBandCommonUtils.searchAtomConsoleLogs(tapEnv, device, searchText, logFile)
+			: BroadBandCommonUtils.searchLogFiles(tapEnv, device, searchText, logFile);
+	    } catch (Exception e) {
+		LOGGER.error("Exception occured during the log search in " + (isAtom ? "ATOM" : "ARM") + " console: "
+			+ e.getMessage());
+	    }
+	    return new ConsoleResponse(isAtom, response, System.currentTimeMillis() - startTime);
+	}
+    }
+
+    /**
+     * Response of the search in one console
+     */
+    private static class ConsoleResponse {
+
+	/** Whether the response is from the ATOM console */
+	private final boolean isAtom;
+
+	/** Search response; null if not found */
+	private final String response;
+
+	/** Time taken by the search */
+	private final long durationMillis;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private ConsoleResponse(boolean isAtom, String response, long durationMillis) {
+	    this.isAtom = isAtom;
+	    this.response = response;
+	    this.durationMillis = durationMillis;
+	}
+    }
+
+    /**
+     * Responses of the search in the ARM and ATOM consoles, with the time taken by each console
+     */
+    public static class DualConsoleResult {
+
+	/** Whether the device has ATOM console */
+	private final boolean atomAvailable;
+
+	/** Search response of the ARM console; null if not found */
+	private String armResponse;
+
+	/** Search response of the ATOM console; null if not found */
+	private String atomResponse;
+
+	/** Time taken by the search in the ARM console; -1 if the search did not complete */
+	private long armDurationMillis = -1;
+
+	/** Time taken by the search in the ATOM console; -1 if the search did not complete */
+	private long atomDurationMillis = -1;
+
+	/** Time taken by the dual console search */
+	private long durationMillis;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private DualConsoleResult(boolean atomAvailable) {
+	    this.atomAvailable = atomAvailable;
+	}
+
+	/**
+	 * Helper method to set the response of a console
+	 */
+	private void setResponse(ConsoleResponse consoleResponse) {
+	    if (consoleResponse.isAtom) {
+		atomResponse = consoleResponse.response;
+		atomDurationMillis = consoleResponse.durationMillis;
+	    } else {
+		armResponse = consoleResponse.response;
+		armDurationMillis = consoleResponse.durationMillis;
+	    }
+	}
+
+	/**
+	 * @return true if the device has ATOM console
+	 */
+	public boolean isAtomAvailable() {
+	    return atomAvailable;
+	}
+
+	/**
+	 * @return the search response of the ARM console; null if not found
+	 */
+	public String getArmResponse() {
+	    return armResponse;
+	}
+
+	/**
+	 * @return the search response of the ATOM console; null if not found
+	 */
+	public String getAtomResponse() {
+	    return atomResponse;
+	}
+
+	/**
+	 * @return the search responses of the ARM and ATOM consoles, ARM first; null if not found in either
+	 */
+	public String getResponse() {
+	    String response = null;
+	    if (CommonMethods.isNotNull(armResponse) && CommonMethods.isNotNull(atomResponse)) {
+		response = armResponse + BroadBandTestConstants.CHAR_NEW_LINE + atomResponse;
+	    } else {
+		response = CommonMethods.isNotNull(armResponse) ? armResponse : atomResponse;
+	    }
+	    return response;
+	}
+
+	/**
+	 * @return true if the search in the ARM console completed
+	 */
+	public boolean isArmSearched() {
+	    return armDurationMillis >= 0;
+	}
+
+	/**
+	 * @return true if the search in the ATOM console completed
+	 */
+	public boolean isAtomSearched() {
+	    return atomDurationMillis >= 0;
+	}
+
+	/**
+	 * @return true if the search text is found in the ARM console
+	 */
+	public boolean isFoundInArm() {
+	    return CommonMethods.isNotNull(armResponse);
+	}
+
+	/**
+	 * @return true if the search text is found in the ATOM console
+	 */
+	public boolean isFoundInAtom() {
+	    return CommonMethods.isNotNull(atomResponse);
+	}
+
+	/**
+	 * @return true if the search text is found in either console
+	 */
+	public boolean isFoundInAny() {
+	    return isFoundInArm() || isFoundInAtom();
+	}
+
+	/**
+	 * @return true if the search text is found in the ARM console, and in the ATOM console if the device has one
+	 */
+	public boolean isFoundInAll() {
+	    return isFoundInArm() && (!atomAvailable || isFoundInAtom());
+	}
+
+	/**
+	 * @return the time taken by the search in the ARM console; -1 if the search did not complete
+	 */
+	public long getArmDurationMillis() {
+	    return armDurationMillis;
+	}
+
+	/**
+	 * @return the time taken by the search in the ATOM console; -1 if the search did not complete
+	 */
+	public long getAtomDurationMillis() {
+	    return atomDurationMillis;
+	}
+
+	/**
+	 * @return the time taken by the dual console search
+	 */
+	public long getDurationMillis() {
+	    return durationMillis;
+	}
+
+	@Override
+	public String toString() {
+	    return "ARM (found = " + isFoundInArm() + ", " + armDurationMillis + " ms), ATOM (available = "
+		    + atomAvailable + ", found = " + isFoundInAtom() + ", " + atomDurationMillis + " ms), total "
+		    + durationMillis + " ms";
+	}
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Incremental search of device log files, which remembers the byte offset read and the inode of each file so that
+ * each search scans only the bytes appended since the previous search. A file whose inode changed is treated as
+ * rotated, and the remainder of the rotated file is scanned before the new file; a file which shrank is treated as
+ * truncated and scanned from the start. The log file may be a shell wildcard, in which case each matching file is
+ * tracked separately and each matched line is prefixed with the path of its file and a colon, as grep prints matches
+ * of multiple files.
+ *
+ * <p>
+ * Each search is a single shell command built using {@link #getSearchCommand(String)}, to be executed using the
+ * console of the log file, whose response is passed to {@link #update(String)}.
+ * </p>
+ */
+public class BroadBandIncrementalLogSearch {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandIncrementalLogSearch.class);
+
+    /** Marker of the line reporting the path, inode and size of each scanned file */
+    private static final String LOG_STATE_MARKER = "##LOGSTATE##";
+
+    /** Searches remembered for each device and log file */
+    private static final ConcurrentMap<String, BroadBandIncrementalLogSearch> SEARCHES = new ConcurrentHashMap<String, BroadBandIncrementalLogSearch>();
+
+    /** Log file, or shell wildcard of log files */
+    private final String logFile;
+
+    /** Inode and scanned byte offset of each log file */
+    private final Map<String, long[]> fileStates = new HashMap<String, long[]>();
+
+    /**
+     * Constructor with parameters. Until the first search each log file is scanned from the start.
+     *
+     * @param logFile
+     *            log file, or shell wildcard of log files
+     */
+    public BroadBandIncrementalLogSearch(String logFile) {
+	this.logFile = logFile;
+    }
+
+    /**
+     * Method to get the search of a log file of a device, which is remembered across calls
+     *
+     * @param device
+     *            {@link Dut}
+     * @param logFile
+     *            log file, or shell wildcard of log files
+     * @return {@link BroadBandIncrementalLogSearch}
+     */
+    public static BroadBandIncrementalLogSearch getInstance(Dut device, String logFile) {
+	String key = device.getHostMacAddress() + BroadBandTestConstants.SINGLE_SPACE_CHARACTER + logFile;
+	BroadBandIncrementalLogSearch search = SEARCHES.get(key);
+	if (null == search) {
+	    SEARCHES.putIfAbsent(key, new BroadBandIncrementalLogSearch(logFile));
+	    search = SEARCHES.get(key);
+	}
+	return search;
+    }
+
+    /**
+     * Method to forget the remembered search of a log file of a device, so that the next search scans from the start
+     *
+     * @param device
+     *            {@link Dut}
+     * @param logFile
+     *            log file, or shell wildcard of log files
+     */
+    public static void reset(Dut device, String logFile) {
+	SEARCHES.remove(device.getHostMacAddress() + BroadBandTestConstants.SINGLE_SPACE_CHARACTER + logFile);
+    }
+
+    /**
+     * Method to get the grep command of the search text, wrapping the text in double quotes if it contains space
+     *
+     * @param searchText
+     *            search text with the required escape characters
+     * @return grep command
+     */
+    public static String getGrepCommand(String searchText) {
+	StringBuffer grepCommand = new StringBuffer(BroadBandTestConstants.GREP_COMMAND);
+	if (searchText.contains(BroadBandTestConstants.SINGLE_SPACE_CHARACTER)
+		&& !searchText.contains(BroadBandTestConstants.DOUBLE_QUOTE)) {
+	    grepCommand.append(BroadBandTestConstants.DOUBLE_QUOTE);
+	    grepCommand.append(searchText);
+	    grepCommand.append(BroadBandTestConstants.DOUBLE_QUOTE);
+	} else {
+	    grepCommand.append(searchText);
+	}
+	return grepCommand.toString();
+    }
+
+    /**
+     * Method to get the command which filters the bytes appended since the previous search using the filter command
+     *
+     * @param filterCommand
+     *            command reading from standard input, e.g. {@link #getGrepCommand(String)}
+     * @return command to be executed
+     */
+    public synchronized String getSearchCommand(String filterCommand) {
+	return buildCommand(filterCommand);
+    }
+
+    /**
+     * Method to get the command which only reports the state of the log files. Passing its response to
+     * {@link #update(String)} marks the current end of the files, so that the next search scans only the bytes
+     * appended after this point.
+     *
+     * @return command to be executed
+     */
+    public synchronized String getMarkCommand() {
+	return buildCommand(null);
+    }
+
+    /**
+     * Method to update the offsets from the response of a search or mark command
+     *
+     * @param response
+     *            response of the command
+     * @return lines matched by the filter; null if none
+     */
+    public synchronized String update(String response) {
+	StringBuilder matches = new StringBuilder();
+	if (CommonMethods.isNotNull(response)) {
+	    for (String line : response.split(BroadBandTestConstants.CHAR_NEW_LINE)) {
+		int markerIndex = line.indexOf(LOG_STATE_MARKER);
+		if (markerIndex == 0) {
+		    updateFileState(line.substring(LOG_STATE_MARKER.length()).trim());
+		} else if (markerIndex < 0 && CommonMethods.isNotNull(line)) {
+		    matches.append(line.trim()).append(BroadBandTestConstants.CHAR_NEW_LINE);
+		}
+	    }
+	}
+	String matchedLines = matches.toString().trim();
+	return matchedLines.isEmpty() ? null : matchedLines;
+    }
+
+    /**
+     * @return log file, or shell wildcard of log files
+     */
+    public String getLogFile() {
+	return logFile;
+    }
+
+    /**
+     * Helper method to build the command, which for each log file compares the inode and size with the remembered
+     * state, scans the remainder of a rotated file, reports the new state and filters the appended bytes. The size is
+     * read before the bytes, and only that many bytes are filtered, so bytes appended meanwhile are read by the next
+     * search. For a wildcard log file the filtered lines are prefixed with the path of the file read.
+     */
+    private String buildCommand(String filterCommand) {
+	boolean isWildcard = logFile.matches(".*[*?\\[].*");
+	StringBuilder command = new StringBuilder();
+	command.append("for f in ").append(logFile).append("; do [ -f \"$f\" ] || continue; o=0; i=0; ");
+	if (!fileStates.isEmpty()) {
+	    command.append("case \"$f\" in ");
+	    for (Map.Entry<String, long[]> fileState : fileStates.entrySet()) {
+		command.append("'").append(fileState.getKey()).append("') i=").append(fileState.getValue()[0])
+			.append("; o=").append(fileState.getValue()[1]).append(";; ");
+	    }
+	    command.append("esac; ");
+	}
+	command.append("set -- $(ls -i \"$f\"); s=$(wc -c < \"$f\"); ");
+	command.append("if [ \"$1\" != \"$i\" ]; then ");
+	if (null != filterCommand) {
+	    command.append("if [ \"$i\" != 0 ]; then r=$(ls -i \"${f%/*}\" | awk -v i=$i '$1==i{print $2}'); ")
+		    .append("[ -n \"$r\" ] && tail -c +$((o+1)) \"${f%/*}/$r\" | ").append(filterCommand)
+		    .append(isWildcard ? " | sed \"s|^|${f%/*}/$r:|\"" : "").append("; fi; ");
+	}
+	command.append("o=0; elif [ $s -lt $o ]; then o=0; fi; ");
+	command.append("echo \"").append(LOG_STATE_MARKER).append(" $f $1 $s\"; ");
+	if (null != filterCommand) {
+	    command.append("tail -c +$((o+1)) \"$f\" | head -c $((s-o)) | ").append(filterCommand)
+		    .append(isWildcard ? " | sed \"s|^|$f:|\"" : "").append("; ");
+	}
+	command.append("done");
+	return command.toString();
+    }
+
+    /**
+     * Helper method to update the state of a file from the path, inode and size reported by the command
+     */
+    private void updateFileState(String state) {
+	String[] fields = state.split("\\s+");
+	if (fields.length == 3) {
+	    try {
+		fileStates.put(fields[0], new long[] { Long.parseLong(fields[1]), Long.parseLong(fields[2]) });
+	    } catch (NumberFormatException e) {
+		LOGGER.debug("Ignoring invalid log state: " + state);
+	    }
+	}
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Utility class which searches a log file for several markers at once, using a single grep with one expression per
+ * marker, and reports the first and last matching line of each marker with its timestamp. Markers are matched as
+ * fixed text ignoring case, as with {@link BroadBandCommonUtils#searchLogFiles(AutomaticsTapApi, Dut, String, String)}.
+ */
+public class BroadBandLogMarkerScanner {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandLogMarkerScanner.class);
+
+    /**
+     * Method to search the log file once for all markers using SSH
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param markers
+     *            map of marker name and marker text
+     * @param logFile
+     *            log file, or shell wildcard of log files
+     * @return map of marker name and {@link MarkerMatch}, holding only the markers found
+     */
+    public static Map<String, MarkerMatch> scanLogFile(AutomaticsTapApi tapEnv, Dut device,
+	    Map<String, String> markers, String logFile) {
+	LOGGER.debug("STARTING METHOD: scanLogFile");
+	String command = BroadBandCommonUtils.concatStringUsingStringBuffer(getGrepCommand(markers.values()),
+		BroadBandTestConstants.SINGLE_SPACE_CHARACTER, logFile);
+	LOGGER.info("COMMAND TO BE EXECUTED: " + command);
+	Map<String, MarkerMatch> matches = new LinkedHashMap<String, MarkerMatch>();
+	String response = tapEnv.executeCommandUsingSsh(device, command);
+	if (CommonMethods.isNotNull(response)
+		&& !response.contains(BroadBandTestConstants.NO_SUCH_FILE_OR_DIRECTORY)) {
+	    addMatches(markers, response, matches);
+	}
+	LOGGER.info("MARKERS FOUND IN THE LOG FILE - " + logFile + " : " + matches.keySet());
+	LOGGER.debug("ENDING METHOD: scanLogFile");
+	return matches;
+    }
+
+    /**
+     * Method to search the log file for all markers using SSH, based on Poll Interval & Poll Duration, until every
+     * marker is found. Each poll after the first scans only the lines appended since the previous poll.
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param markers
+     *            map of marker name and marker text
+     * @param logFile
+     *            log file, or shell wildcard of log files
+     * @param pollDuration
+     *            duration for which polling needs to be performed
+     * @param pollInterval
+     *            polling interval
+     * @return map of marker name and {@link MarkerMatch}, holding only the markers found
+     */
+    public static Map<String, MarkerMatch> scanLogFile(AutomaticsTapApi tapEnv, Dut device,
+	    Map<String, String> markers, String logFile, long pollDuration, long pollInterval) {
+	LOGGER.debug("STARTING METHOD: scanLogFile");
+	String grepCommand = getGrepCommand(markers.values());
+	LOGGER.info("COMMAND TO BE EXECUTED: " + grepCommand + BroadBandTestConstants.SINGLE_SPACE_CHARACTER + logFile);
+	BroadBandIncrementalLogSearch logSearch = new BroadBandIncrementalLogSearch(logFile);
+	Map<String, MarkerMatch> matches = new LinkedHashMap<String, MarkerMatch>();
+	long startTime = System.currentTimeMillis();
+	do {
+	    String response = logSearch
+		    .update(tapEnv.executeCommandUsingSsh(device, logSearch.getSearchCommand(grepCommand)));
+	    addMatches(markers, response, matches);
+	} while (matches.size() < markers.size() && (System.currentTimeMillis() - startTime) < pollDuration
+		&& BroadBandCommonUtils.hasWaitForDuration(tapEnv, pollInterval));
+	LOGGER.info("MARKERS FOUND IN THE LOG FILE - " + logFile + " : " + matches.keySet());
+	LOGGER.debug("ENDING METHOD: scanLogFile");
+	return matches;
+    }
+
+    /**
+     * Method to get the grep command which matches any of the marker texts, as fixed text ignoring case
+     *
+     * @param markerTexts
+     *            marker texts
+     * @return grep command, to be followed by the log file
+     */
+    public static String getGrepCommand(Collection<String> markerTexts) {
+	StringBuilder command = new StringBuilder("grep -i -F");
+	for (String markerText : markerTexts) {
+	    command.append(" -e '").append(markerText.replace("'", "'\\''")).append("'");
+	}
+	return command.toString();
+    }
+
+    /**
+     * Method to add the lines of the grep response to the match of each marker they contain
+     *
+     * @param markers
+     *            map of marker name and marker text
+     * @param response
+     *            response of the grep command
+     * @param matches
+     *            map of marker name and {@link MarkerMatch} to be updated
+     */
+    public static void addMatches(Map<String, String> markers, String response,
+	    Map<String, MarkerMatch> matches) {
+	if (CommonMethods.isNotNull(response)) {
+	    Map<String, String> lowerCaseMarkers = new LinkedHashMap<String, String>();
+	    for (Map.Entry<String, String> marker : markers.entrySet()) {
+		lowerCaseMarkers.put(marker.getKey(), marker.getValue().toLowerCase());
+	    }
+	    for (String line : response.split(BroadBandTestConstants.CHAR_NEW_LINE)) {
+		String lowerCaseLine = line.toLowerCase();
+		String timestamp = null;
+		long epochTime = -1;
+		for (Map.Entry<String, String> marker : lowerCaseMarkers.entrySet()) {
+		    if (lowerCaseLine.contains(marker.getValue())) {
+			if (null == timestamp) {
+			    int timestampIndex = BroadBandLogTimestampParser.indexOf(line, 0);
+			    timestamp = timestampIndex < 0 ? BroadBandTestConstants.EMPTY_STRING
+				    : line.substring(timestampIndex,
+					    timestampIndex + BroadBandLogTimestampParser.TIMESTAMP_LENGTH);
+			    epochTime = BroadBandLogTimestampParser.parse(line, timestampIndex,
+				    BroadBandLogTimestampParser.DEFAULT_TIME_ZONE);
+			}
+			MarkerMatch match = matches.get(marker.getKey());
+			if (null == match) {
+			    match = new MarkerMatch(marker.getKey());
+			    matches.put(marker.getKey(), match);
+			}
+			match.add(line.trim(), timestamp, epochTime);
+		    }
+		}
+	    }
+	}
+    }
+
+    /**
+     * First and last line of the log matching a marker
+     */
+    public static class MarkerMatch {
+
+	/** Name of the marker */
+	private final String name;
+
+	/** Number of matching lines */
+	private int count;
+
+	/** First matching line */
+	private String firstLine;
+
+	/** Timestamp of the first matching line */
+	private String firstTimestamp;
+
+	/** Epoch time of the first matching line; -1 if unknown */
+	private long firstEpochTime = -1;
+
+	/** Last matching line */
+	private String lastLine;
+
+	/** Timestamp of the last matching line */
+	private String lastTimestamp;
+
+	/** Epoch time of the last matching line; -1 if unknown */
+	private long lastEpochTime = -1;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private MarkerMatch(String name) {
+	    this.name = name;
+	}
+
+	/**
+	 * Helper method to add a matching line, in log order
+	 */
+	private void add(String line, String timestamp, long epochTime) {
+	    if (count == 0) {
+		firstLine = line;
+		firstTimestamp = timestamp;
+		firstEpochTime = epochTime;
+	    }
+	    lastLine = line;
+	    lastTimestamp = timestamp;
+	    lastEpochTime = epochTime;
+	    count++;
+	}
+
+	/**
+	 * @return the name
+	 */
+	public String getName() {
+	    return name;
+	}
+
+	/**
+	 * @return the count
+	 */
+	public int getCount() {
+	    return count;
+	}
+
+	/**
+	 * @return the firstLine
+	 */
+	public String getFirstLine() {
+	    return firstLine;
+	}
+
+	/**
+	 * @return the firstTimestamp
+	 */
+	public String getFirstTimestamp() {
+	    return firstTimestamp;
+	}
+
+	/**
+	 * @return the firstEpochTime
+	 */
+	public long getFirstEpochTime() {
+	    return firstEpochTime;
+	}
+
+	/**
+	 * @return the lastLine
+	 */
+	public String getLastLine() {
+	    return lastLine;
+	}
+
+	/**
+	 * @return the lastTimestamp
+	 */
+	public String getLastTimestamp() {
+	    return lastTimestamp;
+	}
+
+	/**
+	 * @return the lastEpochTime
+	 */
+	public long getLastEpochTime() {
+	    return lastEpochTime;
+	}
+
+	@Override
+	public String toString() {
+	    return name + " (count = " + count + ", first = " + firstTimestamp + ", last = " + lastTimestamp + ")";
+	}
+    }
+}
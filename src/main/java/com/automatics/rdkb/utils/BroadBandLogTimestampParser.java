@@ -0,0 +1,238 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils;
+
+import java.util.TimeZone;
+
+/**
+ * Parser of the RDK-B log timestamp yyMMdd-HH:mm:ss, optionally followed by a fraction of second as in
+ * 210917-10:25:33.123456, into epoch milliseconds. The timestamp is parsed character by character without creating a
+ * formatter, so the parser is thread safe and allocation free. Two digit years are taken as 20yy.
+ */
+public class BroadBandLogTimestampParser {
+
+    /** Length of the timestamp yyMMdd-HH:mm:ss, without fraction of second */
+    public static final int TIMESTAMP_LENGTH = 15;
+
+    /** Value returned when no valid timestamp is found */
+    public static final long INVALID_TIMESTAMP = -1L;
+
+    /** UTC time zone */
+    public static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    /** Time zone of the JVM when the class was loaded, used by the existing log helpers */
+    public static final TimeZone DEFAULT_TIME_ZONE = TimeZone.getDefault();
+
+    /** Number of days from 0000-03-01 to 1970-01-01 */
+    private static final long DAYS_TO_EPOCH = 719468L;
+
+    /** Days in each month of a non leap year */
+    private static final int[] DAYS_IN_MONTH = { 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
+    /**
+     * Method to parse the timestamp at the start of the text, after any leading white space, in the default time zone
+     *
+     * @param text
+     *            text starting with a log timestamp, e.g. a log line or the output of date +%y%m%d-%H:%M:%S
+     * @return epoch time in milliseconds; {@link #INVALID_TIMESTAMP} if the text does not start with a timestamp
+     */
+    public static long parse(CharSequence text) {
+	return parse(text, DEFAULT_TIME_ZONE);
+    }
+
+    /**
+     * Method to parse the timestamp at the start of the text, after any leading white space
+     *
+     * @param text
+     *            text starting with a log timestamp
+     * @param timeZone
+     *            time zone of the timestamp
+     * @return epoch time in milliseconds; {@link #INVALID_TIMESTAMP} if the text does not start with a timestamp
+     */
+    public static long parse(CharSequence text, TimeZone timeZone) {
+	long epochTime = INVALID_TIMESTAMP;
+	if (null != text) {
+	    int index = 0;
+	    while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+		index++;
+	    }
+	    epochTime = parse(text, index, timeZone);
+	}
+	return epochTime;
+    }
+
+    /**
+     * Method to parse the first timestamp found anywhere in the text
+     *
+     * @param text
+     *            text containing a log timestamp
+     * @param timeZone
+     *            time zone of the timestamp
+     * @return epoch time in milliseconds; {@link #INVALID_TIMESTAMP} if the text has no timestamp
+     */
+    public static long find(CharSequence text, TimeZone timeZone) {
+	int index = indexOf(text, 0);
+	return index < 0 ? INVALID_TIMESTAMP : parse(text, index, timeZone);
+    }
+
+    /**
+     * Method to get the index of the first timestamp in the text, which is not preceded by a digit
+     *
+     * @param text
+     *            text to be searched
+     * @param fromIndex
+     *            index from which to search
+     * @return index of the timestamp; -1 if not found
+     */
+    public static int indexOf(CharSequence text, int fromIndex) {
+	int foundIndex = -1;
+	if (null != text) {
+	    for (int index = Math.max(0, fromIndex); foundIndex < 0
+		    && index + TIMESTAMP_LENGTH <= text.length(); index++) {
+		if ((index == 0 || !isDigit(text.charAt(index - 1))) && isTimestamp(text, index)) {
+		    foundIndex = index;
+		}
+	    }
+	}
+	return foundIndex;
+    }
+
+    /**
+     * Method to parse the timestamp at the given index of the text
+     *
+     * @param text
+     *            text containing a log timestamp
+     * @param index
+     *            index of the timestamp
+     * @param timeZone
+     *            time zone of the timestamp
+     * @return epoch time in milliseconds; {@link #INVALID_TIMESTAMP} if there is no valid timestamp at the index
+     */
+    public static long parse(CharSequence text, int index, TimeZone timeZone) {
+	if (null == text || index < 0 || !isTimestamp(text, index)) {
+	    return INVALID_TIMESTAMP;
+	}
+	int year = 2000 + readTwoDigits(text, index);
+	int month = readTwoDigits(text, index + 2);
+	int day = readTwoDigits(text, index + 4);
+	int hour = readTwoDigits(text, index + 7);
+	int minute = readTwoDigits(text, index + 10);
+	int second = readTwoDigits(text, index + 13);
+	if (month < 1 || month > 12 || day < 1 || day > getDaysInMonth(year, month) || hour > 23 || minute > 59
+		|| second > 59) {
+	    return INVALID_TIMESTAMP;
+	}
+	int millis = 0;
+	int fractionIndex = index + TIMESTAMP_LENGTH;
+	if (fractionIndex < text.length() - 1 && text.charAt(fractionIndex) == '.') {
+	    int scale = 100;
+	    for (int digitIndex = fractionIndex + 1; digitIndex < text.length() && isDigit(text.charAt(digitIndex))
+		    && scale > 0; digitIndex++) {
+		millis += (text.charAt(digitIndex) - '0') * scale;
+		scale /= 10;
+	    }
+	}
+	long localTime = ((getEpochDay(year, month, day) * 24 + hour) * 60 + minute) * 60000L + second * 1000L
+		+ millis;
+	return localTime - getOffset(localTime, timeZone);
+    }
+
+    /**
+     * Method to compare the timestamps at the start of two texts at second precision, as logged
+     *
+     * @param firstText
+     *            text starting with a log timestamp
+     * @param secondText
+     *            text starting with a log timestamp
+     * @return seconds from the first to the second timestamp; null if either has no valid timestamp
+     */
+    public static Long getIntervalInSeconds(CharSequence firstText, CharSequence secondText) {
+	long firstTime = parse(firstText);
+	long secondTime = parse(secondText);
+	return firstTime == INVALID_TIMESTAMP || secondTime == INVALID_TIMESTAMP ? null
+		: secondTime / 1000L - firstTime / 1000L;
+    }
+
+    /**
+     * Helper method to check the characters of a timestamp at the index
+     */
+    private static boolean isTimestamp(CharSequence text, int index) {
+	boolean valid = index + TIMESTAMP_LENGTH <= text.length();
+	for (int position = 0; valid && position < TIMESTAMP_LENGTH; position++) {
+	    char character = text.charAt(index + position);
+	    switch (position) {
+	    case 6:
+		valid = character == '-';
+		break;
+	    case 9:
+	    case 12:
+		valid = character == ':';
+		break;
+	    default:
+		valid = isDigit(character);
+	    }
+	}
+	return valid;
+    }
+
+    /**
+     * Helper method to read two digits
+     */
+    private static int readTwoDigits(CharSequence text, int index) {
+	return (text.charAt(index) - '0') * 10 + (text.charAt(index + 1) - '0');
+    }
+
+    /**
+     * Helper method to check for an ASCII digit
+     */
+    private static boolean isDigit(char character) {
+	return character >= '0' && character <= '9';
+    }
+
+    /**
+     * Helper method to get the number of days in the month
+     */
+    private static int getDaysInMonth(int year, int month) {
+	boolean leapYear = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+	return month == 2 && leapYear ? 29 : DAYS_IN_MONTH[month - 1];
+    }
+
+    /**
+     * Helper method to get the number of days from 1970-01-01 to the date, using the civil calendar algorithm with
+     * years starting in March
+     */
+    private static long getEpochDay(int year, int month, int day) {
+	int marchYear = month <= 2 ? year - 1 : year;
+	int era = marchYear / 400;
+	int yearOfEra = marchYear - era * 400;
+	int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+	int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+	return era * 146097L + dayOfEra - DAYS_TO_EPOCH;
+    }
+
+    /**
+     * Helper method to get the offset of the time zone from UTC at the local time
+     */
+    private static int getOffset(long localTime, TimeZone timeZone) {
+	int offset = timeZone.getRawOffset();
+	if (timeZone.useDaylightTime()) {
+	    offset = timeZone.getOffset(localTime - offset);
+	}
+	return offset;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Registry of compiled patterns keyed by their regular expression, so that the pattern constants of
+ * {@link com.automatics.rdkb.constants.BroadBandTestConstants} and
+ * {@link com.automatics.rdkb.constants.BroadBandTraceConstants} are compiled once. Matchers are reused per thread, and
+ * matches can be streamed to a {@link MatchHandler} without building a list.
+ */
+public class BroadBandPatternRegistry {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandPatternRegistry.class);
+
+    /** Maximum number of cached patterns, bounding the cache when patterns are built at runtime */
+    private static final int MAX_PATTERNS = 2048;
+
+    /** Compiled patterns keyed by regular expression */
+    private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<String, Pattern>();
+
+    /** Matchers of the current thread keyed by pattern */
+    private static final ThreadLocal<Map<Pattern, Matcher>> MATCHERS = new ThreadLocal<Map<Pattern, Matcher>>() {
+
+	@Override
+	protected Map<Pattern, Matcher> initialValue() {
+	    return new HashMap<Pattern, Matcher>();
+	}
+    };
+
+    /**
+     * Handler of the matches streamed by
+     * {@link BroadBandPatternRegistry#forEachMatch(String, String, int, MatchHandler)}
+     */
+    public interface MatchHandler {
+
+	/**
+	 * Method called for each match, in order
+	 *
+	 * @param match
+	 *            matched group
+	 * @return true to continue with the next match, false to stop
+	 */
+	public boolean onMatch(String match);
+    }
+
+    /**
+     * Method to get the compiled pattern of a regular expression
+     *
+     * @param regex
+     *            regular expression
+     * @return compiled {@link Pattern}
+     */
+    public static Pattern getPattern(String regex) {
+	Pattern pattern = PATTERNS.get(regex);
+	if (null == pattern) {
+	    pattern = Pattern.compile(regex);
+	    if (PATTERNS.size() < MAX_PATTERNS) {
+		Pattern existingPattern = PATTERNS.putIfAbsent(regex, pattern);
+		pattern = null == existingPattern ? pattern : existingPattern;
+	    }
+	}
+	return pattern;
+    }
+
+    /**
+     * Method to get the given group of the first match
+     *
+     * @param input
+     *            text to be matched
+     * @param regex
+     *            regular expression
+     * @param group
+     *            group to be returned
+     * @return matched group; null if there is no match
+     */
+    public static String find(String input, String regex, int group) {
+	String match = null;
+	if (CommonMethods.isNotNull(input) && CommonMethods.isNotNull(regex)) {
+	    Matcher matcher = getMatcher(regex, input);
+	    try {
+		if (matcher.find()) {
+		    match = matcher.group(group);
+		}
+	    } finally {
+		release(matcher);
+	    }
+	}
+	return match;
+    }
+
+    /**
+     * Method to stream the given group of each match to the handler, without building a list
+     *
+     * @param input
+     *            text to be matched
+     * @param regex
+     *            regular expression
+     * @param group
+     *            group to be passed to the handler
+     * @param handler
+     *            {@link MatchHandler}
+     * @return number of matches passed to the handler
+     */
+    public static int forEachMatch(String input, String regex, int group, MatchHandler handler) {
+	int count = 0;
+	if (CommonMethods.isNotNull(input) && CommonMethods.isNotNull(regex)) {
+	    Matcher matcher = getMatcher(regex, input);
+	    try {
+		boolean proceed = true;
+		while (proceed && matcher.find()) {
+		    count++;
+		    proceed = handler.onMatch(matcher.group(group));
+		}
+	    } finally {
+		release(matcher);
+	    }
+	}
+	return count;
+    }
+
+    /**
+     * Method to get the given group of each match, trimmed. Matches in which the group did not participate are skipped.
+     *
+     * @param input
+     *            text to be matched
+     * @param regex
+     *            regular expression
+     * @param group
+     *            group to be returned
+     * @return list of matched groups
+     */
+    public static List<String> findAll(String input, String regex, int group) {
+	final List<String> matches = new ArrayList<String>();
+	forEachMatch(input, regex, group, new MatchHandler() {
+
+	    @Override
+	    public boolean onMatch(String match) {
+		if (null != match) {
+		    matches.add(match.trim());
+		}
+		return true;
+	    }
+	});
+	return matches;
+    }
+
+    /**
+     * Helper method to get the reusable matcher of the current thread, reset to the input. A matcher in use further
+     * up the stack, e.g. by a handler matching the same pattern, is not shared.
+     */
+    private static Matcher getMatcher(String regex, String input) {
+	Pattern pattern = getPattern(regex);
+	Matcher matcher = MATCHERS.get().remove(pattern);
+	return null == matcher ? pattern.matcher(input) : matcher.reset(input);
+    }
+
+    /**
+     * Helper method to return the matcher of a cached pattern for reuse, releasing the input
+     */
+    private static void release(Matcher matcher) {
+	Pattern pattern = matcher.pattern();
+	if (PATTERNS.get(pattern.pattern()) == pattern) {
+	    MATCHERS.get().put(pattern, matcher.reset(""));
+	}
+    }
+}
@@ -38,6 +38,7 @@ import com.automatics.rdkb.enums.BroadBandMFPConfigEnum;
 import com.automatics.rdkb.utils.cdl.BroadBandCodeDownloadUtils;
 import com.automatics.rdkb.utils.cdl.BroadBandXconfCdlUtils;
 import com.automatics.rdkb.utils.telemetry.BroadBandTelemetry2Utils;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 import com.automatics.rdkb.utils.wifi.BroadBandWiFiUtils;
 import com.automatics.rdkb.utils.wifi.connectedclients.BroadBandConnectedClientUtils;
@@ -284,6 +285,7 @@ public class BroadBandPostConditionUtils {
 			    .replaceAll(BroadBandTestConstants.TELEMETRY_CONFIG_URL_VALUE, " "))) {
 		errorMessage = "Unable to reboot device successfully";
 		status = CommonMethods.rebootAndWaitForIpAccusition(device, tapEnv);
+		BroadBandWebPaCache.flush(device);
 	    }
 
 	    if (status) {
@@ -1608,6 +1610,7 @@ public class BroadBandPostConditionUtils {
 	errorMessage = "FAILED TO REBOOT THE DEVICE AND WAIT FOR IP ACCUSITION";
 	try {
 	    status = CommonMethods.rebootAndWaitForIpAccusition(device, tapEnv);
+	    BroadBandWebPaCache.flush(device);
 	} catch (Exception e) {
 	    LOGGER.info("Exception caught rebooting the device" + e.getMessage());
 	}
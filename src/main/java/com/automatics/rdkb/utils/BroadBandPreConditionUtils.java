@@ -49,6 +49,7 @@ import com.automatics.webpa.WebPaParameter;
 import com.automatics.rdkb.utils.cdl.FirmwareDownloadUtils;
 import com.automatics.rdkb.utils.snmp.BroadBandSnmpUtils;
 import com.automatics.rdkb.utils.telemetry.BroadBandTelemetry2Utils;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 import com.automatics.rdkb.utils.wifi.BroadBandWiFiUtils;
 import com.automatics.rdkb.utils.wifi.BroadBandWifiWhixUtils;
@@ -1265,6 +1266,7 @@ public class BroadBandPreConditionUtils {
 				isTelemetryVerOneUpdated = true;
 				status = CommonMethods.rebootAndWaitForIpAccusition(device, tapEnv)
 						&& BroadBandTelemetry2Utils.verifyTelemetry2ConfigurationViaWebpa(device, tapEnv);
+				BroadBandWebPaCache.flush(device);
 			}
 		} else {
 			LOGGER.info("The device is already configured for Telemetry 2");
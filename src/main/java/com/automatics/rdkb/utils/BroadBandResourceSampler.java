@@ -0,0 +1,411 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Sampler of the CPU and memory utilisation of the ARM console. A single background process started on the device
+ * reads /proc/stat and /proc/meminfo at the sampling interval, using shell built-ins, and appends one line per sample
+ * to {@link BroadBandTestConstants#RESOURCE_SAMPLER_OUTPUT_FILE}. Each {@link #collect(AutomaticsTapApi, Dut)} pulls
+ * only the samples appended since the previous collection, using {@link BroadBandIncrementalLogSearch}, into ring
+ * buffers of the most recent samples, from which the mean, 95th percentile, maximum and trend are reported.
+ */
+public class BroadBandResourceSampler {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandResourceSampler.class);
+
+    /** Prefix of each sample line */
+    private static final String SAMPLE_PREFIX = "S";
+
+    /** Pattern of the PID of the background process, echoed when started */
+    private static final String PATTERN_SAMPLER_PID = "SAMPLER_PID=(\\d+)";
+
+    /** Number of fields of each sample line */
+    private static final int SAMPLE_FIELD_COUNT = 11;
+
+    /** Samplers of each device */
+    private static final ConcurrentMap<String, BroadBandResourceSampler> SAMPLERS = new ConcurrentHashMap<String, BroadBandResourceSampler>();
+
+    /**
+     * Metrics reported by the sampler
+     */
+    public enum Metric {
+	/** Percentage of CPU time not idle or waiting for IO */
+	CPU_USAGE,
+	/** Percentage of CPU time in user mode, as reported by top */
+	CPU_USER,
+	/** Memory in use in KB, total less free, as reported by top */
+	MEMORY_USED,
+	/** Percentage of memory in use */
+	MEMORY_USAGE;
+    }
+
+    /** Ring buffers of the samples of each metric */
+    private final SampleBuffer[] buffers = new SampleBuffer[Metric.values().length];
+
+    /** Incremental read of the sample file */
+    private BroadBandIncrementalLogSearch sampleFile = new BroadBandIncrementalLogSearch(
+	    BroadBandTestConstants.RESOURCE_SAMPLER_OUTPUT_FILE);
+
+    /** CPU time counters of /proc/stat of the previous sample; null before the first sample */
+    private long[] previousCpuTimes;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param capacity
+     *            number of most recent samples kept for each metric
+     */
+    public BroadBandResourceSampler(int capacity) {
+	for (int index = 0; index < buffers.length; index++) {
+	    buffers[index] = new SampleBuffer(capacity);
+	}
+    }
+
+    /**
+     * Method to get the sampler of a device, which is remembered across calls
+     *
+     * @param device
+     *            {@link Dut}
+     * @return {@link BroadBandResourceSampler}
+     */
+    public static BroadBandResourceSampler getInstance(Dut device) {
+	String key = device.getHostMacAddress();
+	BroadBandResourceSampler sampler = SAMPLERS.get(key);
+	if (null == sampler) {
+	    SAMPLERS.putIfAbsent(key,
+		    new BroadBandResourceSampler(BroadBandTestConstants.RESOURCE_SAMPLER_DEFAULT_CAPACITY));
+	    sampler = SAMPLERS.get(key);
+	}
+	return sampler;
+    }
+
+    /**
+     * Method to start sampling on the device, discarding the samples collected earlier. A sampler left running on the
+     * device is replaced, and the new one stops by itself after the maximum duration.
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param intervalInSeconds
+     *            sampling interval in seconds
+     * @param maxDuration
+     *            maximum duration of sampling in milliseconds
+     * @return true if the sampler is started
+     */
+    public synchronized boolean start(AutomaticsTapApi tapEnv, Dut device, int intervalInSeconds,
+	    long maxDuration) {
+	LOGGER.debug("STARTING METHOD: start");
+	int interval = Math.max(1, intervalInSeconds);
+	long sampleCount = maxDuration / (interval * BroadBandTestConstants.ONE_SECOND_IN_MILLIS) + 1;
+	for (SampleBuffer buffer : buffers) {
+	    buffer.clear();
+	}
+	previousCpuTimes = null;
+	String outputFile = BroadBandTestConstants.RESOURCE_SAMPLER_OUTPUT_FILE;
+	String pidFile = BroadBandTestConstants.RESOURCE_SAMPLER_PID_FILE;
+	StringBuilder command = new StringBuilder();
+	command.append("kill $(cat ").append(pidFile).append(") 2>/dev/null; rm -f ").append(outputFile)
+		.append("; echo > ").append(pidFile).append("; ");
+	command.append("nohup sh -c 'n=").append(sampleCount).append("; while [ $n -gt 0 ] && [ -f ").append(pidFile)
+		.append(" ]; do read c u k s i w q x r < /proc/stat; t=0; f=0; ")
+		.append("while read m v r; do case $m in MemTotal:) t=$v;; MemFree:) f=$v;; esac; done < /proc/meminfo; ")
+		.append("echo \"").append(SAMPLE_PREFIX).append(" $(date +%s) $u $k $s $i $w $q $x $t $f\"; ")
+		.append("n=$((n-1)); sleep ").append(interval).append("; done' > ").append(outputFile)
+		.append(" 2>/dev/null & echo $! > ").append(pidFile).append("; echo SAMPLER_PID=$!");
+	String response = tapEnv.executeCommandUsingSsh(device, command.toString());
+	String pid = BroadBandPatternRegistry.find(response, PATTERN_SAMPLER_PID, 1);
+	sampleFile = new BroadBandIncrementalLogSearch(outputFile);
+	LOGGER.info("Resource sampler started with interval of " + interval + " seconds, PID: " + pid);
+	LOGGER.debug("ENDING METHOD: start");
+	return CommonMethods.isNotNull(pid);
+    }
+
+    /**
+     * Method to pull the samples appended on the device since the previous collection into the ring buffers
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @return number of samples collected
+     */
+    public synchronized int collect(AutomaticsTapApi tapEnv, Dut device) {
+	LOGGER.debug("STARTING METHOD: collect");
+	int count = 0;
+	String samples = sampleFile.update(tapEnv.executeCommandUsingSsh(device, sampleFile.getSearchCommand("cat")));
+	if (CommonMethods.isNotNull(samples)) {
+	    for (String line : samples.split(BroadBandTestConstants.CHAR_NEW_LINE)) {
+		if (addSample(line.trim())) {
+		    count++;
+		}
+	    }
+	}
+	LOGGER.info("Collected " + count + " resource samples");
+	LOGGER.debug("ENDING METHOD: collect");
+	return count;
+    }
+
+    /**
+     * Method to collect the remaining samples and stop sampling on the device. The collected samples are kept.
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     */
+    public synchronized void stop(AutomaticsTapApi tapEnv, Dut device) {
+	collect(tapEnv, device);
+	tapEnv.executeCommandUsingSsh(device,
+		"kill $(cat " + BroadBandTestConstants.RESOURCE_SAMPLER_PID_FILE + ") 2>/dev/null; rm -f "
+			+ BroadBandTestConstants.RESOURCE_SAMPLER_PID_FILE + BroadBandTestConstants.SINGLE_SPACE_CHARACTER
+			+ BroadBandTestConstants.RESOURCE_SAMPLER_OUTPUT_FILE);
+	LOGGER.info("Resource sampler stopped, CPU usage: " + getStatistics(Metric.CPU_USAGE) + ", memory usage: "
+		+ getStatistics(Metric.MEMORY_USAGE));
+    }
+
+    /**
+     * Method to get the statistics of the samples of a metric kept in the ring buffer
+     *
+     * @param metric
+     *            {@link Metric}
+     * @return {@link Statistics}
+     */
+    public synchronized Statistics getStatistics(Metric metric) {
+	return buffers[metric.ordinal()].getStatistics();
+    }
+
+    /**
+     * Method to add a sample line of the device to the ring buffers. CPU utilisation is calculated from the CPU time
+     * counters of two consecutive samples, so the first sample holds only memory utilisation.
+     *
+     * @param line
+     *            sample line
+     * @return true if the line is a valid sample
+     */
+    public synchronized boolean addSample(String line) {
+	String[] fields = line.split("\\s+");
+	if (fields.length != SAMPLE_FIELD_COUNT || !SAMPLE_PREFIX.equals(fields[0])) {
+	    return false;
+	}
+	long[] values = new long[SAMPLE_FIELD_COUNT - 1];
+	try {
+	    for (int index = 0; index < values.length; index++) {
+		values[index] = Long.parseLong(fields[index + 1]);
+	    }
+	} catch (NumberFormatException e) {
+	    LOGGER.debug("Ignoring invalid resource sample: " + line);
+	    return false;
+	}
+	long time = values[0] * BroadBandTestConstants.ONE_SECOND_IN_MILLIS;
+	long[] cpuTimes = Arrays.copyOfRange(values, 1, 8);
+	if (null != previousCpuTimes) {
+	    long total = 0;
+	    for (int index = 0; index < cpuTimes.length; index++) {
+		total += cpuTimes[index] - previousCpuTimes[index];
+	    }
+	    // idle and iowait are the fourth and fifth counters
+	    long idle = cpuTimes[3] - previousCpuTimes[3] + cpuTimes[4] - previousCpuTimes[4];
+	    if (total > 0) {
+		buffers[Metric.CPU_USAGE.ordinal()].add(time, (total - idle) * 100.0 / total);
+		buffers[Metric.CPU_USER.ordinal()].add(time, (cpuTimes[0] - previousCpuTimes[0]) * 100.0 / total);
+	    }
+	}
+	previousCpuTimes = cpuTimes;
+	long memoryTotal = values[8];
+	long memoryUsed = memoryTotal - values[9];
+	if (memoryTotal > 0) {
+	    buffers[Metric.MEMORY_USED.ordinal()].add(time, memoryUsed);
+	    buffers[Metric.MEMORY_USAGE.ordinal()].add(time, memoryUsed * 100.0 / memoryTotal);
+	}
+	return true;
+    }
+
+    /**
+     * Ring buffer of the most recent samples of a metric, in primitive arrays
+     */
+    private static class SampleBuffer {
+
+	/** Sample times in milliseconds */
+	private final long[] times;
+
+	/** Sample values */
+	private final double[] values;
+
+	/** Index at which the next sample is written */
+	private int next;
+
+	/** Number of samples held */
+	private int count;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private SampleBuffer(int capacity) {
+	    times = new long[capacity];
+	    values = new double[capacity];
+	}
+
+	/**
+	 * Helper method to add a sample, overwriting the oldest sample when full
+	 */
+	private void add(long time, double value) {
+	    times[next] = time;
+	    values[next] = value;
+	    next = (next + 1) % values.length;
+	    count = Math.min(count + 1, values.length);
+	}
+
+	/**
+	 * Helper method to discard all samples
+	 */
+	private void clear() {
+	    next = 0;
+	    count = 0;
+	}
+
+	/**
+	 * Helper method to calculate the statistics of the samples held; the trend is the least squares slope
+	 */
+	private Statistics getStatistics() {
+	    Statistics statistics = new Statistics(count);
+	    if (count > 0) {
+		int first = (next - count + values.length) % values.length;
+		double[] sortedValues = new double[count];
+		double sum = 0;
+		double timeSum = 0;
+		for (int sample = 0; sample < count; sample++) {
+		    int index = (first + sample) % values.length;
+		    sortedValues[sample] = values[index];
+		    sum += values[index];
+		    timeSum += times[index] - times[first];
+		}
+		double meanTime = timeSum / count;
+		statistics.mean = sum / count;
+		double covariance = 0;
+		double variance = 0;
+		for (int sample = 0; sample < count; sample++) {
+		    int index = (first + sample) % values.length;
+		    double timeDeviation = times[index] - times[first] - meanTime;
+		    covariance += timeDeviation * (values[index] - statistics.mean);
+		    variance += timeDeviation * timeDeviation;
+		}
+		statistics.trendPerMinute = variance > 0
+			? covariance / variance * BroadBandTestConstants.ONE_MINUTE_IN_MILLIS
+			: 0;
+		Arrays.sort(sortedValues);
+		statistics.min = sortedValues[0];
+		statistics.max = sortedValues[count - 1];
+		statistics.percentile95 = sortedValues[Math.max(0, (int) Math.ceil(count * 0.95) - 1)];
+	    }
+	    return statistics;
+	}
+    }
+
+    /**
+     * Statistics of the samples of a metric
+     */
+    public static class Statistics {
+
+	/** Number of samples */
+	private final int count;
+
+	/** Mean */
+	private double mean;
+
+	/** Minimum */
+	private double min;
+
+	/** 95th percentile, nearest rank */
+	private double percentile95;
+
+	/** Maximum */
+	private double max;
+
+	/** Change per minute, by least squares fit over the sample times */
+	private double trendPerMinute;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private Statistics(int count) {
+	    this.count = count;
+	}
+
+	/**
+	 * @return the number of samples
+	 */
+	public int getCount() {
+	    return count;
+	}
+
+	/**
+	 * @return the mean; 0 if there are no samples
+	 */
+	public double getMean() {
+	    return mean;
+	}
+
+	/**
+	 * @return the minimum; 0 if there are no samples
+	 */
+	public double getMin() {
+	    return min;
+	}
+
+	/**
+	 * @return the 95th percentile; 0 if there are no samples
+	 */
+	public double getPercentile95() {
+	    return percentile95;
+	}
+
+	/**
+	 * @return the maximum; 0 if there are no samples
+	 */
+	public double getMax() {
+	    return max;
+	}
+
+	/**
+	 * @return the change per minute; 0 if there are fewer than two samples
+	 */
+	public double getTrendPerMinute() {
+	    return trendPerMinute;
+	}
+
+	@Override
+	public String toString() {
+	    return String.format("count = %d, mean = %.2f, min = %.2f, p95 = %.2f, max = %.2f, trend = %.2f/min",
+		    count, mean, min, percentile95, max, trendPerMinute);
+	}
+    }
+}
@@ -37,6 +37,7 @@ import com.automatics.rdkb.constants.RDKBTestConstants;
 import com.automatics.rdkb.reversessh.BroadBandReverseSshUtils;
 import com.automatics.rdkb.utils.CommonUtils;
 import com.automatics.rdkb.utils.ntp.NTPServerUtils;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 import com.automatics.tap.AutomaticsTapApi;
 import com.automatics.utils.CommonMethods;
@@ -1119,6 +1120,7 @@ public class BroadBandRfcFeatureControlUtils {
 						: broadBandReverseSshUtilsObject.rebootWithoutWaitAndGetTheRebootStatusUsingReverseSsh(tapEnv,
 								device))
 						&& BroadBandWebPaUtils.verifyWebPaProcessIsUp(tapEnv, device, true);
+				BroadBandWebPaCache.flush(device);
 				LOGGER.info("Forward ssh " + (enableOrDisableFlag ? "Disabled " : "Enabled ") + "Successfully");
 				if (status) {
 					if (enableOrDisableFlag) {
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.providers.connection.SshConnection;
+import com.automatics.rdkb.constants.BroadBandPropertyKeyConstants;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.utils.AutomaticsPropertyUtility;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Pool of SSH sessions keyed by user name and host. A session is leased to one caller at a time using
+ * {@link ServerUtils#getPooledSshConnection(String, String)} and returned using
+ * {@link ServerUtils#releaseSshConnection(SshConnection)}. Idle sessions are kept alive by periodic liveness checks
+ * and disconnected once idle longer than the idle timeout. Handshake and retry wait times of
+ * {@link ServerUtils#getSshConnection(String, String)} are recorded as metrics.
+ */
+public class BroadBandSshSessionPool {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandSshSessionPool.class);
+
+    /** Idle sessions of each user and host, most recently used first */
+    private static final ConcurrentMap<String, ConcurrentLinkedDeque<PooledSession>> IDLE_SESSIONS = new ConcurrentHashMap<String, ConcurrentLinkedDeque<PooledSession>>();
+
+    /** Pool key of each leased session */
+    private static final Map<SshConnection, String> LEASED_SESSIONS = Collections
+	    .synchronizedMap(new IdentityHashMap<SshConnection, String>());
+
+    /** Time after which an idle session is disconnected */
+    private static final long IDLE_TIMEOUT = getLongProperty(BroadBandPropertyKeyConstants.PROP_KEY_SSH_POOL_IDLE_TIMEOUT,
+	    BroadBandTestConstants.SSH_POOL_DEFAULT_IDLE_TIMEOUT_IN_MILLIS);
+
+    /** Interval at which idle sessions are checked for liveness */
+    private static final long HEALTH_CHECK_INTERVAL = getLongProperty(
+	    BroadBandPropertyKeyConstants.PROP_KEY_SSH_POOL_HEALTH_CHECK_INTERVAL,
+	    BroadBandTestConstants.SSH_POOL_DEFAULT_HEALTH_CHECK_INTERVAL_IN_MILLIS);
+
+    /** Maximum number of idle sessions of each user and host */
+    private static final int MAX_IDLE_SESSIONS = (int) getLongProperty(
+	    BroadBandPropertyKeyConstants.PROP_KEY_SSH_POOL_MAX_IDLE_SESSIONS,
+	    BroadBandTestConstants.SSH_POOL_DEFAULT_MAX_IDLE_SESSIONS);
+
+    /** Timeout of the liveness check command */
+    private static final int HEALTH_CHECK_TIMEOUT = (int) BroadBandTestConstants.TWO_SECOND_IN_MILLIS;
+
+    /** Number of SSH handshakes */
+    private static final AtomicLong HANDSHAKE_COUNT = new AtomicLong();
+
+    /** Number of failed SSH handshakes */
+    private static final AtomicLong HANDSHAKE_FAILURE_COUNT = new AtomicLong();
+
+    /** Total time spent in SSH handshakes */
+    private static final AtomicLong HANDSHAKE_MILLIS = new AtomicLong();
+
+    /** Longest SSH handshake */
+    private static final AtomicLong MAX_HANDSHAKE_MILLIS = new AtomicLong();
+
+    /** Total time waited before retrying failed SSH handshakes */
+    private static final AtomicLong RETRY_WAIT_MILLIS = new AtomicLong();
+
+    /** Number of leases served by an idle session */
+    private static final AtomicLong REUSE_COUNT = new AtomicLong();
+
+    /** Number of idle sessions which failed the liveness check */
+    private static final AtomicLong HEALTH_CHECK_FAILURE_COUNT = new AtomicLong();
+
+    /** Number of idle sessions disconnected after the idle timeout */
+    private static final AtomicLong EVICTED_COUNT = new AtomicLong();
+
+    /** Scheduler of the idle session maintenance */
+    private static final ScheduledExecutorService MAINTENANCE_SCHEDULER = Executors
+	    .newSingleThreadScheduledExecutor(new ThreadFactory() {
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+		    Thread thread = new Thread(runnable, "ssh-session-pool");
+		    thread.setDaemon(true);
+		    return thread;
+		}
+	    });
+
+    static {
+	MAINTENANCE_SCHEDULER.scheduleWithFixedDelay(new Runnable() {
+
+	    @Override
+	    public void run() {
+		maintainIdleSessions();
+	    }
+	}, HEALTH_CHECK_INTERVAL, HEALTH_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Method to lease an idle session of the user and host. Sessions idle longer than the health check interval are
+     * checked for liveness before they are leased.
+     *
+     * @param userName
+     *            SSH user name; null for the default user name
+     * @param hostIp
+     *            host of the session
+     * @return leased {@link SshConnection}; null if no live idle session is available
+     */
+    public static SshConnection borrow(String userName, String hostIp) {
+	String key = getKey(userName, hostIp);
+	ConcurrentLinkedDeque<PooledSession> sessions = IDLE_SESSIONS.get(key);
+	SshConnection connection = null;
+	PooledSession session = null;
+	while (null == connection && null != sessions && null != (session = sessions.pollFirst())) {
+	    long idleTime = System.currentTimeMillis() - session.lastUsedTime;
+	    if (idleTime > IDLE_TIMEOUT) {
+		EVICTED_COUNT.incrementAndGet();
+		disconnect(session.connection);
+	    } else if (idleTime > HEALTH_CHECK_INTERVAL && !isAlive(session.connection)) {
+		HEALTH_CHECK_FAILURE_COUNT.incrementAndGet();
+		disconnect(session.connection);
+	    } else {
+		connection = session.connection;
+	    }
+	}
+	if (null != connection) {
+	    REUSE_COUNT.incrementAndGet();
+	    LEASED_SESSIONS.put(connection, key);
+	    LOGGER.debug("Reusing pooled SSH session of " + key);
+	}
+	return connection;
+    }
+
+    /**
+     * Method to lease a newly established session of the user and host, which is pooled once released
+     *
+     * @param userName
+     *            SSH user name; null for the default user name
+     * @param hostIp
+     *            host of the session
+     * @param connection
+     *            {@link SshConnection}
+     */
+    public static void lease(String userName, String hostIp, SshConnection connection) {
+	LEASED_SESSIONS.put(connection, getKey(userName, hostIp));
+    }
+
+    /**
+     * Method to return a leased session to the pool. Sessions which were not leased from the pool, or which exceed the
+     * maximum number of idle sessions, are disconnected.
+     *
+     * @param connection
+     *            {@link SshConnection}
+     */
+    public static void release(SshConnection connection) {
+	if (null != connection) {
+	    String key = LEASED_SESSIONS.remove(connection);
+	    if (null == key) {
+		disconnect(connection);
+	    } else {
+		ConcurrentLinkedDeque<PooledSession> sessions = IDLE_SESSIONS.get(key);
+		if (null == sessions) {
+		    IDLE_SESSIONS.putIfAbsent(key, new ConcurrentLinkedDeque<PooledSession>());
+		    sessions = IDLE_SESSIONS.get(key);
+		}
+		if (sessions.size() < MAX_IDLE_SESSIONS) {
+		    sessions.offerFirst(new PooledSession(connection));
+		} else {
+		    disconnect(connection);
+		}
+	    }
+	}
+    }
+
+    /**
+     * Method to remove a leased session from the pool, when it is disconnected by the caller
+     *
+     * @param connection
+     *            {@link SshConnection}
+     */
+    public static void discard(SshConnection connection) {
+	if (null != connection) {
+	    LEASED_SESSIONS.remove(connection);
+	}
+    }
+
+    /**
+     * Method to disconnect all idle sessions
+     */
+    public static void closeIdleSessions() {
+	for (ConcurrentLinkedDeque<PooledSession> sessions : IDLE_SESSIONS.values()) {
+	    PooledSession session = null;
+	    while (null != (session = sessions.pollFirst())) {
+		disconnect(session.connection);
+	    }
+	}
+    }
+
+    /**
+     * Method to record an SSH handshake
+     *
+     * @param handshakeTime
+     *            time taken by the handshake in milliseconds
+     * @param success
+     *            true if the session was established
+     */
+    public static void recordHandshake(long handshakeTime, boolean success) {
+	HANDSHAKE_COUNT.incrementAndGet();
+	if (!success) {
+	    HANDSHAKE_FAILURE_COUNT.incrementAndGet();
+	}
+	HANDSHAKE_MILLIS.addAndGet(handshakeTime);
+	long maxHandshakeTime = MAX_HANDSHAKE_MILLIS.get();
+	while (handshakeTime > maxHandshakeTime
+		&& !MAX_HANDSHAKE_MILLIS.compareAndSet(maxHandshakeTime, handshakeTime)) {
+	    maxHandshakeTime = MAX_HANDSHAKE_MILLIS.get();
+	}
+    }
+
+    /**
+     * Method to record the wait before retrying a failed SSH handshake
+     *
+     * @param waitTime
+     *            wait time in milliseconds
+     */
+    public static void recordRetryWait(long waitTime) {
+	RETRY_WAIT_MILLIS.addAndGet(waitTime);
+    }
+
+    /**
+     * @return map of metric name and value
+     */
+    public static Map<String, Object> getMetrics() {
+	Map<String, Object> metrics = new LinkedHashMap<String, Object>();
+	long handshakeCount = HANDSHAKE_COUNT.get();
+	int idleSessions = 0;
+	for (ConcurrentLinkedDeque<PooledSession> sessions : IDLE_SESSIONS.values()) {
+	    idleSessions += sessions.size();
+	}
+	metrics.put("handshakeCount", handshakeCount);
+	metrics.put("handshakeFailureCount", HANDSHAKE_FAILURE_COUNT.get());
+	metrics.put("totalHandshakeMillis", HANDSHAKE_MILLIS.get());
+	metrics.put("averageHandshakeMillis", handshakeCount == 0 ? 0 : HANDSHAKE_MILLIS.get() / handshakeCount);
+	metrics.put("maxHandshakeMillis", MAX_HANDSHAKE_MILLIS.get());
+	metrics.put("retryWaitMillis", RETRY_WAIT_MILLIS.get());
+	metrics.put("reuseCount", REUSE_COUNT.get());
+	metrics.put("healthCheckFailureCount", HEALTH_CHECK_FAILURE_COUNT.get());
+	metrics.put("evictedCount", EVICTED_COUNT.get());
+	metrics.put("leasedSessions", LEASED_SESSIONS.size());
+	metrics.put("idleSessions", idleSessions);
+	return metrics;
+    }
+
+    /**
+     * Helper method to disconnect idle sessions past the idle timeout and keep the others alive with a liveness check.
+     * Each session is taken out of the pool while it is checked, so it is never checked and leased at once. The sessions
+     * are checked from a snapshot and the live ones are returned after all are checked, so that a returned session is
+     * not visited again.
+     */
+    private static void maintainIdleSessions() {
+	try {
+	    for (ConcurrentLinkedDeque<PooledSession> sessions : IDLE_SESSIONS.values()) {
+		List<PooledSession> liveSessions = new ArrayList<PooledSession>();
+		for (PooledSession session : new ArrayList<PooledSession>(sessions)) {
+		    if (sessions.remove(session)) {
+			if (System.currentTimeMillis() - session.lastUsedTime > IDLE_TIMEOUT) {
+			    EVICTED_COUNT.incrementAndGet();
+			    disconnect(session.connection);
+			} else if (isAlive(session.connection)) {
+			    liveSessions.add(session);
+			} else {
+			    HEALTH_CHECK_FAILURE_COUNT.incrementAndGet();
+			    disconnect(session.connection);
+			}
+		    }
+		}
+		for (PooledSession session : liveSessions) {
+		    sessions.offerLast(session);
+		}
+	    }
+	} catch (Exception e) {
+	    LOGGER.error("Exception occurred while maintaining idle SSH sessions: " + e.getMessage());
+	}
+    }
+
+    /**
+     * Helper method to check the liveness of a session by echoing a marker. The marker must be printed on a line of its
+     * own, so that the command echoed back by the terminal is not taken for its output.
+     */
+    private static boolean isAlive(SshConnection connection) {
+	boolean alive = false;
+	try {
+	    connection.send("echo " + BroadBandTestConstants.SSH_POOL_HEALTH_CHECK_MARKER, HEALTH_CHECK_TIMEOUT);
+	    String response = connection.getDefaultResponse();
+	    if (CommonMethods.isNotNull(response)) {
+		for (String line : response.split(BroadBandTestConstants.CHAR_NEW_LINE)) {
+		    if (BroadBandTestConstants.SSH_POOL_HEALTH_CHECK_MARKER.equals(line.trim())) {
+			alive = true;
+			break;
+		    }
+		}
+	    }
+	} catch (Exception e) {
+	    LOGGER.debug("SSH session liveness check failed: " + e.getMessage());
+	}
+	return alive;
+    }
+
+    /**
+     * Helper method to disconnect a session
+     */
+    private static void disconnect(SshConnection connection) {
+	try {
+	    connection.disconnect();
+	} catch (Exception e) {
+	    LOGGER.debug("Exception occurred while disconnecting SSH session: " + e.getMessage());
+	}
+    }
+
+    /**
+     * Helper method to get the pool key of the user and host
+     */
+    private static String getKey(String userName, String hostIp) {
+	return (null == userName ? "" : userName) + "@" + hostIp;
+    }
+
+    /**
+     * Helper method to read a numeric property, falling back to the default value
+     */
+    private static long getLongProperty(String propertyKey, long defaultValue) {
+	long value = defaultValue;
+	try {
+	    String propertyValue = AutomaticsPropertyUtility.getProperty(propertyKey);
+	    if (CommonMethods.isNotNull(propertyValue)) {
+		value = Long.parseLong(propertyValue.trim());
+	    }
+	} catch (Exception e) {
+	    LOGGER.debug("Using default value " + defaultValue + " for " + propertyKey);
+	}
+	return value;
+    }
+
+    /**
+     * Idle session with the time it was last used
+     */
+    private static class PooledSession {
+
+	/** Pooled session */
+	private final SshConnection connection;
+
+	/** Time the session was released */
+	private final long lastUsedTime;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private PooledSession(SshConnection connection) {
+	    this.connection = connection;
+	    this.lastUsedTime = System.currentTimeMillis();
+	}
+    }
+}
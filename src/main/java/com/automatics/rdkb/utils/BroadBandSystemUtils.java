@@ -385,8 +385,10 @@ public class BroadBandSystemUtils {
 
 	/**
 	 * Utility method to verify the webpa log messages on WEBPALog.txt.0 log file
-	 * from Arm Console/Atom console for a polling time .
-	 * 
+	 * from Arm Console/Atom console for a polling time . The device logs are
+	 * verified, not the delivered notification; to wait for a value change use
+	 * {@link com.automatics.rdkb.utils.webpa.BroadBandWebPaNotificationReceiver#awaitValueChange}.
+	 *
 	 * @param device            {@link Dut}
 	 * @param tapApi            {@link AutomaticsTapApi}
 	 * @param webpaNotification String representing the text to be searched in the
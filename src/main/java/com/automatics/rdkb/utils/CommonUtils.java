@@ -43,6 +43,7 @@ import com.automatics.rdkb.constants.BroadBandCommandConstants;
 import com.automatics.rdkb.constants.BroadBandTestConstants;
 import com.automatics.rdkb.constants.BroadBandWebPaConstants;
 import com.automatics.rdkb.constants.RDKBTestConstants;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.wifi.BroadBandWiFiUtils;
 import com.automatics.tap.AutomaticsTapApi;
 import com.automatics.utils.AutomaticsPropertyUtility;
@@ -182,6 +183,7 @@ public class CommonUtils {
     public static boolean rebootAndWaitForIpAcquisition(AutomaticsTapApi tapEnv, Dut device) {
 	boolean status = false;
 	LOGGER.info("STARTING METHOD: rebootAndWaitForIpAcquisition()");
+	BroadBandWebPaCache.flush(device);
 	try {
 	    LOGGER.info("About to reboot the device..");
 	    tapEnv.executeCommandUsingSsh(device, BroadBandCommandConstants.CMD_TO_REBOOT_DEVICE);
@@ -288,13 +290,21 @@ public class CommonUtils {
      * method to patternFinderGroupTwo
      */
     public static String patternFinderGroupTwo(String response, String patternToMatch) {
-	Pattern pattern = Pattern.compile(patternToMatch);
-	Matcher matcher = pattern.matcher(response);
-	LOGGER.info(new StringBuilder().append("The response is ").append(response).toString());
-
-	if (matcher.find()) {
-	    LOGGER.info("------------MATCH FOUND FOR THE PATTERN-----------");
-	    return matcher.group(2);
+	LOGGER.debug(new StringBuilder().append("The response is ").append(response).toString());
+	final String[] matchedString = new String[1];
+	int matchCount = BroadBandPatternRegistry.forEachMatch(response, patternToMatch,
+		BroadBandTestConstants.CONSTANT_2, new BroadBandPatternRegistry.MatchHandler() {
+
+		    @Override
+		    public boolean onMatch(String match) {
+			matchedString[0] = match;
+			return false;
+		    }
+		});
+	if (matchCount > 0) {
+	    LOGGER.debug("------------MATCH FOUND FOR THE PATTERN-----------");
+	    // null if group two did not participate in the match
+	    return matchedString[0];
 	}
 	return "";
     }
@@ -420,32 +430,21 @@ public class CommonUtils {
     public static String searchLogFilesWithPollingInterval(AutomaticsTapApi tapEnv, Dut device, String searchText,
 	    String logFile, long pollDuration, long pollInterval) {
 	LOGGER.debug("STARTING METHOD searchLogFilesWithPollingInterval");
-	StringBuffer sbCommand = new StringBuffer(RDKBTestConstants.GREP_COMMAND);
 
 	if (CommonMethods.isNull(searchText)) {
 	    return null;
 	}
 
-	// In case the search text contains space and not wrapped with double quotes.
-	if (searchText.contains(RDKBTestConstants.SINGLE_SPACE_CHARACTER)
-		&& !searchText.contains(AutomaticsConstants.DOUBLE_QUOTE)) {
-	    sbCommand.append(AutomaticsConstants.DOUBLE_QUOTE);
-	    sbCommand.append(searchText);
-	    sbCommand.append(AutomaticsConstants.DOUBLE_QUOTE);
-	} else {
-	    sbCommand.append(searchText);
-	}
-	sbCommand.append(RDKBTestConstants.SINGLE_SPACE_CHARACTER);
-	sbCommand.append(logFile);
-	LOGGER.info("COMMAND TO BE EXECUTED: " + sbCommand.toString());
+	String grepCommand = BroadBandIncrementalLogSearch.getGrepCommand(searchText);
+	LOGGER.info("COMMAND TO BE EXECUTED: " + grepCommand + RDKBTestConstants.SINGLE_SPACE_CHARACTER + logFile);
+	// Each poll after the first scans only the bytes appended since the previous poll
+	BroadBandIncrementalLogSearch logSearch = new BroadBandIncrementalLogSearch(logFile);
 	long startTime = System.currentTimeMillis();
 	String searchResponse = null;
 	do {
 	    tapEnv.waitTill(pollInterval);
-	    searchResponse = tapEnv.executeCommandUsingSsh(device, sbCommand.toString());
-	    searchResponse = CommonMethods.isNotNull(searchResponse)
-		    && !searchResponse.contains(AutomaticsConstants.NO_SUCH_FILE_OR_DIRECTORY) ? searchResponse.trim()
-			    : null;
+	    searchResponse = logSearch
+		    .update(tapEnv.executeCommandUsingSsh(device, logSearch.getSearchCommand(grepCommand)));
 	} while ((System.currentTimeMillis() - startTime) < pollDuration && CommonMethods.isNull(searchResponse));
 	LOGGER.info(
 		"SEARCH RESPONSE FOR - " + searchText + " IN THE LOG FILE - " + logFile + " IS : " + searchResponse);
@@ -834,22 +833,23 @@ public class CommonUtils {
     public static List<String> patternFinderForMultipleMatches(String response, String patternToMatch) {
 	LOGGER.debug("STARTING METHOD: patternFinder()");
 
-	String matchedString = "";
-
-	Pattern pattern = null;
-
-	Matcher matcher = null;
-	List matchedStringList = new ArrayList();
+	final List<String> matchedStringList = new ArrayList<String>();
 	try {
-	    if ((CommonMethods.isNotNull(response)) && (CommonMethods.isNotNull(patternToMatch))) {
-		pattern = Pattern.compile(patternToMatch);
-		matcher = pattern.matcher(response);
-		while (matcher.find()) {
-		    matchedString = matcher.group(1);
-		    LOGGER.info(new StringBuilder().append("Matching string : ").append(matchedString).toString());
-		    matchedStringList.add(matchedString.trim());
-		}
-	    }
+	    BroadBandPatternRegistry.forEachMatch(response, patternToMatch, BroadBandTestConstants.CONSTANT_1,
+		    new BroadBandPatternRegistry.MatchHandler() {
+
+			@Override
+			public boolean onMatch(String match) {
+			    // Matching stops at a match whose group did not participate, keeping the earlier matches
+			    if (null == match) {
+				LOGGER.error("Group 1 did not participate in the match, ignoring the remaining matches");
+				return false;
+			    }
+			    LOGGER.info(new StringBuilder().append("Matching string : ").append(match).toString());
+			    matchedStringList.add(match.trim());
+			    return true;
+			}
+		    });
 	} catch (Exception exception) {
 	    LOGGER.error("Exception occured in patternFinder()", exception);
 	}
@@ -1156,6 +1156,7 @@ public class CommonUtils {
     public static boolean rebootUsingWebpaAndWaitForIpAcquisition(AutomaticsTapApi tapEnv, Dut device) {
 	boolean status = false;
 	LOGGER.info("STARTING METHOD: rebootAndWaitForIpAcquisition()");
+	BroadBandWebPaCache.flush(device);
 	try {
 	    LOGGER.info("About to reboot the device..");
 	    BroadBandWiFiUtils.setWebPaParams(device, BroadBandWebPaConstants.WEBPA_PARAM_DEVICE_CONTROL_DEVICE_REBOOT,
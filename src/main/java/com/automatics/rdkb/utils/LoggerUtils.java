@@ -24,9 +24,6 @@ import com.automatics.device.Dut;
 import com.automatics.tap.AutomaticsTapApi;
 import com.automatics.rdkb.constants.BroadBandTestConstants;
 import com.automatics.utils.CommonMethods;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
 
 /**
  * Utility class which handles the Logger Related Operations.
@@ -127,6 +124,24 @@ public class LoggerUtils {
 		return result;
 	}
 
+	/**
+	 * Utility method to search the log file in the ATOM & ARM Consoles at the same time
+	 * and check the ARM Console Log is in sync with ATOM Console Log.
+	 * 
+	 * @param tapEnv     {@link AutomaticsTapApi}
+	 * @param device     {@link Dut}
+	 * @param searchText String representing the Search Text.
+	 * @param logFile    String representing the log file.
+	 * 
+	 * @return Boolean representing result of the comparison.
+	 */
+	public static boolean compareAtomArmConsoleLogs(AutomaticsTapApi tapEnv, Dut device, String searchText,
+			String logFile) {
+		BroadBandDualConsoleSearch.DualConsoleResult searchResult = BroadBandDualConsoleSearch
+				.searchLogFile(tapEnv, device, searchText, logFile);
+		return compareAtomArmConsoleLogs(searchResult.getAtomResponse(), searchResult.getArmResponse());
+	}
+
     /**
      * Utility method to validate the messages have been logged at the stipulated interval.
      * 
@@ -145,35 +160,16 @@ public class LoggerUtils {
 	    long expectedTimeInterval) {
 	LOGGER.debug("ENTERING METHOD verifyLogInterval");
 	boolean result = false;
-	try {
-	    // Extract the Date Time from the Log Message.
-	    String strInitialTimeStamp = CommonMethods.patternFinder(initialSearchResponse,
-		    BroadBandTestConstants.PATTERN_MATCHER_LOG_MESSAGE_TIMESTAMP);
-	    LOGGER.info("INITIAL TIMESTAMP (EXTRACTED FROM LOG MESSAGE): " + strInitialTimeStamp);
-	    String strFinalTimeStamp = CommonMethods.patternFinder(finalSearchResponse,
-		    BroadBandTestConstants.PATTERN_MATCHER_LOG_MESSAGE_TIMESTAMP);
-	    LOGGER.info("FINAL TIMESTAMP (EXTRACTED FROM LOG MESSAGE): " + strFinalTimeStamp);
-	    Date initialTimeStamp = null;
-	    Date finalTimeStamp = null;
-	    // Parse the extracted Date Time to the required Date format.
-	    if (CommonMethods.isNotNull(strInitialTimeStamp) && CommonMethods.isNotNull(strFinalTimeStamp)) {
-		SimpleDateFormat logMessageDateTimeFormat = new SimpleDateFormat(
-			BroadBandTestConstants.TIMESTAMP_FORMAT_LOG_MESSAGE);
-		initialTimeStamp = logMessageDateTimeFormat.parse(strInitialTimeStamp);
-		LOGGER.info("INITIAL TIMESTAMP (DATE): " + initialTimeStamp);
-		finalTimeStamp = logMessageDateTimeFormat.parse(strFinalTimeStamp);
-		LOGGER.info("FINAL TIMESTAMP (DATE): " + finalTimeStamp);
-	    }
-	    // Compare the date objects created to find the logging interval
-	    if (null != initialTimeStamp && null != finalTimeStamp) {
-		long logInterval = finalTimeStamp.getTime() - initialTimeStamp.getTime();
-		logInterval /= 1000L;
-		LOGGER.info("LOG MESSAGE INTERVAL: " + logInterval);
-		long timeDiff = logInterval - expectedTimeInterval;
-		result = timeDiff >= 0L && timeDiff < 10L;
-	    }
-	} catch (ParseException parseException) {
-	    LOGGER.error("EXCEPTION OCCURRED WHILE PARSING THE DATE: " + parseException.getMessage());
+	// Parse the Date Time at the start of the Log Messages & find the logging interval
+	Long logInterval = BroadBandLogTimestampParser.getIntervalInSeconds(initialSearchResponse,
+		finalSearchResponse);
+	if (null != logInterval) {
+	    LOGGER.info("LOG MESSAGE INTERVAL: " + logInterval);
+	    long timeDiff = logInterval - expectedTimeInterval;
+	    result = timeDiff >= 0L && timeDiff < 10L;
+	} else {
+	    LOGGER.error("TIMESTAMP COULD NOT BE PARSED FROM LOG MESSAGES: " + initialSearchResponse + ", "
+		    + finalSearchResponse);
 	}
 	LOGGER.info("LOG INTERVAL VALIDATION RESULT: " + result);
 	LOGGER.debug("ENDING METHOD verifyLogUsingTimeStamp");
@@ -44,47 +44,8 @@ public class ServerUtils {
      * @return  The SSH connection.
      */
     public static SshConnection getSshConnection(String userName, String hostIp) {       
-    	
-    	SshConnection connection = null;
-
-    	String randomJumpServer = null;
-    	String sshFailureMesaage = "";
     	LOGGER.debug("SSH Host IP : " + hostIp);
-
-    	for (int retryCount = 1; retryCount <= SSH_CONNECTION_MAX_ATTEMPT ; retryCount++) {
-    		try {
-    			LOGGER.debug("SSH connection attempet : " + retryCount );
-    			connection = new SshConnection(userName, hostIp);
-    		} catch (Exception e) {
-
-    			// Trying once more
-    			LOGGER.info("SSH connection attempet : " + retryCount + " failed due to " + e.getMessage() + " for "+hostIp+". Trying once more..");
-    			sshFailureMesaage = e.getMessage();
-    			connection = null;
-
-    			if(retryCount != SSH_CONNECTION_MAX_ATTEMPT) {
-    				//Get the random Jump server
-    				randomJumpServer = getRandomJumpServer(hostIp);
-
-    				if(CommonMethods.isNotNull(randomJumpServer)) {
-    					hostIp = randomJumpServer;
-    				} 
-
-    				AutomaticsUtils.sleep(AutomaticsConstants.TEN_SECONDS);
-    			}
-
-    		}
-
-    		if(null != connection) {
-    			break;
-    		} 
-    	}
-
-    	if (null == connection) {
-    		throw new FailedTransitionException(GeneralError.SSH_CONNECTION_FAILURE, sshFailureMesaage);
-    	}
-
-        return connection;
+    	return openSshConnection(userName, hostIp, false);
     }
     
     /**
@@ -96,25 +57,82 @@ public class ServerUtils {
      * @return  The SSH connection.
      */
     public static SshConnection getSshConnection(String hostIp) {       
+		// We don't log if the current thread is PollingThread
+		if (!Thread.currentThread().getName().equalsIgnoreCase("PollingThread")) {
+			LOGGER.info("SSH Host IP : " + hostIp);
+		}
+    	return openSshConnection(null, hostIp, false);
+    }
+
+    /**
+     * Method to get a SSH connection to the host using the user name from the SSH session pool, establishing a new
+     * connection only if no live idle session of the user and host is available. The connection must be returned
+     * using {@link #releaseSshConnection(SshConnection)} once the commands are executed. Use only for stateless
+     * commands, as the shell of a reused session keeps its state.
+     *
+     * @param   userName  The SSH user name.
+     * @param   hostIp    The host name to which connection to be established.
+     *
+     * @return  The SSH connection.
+     */
+    public static SshConnection getPooledSshConnection(String userName, String hostIp) {
+    	SshConnection connection = BroadBandSshSessionPool.borrow(userName, hostIp);
+    	if (null == connection) {
+    		connection = openSshConnection(userName, hostIp, true);
+    	}
+    	return connection;
+    }
+
+    /**
+     * Method to get a SSH connection to the host using the default user name from the SSH session pool.
+     *
+     * @see #getPooledSshConnection(String, String)
+     * @param   hostIp  The host name to which connection to be established.
+     *
+     * @return  The SSH connection.
+     */
+    public static SshConnection getPooledSshConnection(String hostIp) {
+    	return getPooledSshConnection(null, hostIp);
+    }
+
+    /**
+     * Returns a connection obtained using {@link #getPooledSshConnection(String, String)} to the SSH session pool.
+     *
+     * @param connection
+     *            The SSH connection object.
+     */
+    public static void releaseSshConnection(SshConnection connection) {
+	BroadBandSshSessionPool.release(connection);
+    }
+
+    /**
+     * Method to establish a SSH connection, retrying on a random jump server with increasing wait on failure.
+     *
+     * @param   userName  The SSH user name; null for the default user name.
+     * @param   hostIp    The host name to which connection to be established.
+     * @param   pooled    True to lease the connection from the SSH session pool, keyed by the host finally connected to.
+     *
+     * @return  The SSH connection.
+     */
+    private static SshConnection openSshConnection(String userName, String hostIp, boolean pooled) {
     	
     	SshConnection connection = null;
 
     	String randomJumpServer = null;
     	String sshFailureMesaage = "";
-    	
-		// We don't log if the current thread is PollingThread
-		if (!Thread.currentThread().getName().equalsIgnoreCase("PollingThread")) {
-			LOGGER.info("SSH Host IP : " + hostIp);
-		}
+    	long retryWait = BroadBandTestConstants.SSH_CONNECTION_INITIAL_RETRY_WAIT_IN_MILLIS;
 
     	for (int retryCount = 1; retryCount <= SSH_CONNECTION_MAX_ATTEMPT ; retryCount++) {
+    		long startTime = System.currentTimeMillis();
     		try {
-    			LOGGER.debug("SSh connection attempet : " + retryCount );
-    			connection = new SshConnection(hostIp);
+    			LOGGER.debug("SSH connection attempet : " + retryCount );
+    			connection = null == userName ? new SshConnection(hostIp) : new SshConnection(userName, hostIp);
+    			BroadBandSshSessionPool.recordHandshake(System.currentTimeMillis() - startTime, true);
     		} catch (Exception e) {
+    			BroadBandSshSessionPool.recordHandshake(System.currentTimeMillis() - startTime, false);
 
     			// Trying once more
-    			LOGGER.info("SSh connection attempet : " + retryCount + " failed due to " + e.getMessage() + " for "+hostIp+". Trying once more..");
+    			LOGGER.info("SSH connection attempet : " + retryCount + " failed due to " + e.getMessage() + " for "+hostIp+". Trying once more..");
     			sshFailureMesaage = e.getMessage();
     			connection = null;
 
@@ -126,7 +144,9 @@ public class ServerUtils {
     					hostIp = randomJumpServer;
     				} 
 
-    				AutomaticsUtils.sleep(AutomaticsConstants.TEN_SECONDS);
+    				AutomaticsUtils.sleep(retryWait);
+    				BroadBandSshSessionPool.recordRetryWait(retryWait);
+    				retryWait = Math.min(retryWait * 2, AutomaticsConstants.TEN_SECONDS);
     			}
 
     		}
@@ -140,8 +160,14 @@ public class ServerUtils {
     		throw new FailedTransitionException(GeneralError.SSH_CONNECTION_FAILURE, sshFailureMesaage);
     	}
 
+    	if (pooled) {
+    		// A session established through a jump server is pooled under the jump server, not the requested host
+    		BroadBandSshSessionPool.lease(userName, hostIp, connection);
+    	}
+
         return connection;
     }
+
     /**
      * Method to get a random Jump server, as the current connection is throwing error
      * 
@@ -288,6 +314,7 @@ public class ServerUtils {
     public static final void closeSshConnection(SshConnection connection) {
 
 	if (null != connection) {
+	    BroadBandSshSessionPool.discard(connection);
 	    connection.disconnect();
 	    LOGGER.debug("closeSshConnection(): " + connection.getHostName());
 	}
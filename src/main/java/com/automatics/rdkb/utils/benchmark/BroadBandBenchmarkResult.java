@@ -0,0 +1,188 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.benchmark;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+
+/**
+ * Result of one benchmark scenario, i.e. one operation run with a fixed batch size and concurrency. Latencies are
+ * recorded in microseconds.
+ */
+public class BroadBandBenchmarkResult {
+
+    /** Name of the benchmarked operation, e.g. WEBPA_GET */
+    private final String operation;
+
+    /** Number of parameters or OIDs per request */
+    private final int batchSize;
+
+    /** Number of requests executed concurrently */
+    private final int concurrency;
+
+    /** Latency of successful requests in microseconds */
+    private final BroadBandLatencyHistogram histogram = new BroadBandLatencyHistogram();
+
+    /** Number of failed requests */
+    private final AtomicLong errorCount = new AtomicLong();
+
+    /** Wall clock duration of the scenario in milliseconds */
+    private long duration = 0;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param operation
+     *            name of the benchmarked operation
+     * @param batchSize
+     *            number of parameters or OIDs per request
+     * @param concurrency
+     *            number of requests executed concurrently
+     */
+    public BroadBandBenchmarkResult(String operation, int batchSize, int concurrency) {
+	this.operation = operation;
+	this.batchSize = batchSize;
+	this.concurrency = concurrency;
+    }
+
+    /**
+     * Method to record the outcome of one request
+     *
+     * @param latencyInNanos
+     *            latency of the request in nanoseconds
+     * @param success
+     *            true, if the request succeeded
+     */
+    public void record(long latencyInNanos, boolean success) {
+	if (success) {
+	    histogram.record(latencyInNanos / 1000);
+	} else {
+	    errorCount.incrementAndGet();
+	}
+    }
+
+    /**
+     * @return total number of requests
+     */
+    public long getRequestCount() {
+	return histogram.getTotalCount() + errorCount.get();
+    }
+
+    /**
+     * @return percentage of failed requests
+     */
+    public double getErrorRate() {
+	long requestCount = getRequestCount();
+	return requestCount == 0 ? 0 : errorCount.get() * 100.0 / requestCount;
+    }
+
+    /**
+     * @return successful requests per second
+     */
+    public double getThroughput() {
+	return duration == 0 ? 0 : histogram.getTotalCount() * 1000.0 / duration;
+    }
+
+    /**
+     * Method to convert the result to JSON
+     *
+     * @return {@link JSONObject} with scenario, latency percentiles in microseconds, error rate and throughput
+     * @throws JSONException
+     *             if the JSON cannot be built
+     */
+    public JSONObject toJson() throws JSONException {
+	JSONObject json = new JSONObject();
+	json.put("operation", operation);
+	json.put("batchSize", batchSize);
+	json.put("concurrency", concurrency);
+	json.put("requests", getRequestCount());
+	json.put("errors", errorCount.get());
+	json.put("errorRatePercent", getErrorRate());
+	json.put("durationMillis", duration);
+	json.put("throughputPerSecond", getThroughput());
+	JSONObject latency = new JSONObject();
+	latency.put("min", histogram.getMinValue());
+	latency.put("mean", histogram.getMean());
+	latency.put("p50", histogram.getValueAtPercentile(50));
+	latency.put("p95", histogram.getValueAtPercentile(95));
+	latency.put("p99", histogram.getValueAtPercentile(99));
+	latency.put("max", histogram.getMaxValue());
+	json.put("latencyMicros", latency);
+	return json;
+    }
+
+    @Override
+    public String toString() {
+	return operation + " batch=" + batchSize + " concurrency=" + concurrency + " requests=" + getRequestCount()
+		+ " errors=" + errorCount.get() + " p50=" + histogram.getValueAtPercentile(50) + "us p95="
+		+ histogram.getValueAtPercentile(95) + "us p99=" + histogram.getValueAtPercentile(99) + "us max="
+		+ histogram.getMaxValue() + "us";
+    }
+
+    /**
+     * @return the operation
+     */
+    public String getOperation() {
+	return operation;
+    }
+
+    /**
+     * @return the batchSize
+     */
+    public int getBatchSize() {
+	return batchSize;
+    }
+
+    /**
+     * @return the concurrency
+     */
+    public int getConcurrency() {
+	return concurrency;
+    }
+
+    /**
+     * @return the histogram
+     */
+    public BroadBandLatencyHistogram getHistogram() {
+	return histogram;
+    }
+
+    /**
+     * @return the errorCount
+     */
+    public long getErrorCount() {
+	return errorCount.get();
+    }
+
+    /**
+     * @return the duration
+     */
+    public long getDuration() {
+	return duration;
+    }
+
+    /**
+     * @param duration
+     *            the duration to set
+     */
+    public void setDuration(long duration) {
+	this.duration = duration;
+    }
+}
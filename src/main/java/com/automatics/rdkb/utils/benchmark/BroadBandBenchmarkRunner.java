@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.codehaus.jettison.json.JSONArray;
+import org.codehaus.jettison.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runner which executes a {@link BroadBandBenchmarkOperation} at a fixed concurrency and records latency and errors
+ * into a {@link BroadBandBenchmarkResult}, and which writes results as a machine readable JSON report.
+ */
+public class BroadBandBenchmarkRunner {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandBenchmarkRunner.class);
+
+    /**
+     * Method to run an operation. Warm up iterations are executed first and are not recorded.
+     *
+     * @param result
+     *            {@link BroadBandBenchmarkResult} describing the scenario, into which outcomes are recorded
+     * @param operation
+     *            {@link BroadBandBenchmarkOperation} to be benchmarked
+     * @param warmUpIterations
+     *            number of iterations executed before recording
+     * @param iterations
+     *            number of recorded iterations
+     * @return the given {@link BroadBandBenchmarkResult}
+     */
+    public static BroadBandBenchmarkResult run(final BroadBandBenchmarkResult result,
+	    final BroadBandBenchmarkOperation operation, int warmUpIterations, final int iterations) {
+	LOGGER.debug("STARTING METHOD: run");
+	for (int iteration = 0; iteration < warmUpIterations; iteration++) {
+	    try {
+		operation.execute(iteration);
+	    } catch (Exception e) {
+		LOGGER.debug("Warm up iteration failed: " + e.getMessage());
+	    }
+	}
+	final AtomicInteger nextIteration = new AtomicInteger();
+	ExecutorService executor = Executors.newFixedThreadPool(result.getConcurrency());
+	long startTime = System.currentTimeMillis();
+	try {
+	    for (int worker = 0; worker < result.getConcurrency(); worker++) {
+		executor.execute(new Runnable() {
+
+		    @Override
+		    public void run() {
+			int iteration;
+			while ((iteration = nextIteration.getAndIncrement()) < iterations) {
+			    long requestStart = System.nanoTime();
+			    boolean success = false;
+			    try {
+				success = operation.execute(iteration);
+			    } catch (Exception e) {
+				LOGGER.debug("Benchmark iteration " + iteration + " failed: " + e.getMessage());
+			    }
+			    result.record(System.nanoTime() - requestStart, success);
+			}
+		    }
+		});
+	    }
+	    executor.shutdown();
+	    while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+		LOGGER.info("Waiting for benchmark " + result.getOperation() + " to complete");
+	    }
+	} catch (InterruptedException e) {
+	    executor.shutdownNow();
+	    Thread.currentThread().interrupt();
+	}
+	result.setDuration(System.currentTimeMillis() - startTime);
+	LOGGER.info("Benchmark result: " + result);
+	LOGGER.debug("ENDING METHOD: run");
+	return result;
+    }
+
+    /**
+     * Method to write benchmark results as a JSON report
+     *
+     * @param name
+     *            name of the benchmark, e.g. firmware or build under test
+     * @param results
+     *            list of {@link BroadBandBenchmarkResult}
+     * @param reportFile
+     *            file to which the report is written
+     * @return true, if the report is written
+     */
+    public static boolean writeReport(String name, List<BroadBandBenchmarkResult> results, File reportFile) {
+	boolean status = false;
+	Writer writer = null;
+	try {
+	    JSONArray scenarios = new JSONArray();
+	    for (BroadBandBenchmarkResult result : results) {
+		scenarios.put(result.toJson());
+	    }
+	    JSONObject report = new JSONObject();
+	    report.put("benchmark", name);
+	    report.put("timestamp", System.currentTimeMillis());
+	    report.put("scenarios", scenarios);
+	    writer = new OutputStreamWriter(new FileOutputStream(reportFile), "UTF-8");
+	    writer.write(report.toString(2));
+	    status = true;
+	    LOGGER.info("Benchmark report written to " + reportFile.getAbsolutePath());
+	} catch (Exception e) {
+	    LOGGER.error("Exception occured while writing benchmark report: " + e.getMessage());
+	} finally {
+	    if (null != writer) {
+		try {
+		    writer.close();
+		} catch (Exception e) {
+		    LOGGER.error("Exception occured while closing benchmark report: " + e.getMessage());
+		}
+	    }
+	}
+	return status;
+    }
+}
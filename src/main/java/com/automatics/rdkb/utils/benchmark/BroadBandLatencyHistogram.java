@@ -0,0 +1,188 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Latency histogram with log-linear buckets in the style of HdrHistogram. Values below 128 are recorded exactly and
+ * larger values are recorded with 64 sub buckets per power of two, which keeps every recorded value within 1.6% of its
+ * true value while using a fixed array of primitive counters. Recording is synchronized so that one histogram can be
+ * shared by the worker threads of a benchmark.
+ */
+public class BroadBandLatencyHistogram {
+
+    /** Number of values recorded exactly */
+    private static final int LINEAR_BUCKETS = 128;
+
+    /** Number of sub buckets per power of two above the linear range */
+    private static final int SUB_BUCKETS = 64;
+
+    /** Number of bits of a value kept as its sub bucket */
+    private static final int SUB_BUCKET_BITS = 6;
+
+    /** Counters of all the buckets */
+    private final long[] counts = new long[LINEAR_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS];
+
+    /** Number of recorded values */
+    private long totalCount = 0;
+
+    /** Minimum recorded value */
+    private long minValue = Long.MAX_VALUE;
+
+    /** Maximum recorded value */
+    private long maxValue = 0;
+
+    /** Sum of the recorded values */
+    private long sum = 0;
+
+    /**
+     * Method to record a value
+     *
+     * @param value
+     *            value to be recorded, e.g. latency in microseconds; negative values are recorded as 0
+     */
+    public synchronized void record(long value) {
+	long recordedValue = Math.max(0, value);
+	counts[getBucketIndex(recordedValue)]++;
+	totalCount++;
+	sum += recordedValue;
+	minValue = Math.min(minValue, recordedValue);
+	maxValue = Math.max(maxValue, recordedValue);
+    }
+
+    /**
+     * Method to add all the values of another histogram to this one
+     *
+     * @param other
+     *            {@link BroadBandLatencyHistogram} to be added
+     */
+    public void add(BroadBandLatencyHistogram other) {
+	long[] otherCounts;
+	long otherTotal, otherSum, otherMin, otherMax;
+	synchronized (other) {
+	    otherCounts = other.counts.clone();
+	    otherTotal = other.totalCount;
+	    otherSum = other.sum;
+	    otherMin = other.minValue;
+	    otherMax = other.maxValue;
+	}
+	synchronized (this) {
+	    for (int index = 0; index < counts.length; index++) {
+		counts[index] += otherCounts[index];
+	    }
+	    totalCount += otherTotal;
+	    sum += otherSum;
+	    minValue = Math.min(minValue, otherMin);
+	    maxValue = Math.max(maxValue, otherMax);
+	}
+    }
+
+    /**
+     * Method to get the value at the given percentile. The highest value equivalent to the bucket holding the
+     * percentile is returned, capped at the maximum recorded value.
+     *
+     * @param percentile
+     *            percentile in the range 0 to 100
+     * @return value at the percentile; 0 if no value is recorded
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+	if (totalCount == 0) {
+	    return 0;
+	}
+	long requiredCount = Math.max(1, (long) Math.ceil(totalCount * Math.min(100, percentile) / 100));
+	long cumulativeCount = 0;
+	for (int index = 0; index < counts.length; index++) {
+	    cumulativeCount += counts[index];
+	    if (cumulativeCount >= requiredCount) {
+		return Math.min(getHighestValueOfBucket(index), maxValue);
+	    }
+	}
+	return maxValue;
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public synchronized long getTotalCount() {
+	return totalCount;
+    }
+
+    /**
+     * @return minimum recorded value; 0 if no value is recorded
+     */
+    public synchronized long getMinValue() {
+	return totalCount == 0 ? 0 : minValue;
+    }
+
+    /**
+     * @return maximum recorded value
+     */
+    public synchronized long getMaxValue() {
+	return maxValue;
+    }
+
+    /**
+     * @return mean of the recorded values
+     */
+    public synchronized double getMean() {
+	return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Method to clear all the recorded values
+     */
+    public synchronized void reset() {
+	Arrays.fill(counts, 0);
+	totalCount = 0;
+	sum = 0;
+	minValue = Long.MAX_VALUE;
+	maxValue = 0;
+    }
+
+    /**
+     * Helper method to get the bucket of a value
+     *
+     * @param value
+     *            non negative value
+     * @return bucket index
+     */
+    private static int getBucketIndex(long value) {
+	if (value < LINEAR_BUCKETS) {
+	    return (int) value;
+	}
+	int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+	return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) ((value >> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Helper method to get the highest value recorded in a bucket
+     *
+     * @param index
+     *            bucket index
+     * @return highest value of the bucket
+     */
+    private static long getHighestValueOfBucket(int index) {
+	if (index < LINEAR_BUCKETS) {
+	    return index;
+	}
+	int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+	long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+	return ((subBucket + 1) << shift) - 1;
+    }
+}
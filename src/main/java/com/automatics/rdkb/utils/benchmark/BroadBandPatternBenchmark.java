@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.rdkb.utils.BroadBandPatternRegistry;
+
+/**
+ * Benchmark of matching all log timestamps of a command output, comparing a pattern compiled on every call with the
+ * {@link BroadBandPatternRegistry} list and streaming APIs, for several output sizes and concurrency levels.
+ */
+public class BroadBandPatternBenchmark {
+
+    /** Operation name of matching with a pattern compiled on every call */
+    public static final String OPERATION_COMPILE_PER_CALL = "PATTERN_COMPILE_PER_CALL";
+
+    /** Operation name of matching with the registry, collecting the matches into a list */
+    public static final String OPERATION_REGISTRY_LIST = "PATTERN_REGISTRY_LIST";
+
+    /** Operation name of matching with the registry, streaming the matches to a handler */
+    public static final String OPERATION_REGISTRY_HANDLER = "PATTERN_REGISTRY_HANDLER";
+
+    /** Number of log lines of the benchmarked command outputs */
+    public static final int[] LINE_COUNTS = { 100, 1000, 10000 };
+
+    /** Concurrency levels */
+    public static final int[] CONCURRENCY_LEVELS = { 1, 4 };
+
+    /** Regular expression of the benchmark */
+    private static final String REGEX = BroadBandTestConstants.PATTERN_MATCHER_TIMESTAMP_FORMAT_YYMMDD;
+
+    /**
+     * Method to run all scenarios and write the report
+     *
+     * @param name
+     *            name of the benchmark
+     * @param reportFile
+     *            file to which the JSON report is written
+     * @return list of {@link BroadBandBenchmarkResult}
+     */
+    public static List<BroadBandBenchmarkResult> runBenchmark(String name, File reportFile) {
+	List<BroadBandBenchmarkResult> results = new ArrayList<BroadBandBenchmarkResult>();
+	for (int lineCount : LINE_COUNTS) {
+	    final String output = getLogOutput(lineCount);
+	    final int expectedMatches = lineCount;
+	    for (int concurrency : CONCURRENCY_LEVELS) {
+		results.add(run(OPERATION_COMPILE_PER_CALL, lineCount, concurrency, new BroadBandBenchmarkOperation() {
+
+		    @Override
+		    public boolean execute(int iteration) {
+			List<String> matches = new ArrayList<String>();
+			Matcher matcher = Pattern.compile(REGEX).matcher(output);
+			while (matcher.find()) {
+			    matches.add(matcher.group(1).trim());
+			}
+			return matches.size() == expectedMatches;
+		    }
+		}));
+		results.add(run(OPERATION_REGISTRY_LIST, lineCount, concurrency, new BroadBandBenchmarkOperation() {
+
+		    @Override
+		    public boolean execute(int iteration) {
+			return BroadBandPatternRegistry.findAll(output, REGEX, 1).size() == expectedMatches;
+		    }
+		}));
+		results.add(run(OPERATION_REGISTRY_HANDLER, lineCount, concurrency, new BroadBandBenchmarkOperation() {
+
+		    @Override
+		    public boolean execute(int iteration) {
+			return BroadBandPatternRegistry.forEachMatch(output, REGEX, 1,
+				new BroadBandPatternRegistry.MatchHandler() {
+
+				    @Override
+				    public boolean onMatch(String match) {
+					return true;
+				    }
+				}) == expectedMatches;
+		    }
+		}));
+	    }
+	}
+	BroadBandBenchmarkRunner.writeReport(name, results, reportFile);
+	return results;
+    }
+
+    /**
+     * Helper method to run one scenario
+     */
+    private static BroadBandBenchmarkResult run(String operation, int lineCount, int concurrency,
+	    BroadBandBenchmarkOperation benchmarkOperation) {
+	return BroadBandBenchmarkRunner.run(new BroadBandBenchmarkResult(operation, lineCount, concurrency),
+		benchmarkOperation, BroadBandTestConstants.PATTERN_BENCHMARK_WARM_UP_ITERATIONS,
+		BroadBandTestConstants.PATTERN_BENCHMARK_DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * Helper method to build a command output of log lines, each starting with a log timestamp
+     */
+    private static String getLogOutput(int lineCount) {
+	StringBuilder output = new StringBuilder();
+	for (int line = 0; line < lineCount; line++) {
+	    output.append(String.format("210917-10:%02d:%02d.%06d [mod=PAM, lvl=INFO] [tid=%d] Benchmark log line %d",
+		    (line / 60) % 60, line % 60, line, 1000 + line % 7, line))
+		    .append(BroadBandTestConstants.CHAR_NEW_LINE);
+	}
+	return output.toString();
+    }
+}
@@ -38,6 +38,7 @@ import com.automatics.rdkb.utils.BroadbandPropertyFileHandler;
 import com.automatics.rdkb.utils.CommonUtils;
 import com.automatics.rdkb.utils.DeviceModeHandler;
 import com.automatics.rdkb.utils.snmp.BroadBandSnmpUtils;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 import com.automatics.rdkb.utils.wifi.BroadBandWiFiUtils;
 import com.automatics.tap.AutomaticsTapApi;
@@ -715,6 +716,7 @@ public class BroadBandCodeDownloadUtils {
 			|| response.contains(BroadBandCdlConstants.LOG_MESSAGE_HTTP_SUCCESSFULLY_INSTALLED))) {
 
 	    tapEnv.reboot(device);
+	    BroadBandWebPaCache.flush(device);
 
 	    CommonMethods.waitForEstbIpAcquisition(tapEnv, device);
 	    status = CodeDownloadUtils.verifyImageVersionFromVersionText(tapEnv, device, buildNameToBeTriggerred);
@@ -722,6 +724,7 @@ public class BroadBandCodeDownloadUtils {
 		LOGGER.info(
 			"Device is not loaded with requested build. So verify firmware upgrade with another reboot");
 		CommonMethods.rebootAndWaitForIpAccusition(device, tapEnv);
+		BroadBandWebPaCache.flush(device);
 		status = CodeDownloadUtils.verifyImageVersionFromVersionText(tapEnv, device, buildNameToBeTriggerred);
 	    }
 	    LOGGER.info("Is Device loaded with requested build : " + status);
@@ -21,9 +21,8 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -39,6 +38,7 @@ import com.automatics.rdkb.constants.BroadBandTraceConstants;
 import com.automatics.rdkb.constants.BroadBandWebPaConstants;
 import com.automatics.rdkb.constants.WebPaParamConstants.WebPaDataTypes;
 import com.automatics.rdkb.utils.BroadBandCommonUtils;
+import com.automatics.rdkb.utils.BroadBandLogMarkerScanner;
 import com.automatics.rdkb.utils.BroadbandPropertyFileHandler;
 import com.automatics.rdkb.utils.CommonUtils;
 import com.automatics.rdkb.utils.DeviceModeHandler;
@@ -852,32 +852,26 @@ public class BroadBandXconfCdlUtils {
     public static Map<String, Boolean> getAllLogsForCDLWithCorruptImages(AutomaticsTapApi tapEnv, Dut device,
 	    String imageNameForCDL) {
 	Map<String, Boolean> cdlStatusLogs = new HashMap<String, Boolean>();
-	boolean allLogsObtained = false;
-	cdlStatusLogs.put(BroadBandTestConstants.LOG_CDL_STARTED, false);
-	cdlStatusLogs.put(BroadBandTestConstants.LOG_CDL_COMPLETED, false);
+	Map<String, String> markers = new LinkedHashMap<String, String>();
+	markers.put(BroadBandTestConstants.LOG_CDL_STARTED, BroadBandTestConstants.LOG_CDL_STARTED);
+	markers.put(BroadBandTestConstants.LOG_CDL_COMPLETED, BroadBandTestConstants.LOG_CDL_COMPLETED);
 	if (BroadbandPropertyFileHandler.isDeviceCheckForNegetiveCdl(device)
 		|| DeviceModeHandler.isFibreDevice(device)) {
-	    cdlStatusLogs.put(BroadBandTestConstants.LOG_CDL_SUCCESSFUL.toLowerCase(), false);
+	    markers.put(BroadBandTestConstants.LOG_CDL_SUCCESSFUL.toLowerCase(),
+		    BroadBandTestConstants.LOG_CDL_SUCCESSFUL.toLowerCase());
 	} else {
-	    cdlStatusLogs.put(BroadBandTraceConstants.LOG_MESSAGE_HTTP_DOWNLOAD_NOT_SUCCESSFUL, false);
+	    markers.put(BroadBandTraceConstants.LOG_MESSAGE_HTTP_DOWNLOAD_NOT_SUCCESSFUL,
+		    BroadBandTraceConstants.LOG_MESSAGE_HTTP_DOWNLOAD_NOT_SUCCESSFUL);
 	}
 
-	for (int cdlCheckCount = 0; cdlCheckCount < 15; cdlCheckCount++) {
-
-	    String response = tapEnv.executeCommandUsingSsh(device, BroadBandTestConstants.CAT_XCONF_TXT).toLowerCase();
-
-	    for (Map.Entry<String, Boolean> entry : cdlStatusLogs.entrySet()) {
-		if (CommonUtils.isGivenStringAvailableInCommandOutput(response, entry.getKey())) {
-		    entry.setValue(true);
-		}
-		LOGGER.info("LOG = " + entry.getKey() + ", Value = " + entry.getValue());
-	    }
-	    List<Boolean> listofResults = new ArrayList<Boolean>(cdlStatusLogs.values());
-	    allLogsObtained = !listofResults.contains(false);
-	    if (allLogsObtained) {
-		break;
-	    }
-	    tapEnv.waitTill(BroadBandTestConstants.THIRTY_SECOND_IN_MILLIS);
+	// All markers are searched with one grep per poll, scanning only the lines appended since the previous poll
+	Map<String, BroadBandLogMarkerScanner.MarkerMatch> matches = BroadBandLogMarkerScanner.scanLogFile(tapEnv,
+		device, markers, BroadBandTestConstants.RDKLOGS_LOGS_XCONF_TXT_0,
+		BroadBandTestConstants.SIX_MINUTE_IN_MILLIS + BroadBandTestConstants.ONE_MINUTE_IN_MILLIS,
+		BroadBandTestConstants.THIRTY_SECOND_IN_MILLIS);
+	for (String marker : markers.keySet()) {
+	    cdlStatusLogs.put(marker, matches.containsKey(marker));
+	    LOGGER.info("LOG = " + marker + ", Value = " + cdlStatusLogs.get(marker));
 	}
 	return cdlStatusLogs;
     }
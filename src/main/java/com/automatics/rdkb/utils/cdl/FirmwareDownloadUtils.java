@@ -42,6 +42,7 @@ import com.automatics.rdkb.constants.BroadBandTraceConstants;
 import com.automatics.rdkb.constants.BroadBandWebPaConstants;
 import com.automatics.rdkb.constants.RDKBTestConstants;
 import com.automatics.rdkb.utils.snmp.BroadBandSnmpUtils;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 import com.automatics.rdkb.utils.wifi.BroadBandWiFiUtils;
 import com.automatics.rdkb.webui.constants.BroadBandWebGuiTestConstant;
@@ -1298,6 +1299,7 @@ public class FirmwareDownloadUtils {
 		    BroadBandWebPaConstants.WEBPA_PARAM_DEVICE_CONTROL_DEVICE_REBOOT, BroadBandTestConstants.CONSTANT_0,
 		    BroadBandTestConstants.DEVICE);
 	    tapEnv.waitTill(BroadBandTestConstants.TWENTY_SECOND_IN_MILLIS);
+	    BroadBandWebPaCache.flush(device);
 	    boolean deviceRebooted = CommonMethods.waitForEstbIpAcquisition(tapEnv, device);
 	    LOGGER.info("Device Rebooted after : " + deviceRebooted);
 
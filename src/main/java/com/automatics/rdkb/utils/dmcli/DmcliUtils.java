@@ -27,6 +27,8 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +52,13 @@ public class DmcliUtils {
      * Logger instance for {@link DmcliUtils}
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(DmcliUtils.class);
+
+    /**
+     * Pattern to retrieve the value from dmcli get output
+     */
+    private static final Pattern DMCLI_VALUE_PATTERN = Pattern
+	    .compile(BroadBandTestConstants.REGULAR_EXPRESSION_DMCLI_COMMAND_VALUE);
+
 	/**
 	 * Utility method to convert RDK-B WebPA Wi-Fi parameter Index to compatible
 	 * dmcli parameter index
@@ -172,6 +181,119 @@ public class DmcliUtils {
 		}
 		return requiredValues;
 	}
+	/**
+	 * Utility method to get the key values (TR-181, Value) for multiple TR-181
+	 * parameters using DMCLI, sending all the parameters to the device in one
+	 * compound command. Output of each dmcli command is framed with begin and end
+	 * markers and mapped back to the WebPA parameter names in a single pass over
+	 * the output. Parameters whose frame is missing in the output are retried
+	 * with a single dmcli command.
+	 * 
+	 * @param device     The Dut instance to be validated.
+	 * @param tapAPI     The {@link AutomaticsTapApi} reference.
+	 * @param parameters TR-181 parameters list to get value.
+	 * @return The required value {@link Map}, in the order of the given parameters.
+	 */
+	public static Map<String, String> getParamValuesUsingDmcliInBatch(Dut device, AutomaticsTapApi tapAPI,
+			String[] parameters) {
+		LOGGER.debug("STARTING METHOD: getParamValuesUsingDmcliInBatch");
+		Map<String, String> requiredValues = new LinkedHashMap<String, String>();
+		int batchSize = BroadBandTestConstants.DMCLI_BATCH_MAX_PARAMETERS;
+		for (int batchStart = 0; batchStart < parameters.length; batchStart += batchSize) {
+			int batchEnd = Math.min(parameters.length, batchStart + batchSize);
+			StringBuilder dmcliCommand = new StringBuilder();
+			for (int index = batchStart; index < batchEnd; index++) {
+				dmcliCommand.append("echo ").append(BroadBandTestConstants.DMCLI_BATCH_FRAME_BEGIN).append(index)
+						.append(BroadBandTestConstants.SEMI_COLON).append(BroadBandTestConstants.CMD_DMCLI_GET_VALUE)
+						.append(AutomaticsConstants.SPACE)
+						.append(convertRdkbWebPaWiFiParameterIndexToDmcliParameterIndex(parameters[index]))
+						.append(BroadBandTestConstants.SEMI_COLON).append("echo ")
+						.append(BroadBandTestConstants.DMCLI_BATCH_FRAME_END).append(index)
+						.append(BroadBandTestConstants.SEMI_COLON);
+			}
+			String dmcliCommandOutput = tapAPI.executeCommandUsingSsh(device, dmcliCommand.toString());
+			if (CommonMethods.isNull(dmcliCommandOutput)) {
+				throw new FailedTransitionException(GeneralError.SSH_CONNECTION_FAILURE,
+						"Unable to connect to Device via SSH command or Device not responding to batched dmcli command");
+			}
+			String[] batchValues = new String[batchEnd - batchStart];
+			boolean[] completeFrames = new boolean[batchEnd - batchStart];
+			parseFramedDmcliOutput(dmcliCommandOutput, batchStart, batchValues, completeFrames);
+			for (int index = batchStart; index < batchEnd; index++) {
+				String value = batchValues[index - batchStart];
+				if (!completeFrames[index - batchStart]) {
+					LOGGER.info("No framed dmcli output for " + parameters[index] + ", retrying with single dmcli get");
+					value = getParamValuesUsingDmcli(device, tapAPI, new String[] { parameters[index] })
+							.get(parameters[index]);
+				}
+				requiredValues.put(parameters[index], value);
+			}
+		}
+		LOGGER.debug("ENDING METHOD: getParamValuesUsingDmcliInBatch");
+		return requiredValues;
+	}
+
+	/**
+	 * Helper method to parse the output of a batched dmcli get in one pass, without
+	 * splitting the whole output.
+	 * 
+	 * @param output         Output of the batched dmcli command.
+	 * @param batchStart     Index of the first parameter in the batch.
+	 * @param values         Values of the parameters in the batch, filled in; null
+	 *                       for a complete frame without a value line, as
+	 *                       {@link #getParamValuesUsingDmcli} returns.
+	 * @param completeFrames Flags of the parameters whose frame is complete in the
+	 *                       output, filled in.
+	 */
+	private static void parseFramedDmcliOutput(String output, int batchStart, String[] values,
+			boolean[] completeFrames) {
+		int batchEnd = batchStart + values.length;
+		int currentFrame = -1;
+		String currentValue = null;
+		int lineStart = 0;
+		int outputLength = output.length();
+		while (lineStart < outputLength) {
+			int lineEnd = output.indexOf(RDKBTestConstants.DELIMITER_NEW_LINE, lineStart);
+			if (lineEnd < 0) {
+				lineEnd = outputLength;
+			}
+			String line = output.substring(lineStart, lineEnd).trim();
+			lineStart = lineEnd + 1;
+			if (line.startsWith(BroadBandTestConstants.DMCLI_BATCH_FRAME_BEGIN)) {
+				currentFrame = parseFrameIndex(line, BroadBandTestConstants.DMCLI_BATCH_FRAME_BEGIN, batchStart,
+						batchEnd);
+				currentValue = null;
+			} else if (line.startsWith(BroadBandTestConstants.DMCLI_BATCH_FRAME_END)) {
+				if (currentFrame >= 0 && currentFrame == parseFrameIndex(line,
+						BroadBandTestConstants.DMCLI_BATCH_FRAME_END, batchStart, batchEnd)) {
+					values[currentFrame - batchStart] = currentValue;
+					completeFrames[currentFrame - batchStart] = true;
+				}
+				currentFrame = -1;
+			} else if (currentFrame >= 0 && null == currentValue) {
+				Matcher matcher = DMCLI_VALUE_PATTERN.matcher(line);
+				if (matcher.find()) {
+					currentValue = matcher.group(BroadBandTestConstants.CONSTANT_1).trim();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Helper method to get the parameter index from a frame marker line
+	 * 
+	 * @return parameter index; -1 if the marker is invalid or not in the batch
+	 */
+	private static int parseFrameIndex(String line, String marker, int batchStart, int batchEnd) {
+		int index = -1;
+		try {
+			index = Integer.parseInt(line.substring(marker.length()).trim());
+		} catch (NumberFormatException e) {
+			LOGGER.error("Invalid dmcli frame marker: " + line);
+		}
+		return index >= batchStart && index < batchEnd ? index : -1;
+	}
+
 	/**
 	 * Utility method to set the value using dmcli command DMCLI command.
 	 * 
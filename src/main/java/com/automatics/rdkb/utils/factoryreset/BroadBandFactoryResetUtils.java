@@ -38,6 +38,7 @@ import com.automatics.rdkb.utils.wifi.BroadBandWiFiUtils;
 import com.automatics.rdkb.utils.snmp.BroadBandSnmpMib;
 import com.automatics.rdkb.utils.snmp.BroadBandSnmpUtils;
 import com.automatics.rdkb.constants.WebPaParamConstants.WebPaDataTypes;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 import com.automatics.rdkb.utils.DeviceModeHandler;
 import com.automatics.exceptions.TestException;
@@ -1045,6 +1046,7 @@ public class BroadBandFactoryResetUtils {
      */
     public static boolean performFactoryResetTR69(AutomaticsTapApi tapEnv, Dut device) {
 	LOGGER.debug("ENTERING METHOD performFactoryResetTR69");
+	BroadBandWebPaCache.flush(device);
 	long startTime = System.currentTimeMillis();
 	boolean result = false;
 	do {
@@ -1085,6 +1087,7 @@ public class BroadBandFactoryResetUtils {
     public static boolean performFactoryResetWebPaForWifi(AutomaticsTapApi tapEnv, Dut device,
 	    String factoryResetObject) {
 	LOGGER.debug("ENTERING METHOD performFactoryResetWebPaForWifi");
+	BroadBandWebPaCache.flush(device);
 	boolean result = false;
 	try {
 	    if (CommonMethods.isAtomSyncAvailable(device, tapEnv)) {
@@ -1115,6 +1118,7 @@ public class BroadBandFactoryResetUtils {
     public static boolean methodToPerformFactoryResetObjectAndDeviceToComeUp(AutomaticsTapApi tapEnv, Dut device,
 	    String factoryResetObject) {
 	LOGGER.debug("STARTING METHOD: methodToPerformFactoryResetAndDeviceToComeUp()");
+	BroadBandWebPaCache.flush(device);
 	// Variable declaration starts
 	boolean result = false;
 	String errorMessage = "";
@@ -1153,6 +1157,7 @@ public class BroadBandFactoryResetUtils {
      */
     public static boolean performFactoryResetWebPa(AutomaticsTapApi tapEnv, Dut device, String factoryResetObject) {
 	LOGGER.debug("STARTING METHOD performFactoryResetWebPa");
+	BroadBandWebPaCache.flush(device);
 	// Variable declaration starts
 	boolean result = false;
 	String errorMessage = "";
@@ -46,6 +46,7 @@ import com.automatics.test.AutomaticsTestBase;
 import com.automatics.utils.CommonMethods;
 import com.automatics.webpa.WebPaParameter;
 import com.automatics.rdkb.utils.ntp.DeviceTimeParams;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 
 /**
@@ -507,6 +508,7 @@ public class NTPServerUtils extends AutomaticsTestBase {
 					status = BroadBandRfcFeatureControlUtils.copyAndUpdateRfcPropertiesNewXconfUrl(device, tapEnv,
 							proxyXconfUrl);
 					tapEnv.reboot(device);
+					BroadBandWebPaCache.flush(device);
 					if (CommonMethods.waitForEstbIpAcquisition(tapEnv, device)) {
 
 						status = BroadBandWebPaUtils.setParameterValuesUsingWebPaOrDmcli(device, tapEnv,
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.polling;
+
+import java.util.Random;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.tap.AutomaticsTapApi;
+
+/**
+ * Polling engine which repeats a {@link BroadBandPollingTask} until its predicate is satisfied or the hard deadline of
+ * the {@link BroadBandPollingPolicy} is reached, waiting between attempts as defined by the policy.
+ */
+public class BroadBandPollingEngine {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandPollingEngine.class);
+
+    /** Random number generator used for jitter */
+    private static final Random RANDOM = new Random();
+
+    /**
+     * Method to poll the given task until it completes, the deadline is reached or the maximum number of attempts of
+     * the policy is made. The last wait is always cut short so that one final attempt is made exactly at the deadline.
+     * Number of attempts and time taken are logged against the description so that slow converging parameters can be
+     * identified.
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param policy
+     *            {@link BroadBandPollingPolicy} to be used
+     * @param task
+     *            {@link BroadBandPollingTask} to be polled
+     * @param description
+     *            description of the polled operation, e.g. the WebPA parameter name
+     * @return {@link BroadBandPollingResult} with last value, status, number of attempts and time taken
+     */
+    public static <T> BroadBandPollingResult<T> poll(AutomaticsTapApi tapEnv, BroadBandPollingPolicy policy,
+	    BroadBandPollingTask<T> task, String description) {
+	LOGGER.debug("STARTING METHOD: poll");
+	T value = null;
+	boolean complete = false;
+	int attempts = 0;
+	long interval = policy.getInitialInterval();
+	long startTime = System.currentTimeMillis();
+	long remainingTime = 0;
+	do {
+	    attempts++;
+	    value = task.execute();
+	    complete = task.isComplete(value);
+	    if (complete) {
+		break;
+	    }
+	    if (policy.getMaxAttempts() > 0 && attempts >= policy.getMaxAttempts()) {
+		break;
+	    }
+	    remainingTime = policy.getMaxDuration() - (System.currentTimeMillis() - startTime);
+	    if (remainingTime > 0) {
+		long waitTime = policy.applyJitter(interval, RANDOM.nextDouble());
+		if (policy.getMaxAttempts() > 0) {
+		    // Remaining attempts are spread over the remaining time, the last one at the deadline
+		    waitTime = Math.max(waitTime, remainingTime / (policy.getMaxAttempts() - attempts));
+		}
+		waitTime = Math.min(waitTime, remainingTime);
+		LOGGER.debug("Attempt " + attempts + " for " + description + " not complete, waiting for " + waitTime
+			+ " ms");
+		if (waitTime > 0) {
+		    tapEnv.waitTill(waitTime);
+		}
+		interval = policy.nextInterval(interval);
+	    }
+	} while (remainingTime > 0);
+	long elapsedTime = System.currentTimeMillis() - startTime;
+	LOGGER.info("Polling for " + description + (complete ? " converged" : " did not converge") + " after "
+		+ attempts + " attempt(s) in " + elapsedTime + " ms");
+	LOGGER.debug("ENDING METHOD: poll");
+	return new BroadBandPollingResult<T>(value, complete, attempts, elapsedTime);
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.polling;
+
+import com.automatics.rdkb.constants.BroadBandPropertyKeyConstants;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Wait strategy used by {@link BroadBandPollingEngine}. The first wait starts at the initial interval and grows by the
+ * backoff multiplier on every attempt until it reaches the maximum interval. Every wait is randomised by the jitter
+ * percentage and is always cut short at the hard deadline. When a maximum number of attempts is set, the remaining
+ * attempts are spread over the remaining time, so that the early attempts never add to the number of attempts.
+ */
+public class BroadBandPollingPolicy {
+
+    /** Hard deadline for polling in milliseconds */
+    private final long maxDuration;
+
+    /** First wait interval in milliseconds */
+    private final long initialInterval;
+
+    /** Upper bound for a single wait in milliseconds */
+    private final long maxInterval;
+
+    /** Factor by which the wait interval grows after each attempt */
+    private final double backoffMultiplier;
+
+    /** Percentage by which each wait is randomly shortened or lengthened */
+    private final int jitterPercentage;
+
+    /** Maximum number of attempts; 0 if the number of attempts is bounded only by the hard deadline */
+    private final int maxAttempts;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param maxDuration
+     *            hard deadline for polling in milliseconds
+     * @param initialInterval
+     *            first wait interval in milliseconds
+     * @param maxInterval
+     *            upper bound for a single wait in milliseconds
+     * @param backoffMultiplier
+     *            factor by which the wait interval grows after each attempt
+     * @param jitterPercentage
+     *            percentage by which each wait is randomly shortened or lengthened
+     */
+    public BroadBandPollingPolicy(long maxDuration, long initialInterval, long maxInterval, double backoffMultiplier,
+	    int jitterPercentage) {
+	this(maxDuration, initialInterval, maxInterval, backoffMultiplier, jitterPercentage,
+		BroadBandTestConstants.CONSTANT_0);
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param maxDuration
+     *            hard deadline for polling in milliseconds
+     * @param initialInterval
+     *            first wait interval in milliseconds
+     * @param maxInterval
+     *            upper bound for a single wait in milliseconds
+     * @param backoffMultiplier
+     *            factor by which the wait interval grows after each attempt
+     * @param jitterPercentage
+     *            percentage by which each wait is randomly shortened or lengthened
+     * @param maxAttempts
+     *            maximum number of attempts; 0 if the number of attempts is bounded only by the hard deadline
+     */
+    public BroadBandPollingPolicy(long maxDuration, long initialInterval, long maxInterval, double backoffMultiplier,
+	    int jitterPercentage, int maxAttempts) {
+	this.maxDuration = Math.max(BroadBandTestConstants.CONSTANT_0, maxDuration);
+	this.maxInterval = Math.max(BroadBandTestConstants.CONSTANT_0, maxInterval);
+	this.initialInterval = Math.min(Math.max(BroadBandTestConstants.CONSTANT_0, initialInterval), this.maxInterval);
+	this.backoffMultiplier = backoffMultiplier < 1 ? 1 : backoffMultiplier;
+	this.jitterPercentage = Math.min(Math.max(BroadBandTestConstants.CONSTANT_0, jitterPercentage),
+		BroadBandTestConstants.CONSTANT_100);
+	this.maxAttempts = Math.max(BroadBandTestConstants.CONSTANT_0, maxAttempts);
+    }
+
+    /**
+     * Method to create an adaptive policy for the legacy (maxDuration, pollDuration) helpers. The given poll duration
+     * becomes the upper bound of a single wait, so a value which settles quickly is detected within the first few
+     * hundred milliseconds. The number of attempts is capped at the number made by the legacy fixed interval loop, so
+     * the attempts after the early ones are spread over the remaining time.
+     *
+     * @param maxDuration
+     *            hard deadline for polling in milliseconds
+     * @param pollDuration
+     *            maximum wait between two attempts in milliseconds
+     * @return adaptive {@link BroadBandPollingPolicy}
+     */
+    public static BroadBandPollingPolicy adaptive(long maxDuration, long pollDuration) {
+	return new BroadBandPollingPolicy(maxDuration,
+		getLongProperty(BroadBandPropertyKeyConstants.PROP_KEY_POLLING_INITIAL_INTERVAL,
+			BroadBandTestConstants.DEFAULT_POLLING_INITIAL_INTERVAL_IN_MILLIS),
+		pollDuration,
+		getDoubleProperty(BroadBandPropertyKeyConstants.PROP_KEY_POLLING_BACKOFF_MULTIPLIER,
+			BroadBandTestConstants.DEFAULT_POLLING_BACKOFF_MULTIPLIER),
+		(int) getLongProperty(BroadBandPropertyKeyConstants.PROP_KEY_POLLING_JITTER_PERCENTAGE,
+			BroadBandTestConstants.DEFAULT_POLLING_JITTER_PERCENTAGE),
+		getFixedIntervalAttempts(maxDuration, pollDuration));
+    }
+
+    /**
+     * Method to get the number of attempts made by the legacy fixed interval loop, which attempts once, then waits for
+     * the poll duration and attempts again while the maximum duration is not over
+     *
+     * @param maxDuration
+     *            hard deadline for polling in milliseconds
+     * @param pollDuration
+     *            wait between two attempts in milliseconds
+     * @return number of attempts; 0 if the poll duration is not positive
+     */
+    public static int getFixedIntervalAttempts(long maxDuration, long pollDuration) {
+	int attempts = BroadBandTestConstants.CONSTANT_0;
+	if (pollDuration > 0) {
+	    long waits = (Math.max(BroadBandTestConstants.CONSTANT_0, maxDuration) + pollDuration - 1) / pollDuration;
+	    attempts = (int) Math.min(Integer.MAX_VALUE, waits + 1);
+	}
+	return attempts;
+    }
+
+    /**
+     * Method to create a policy which waits for the same duration between every attempt and has no jitter.
+     *
+     * @param maxDuration
+     *            hard deadline for polling in milliseconds
+     * @param pollDuration
+     *            wait between two attempts in milliseconds
+     * @return fixed interval {@link BroadBandPollingPolicy}
+     */
+    public static BroadBandPollingPolicy fixed(long maxDuration, long pollDuration) {
+	return new BroadBandPollingPolicy(maxDuration, pollDuration, pollDuration, 1, BroadBandTestConstants.CONSTANT_0);
+    }
+
+    /**
+     * Method to get the next wait interval from the current one
+     *
+     * @param currentInterval
+     *            current wait interval in milliseconds
+     * @return next wait interval in milliseconds, never more than the maximum interval
+     */
+    public long nextInterval(long currentInterval) {
+	double next = currentInterval * backoffMultiplier;
+	return next >= maxInterval ? maxInterval : (long) next;
+    }
+
+    /**
+     * Method to apply the configured jitter to a wait interval
+     *
+     * @param interval
+     *            wait interval in milliseconds
+     * @param random
+     *            random number in the range [0, 1)
+     * @return randomised wait interval in milliseconds
+     */
+    public long applyJitter(long interval, double random) {
+	long jitterRange = interval * jitterPercentage / BroadBandTestConstants.CONSTANT_100;
+	return interval - jitterRange + (long) (random * ((jitterRange * 2) + 1));
+    }
+
+    /**
+     * Helper method to read a numeric polling property, falling back to the default when the property is not
+     * configured or invalid
+     *
+     * @param propertyKey
+     *            property key
+     * @param defaultValue
+     *            default value
+     * @return configured or default value
+     */
+    private static long getLongProperty(String propertyKey, long defaultValue) {
+	long value = defaultValue;
+	try {
+	    String propertyValue = AutomaticsTapApi.getSTBPropsValue(propertyKey);
+	    if (CommonMethods.isNotNull(propertyValue)) {
+		value = Long.parseLong(propertyValue.trim());
+	    }
+	} catch (Exception e) {
+	    // Property is optional; default value is used
+	}
+	return value;
+    }
+
+    /**
+     * Helper method to read a decimal polling property, falling back to the default when the property is not
+     * configured or invalid
+     *
+     * @param propertyKey
+     *            property key
+     * @param defaultValue
+     *            default value
+     * @return configured or default value
+     */
+    private static double getDoubleProperty(String propertyKey, double defaultValue) {
+	double value = defaultValue;
+	try {
+	    String propertyValue = AutomaticsTapApi.getSTBPropsValue(propertyKey);
+	    if (CommonMethods.isNotNull(propertyValue)) {
+		value = Double.parseDouble(propertyValue.trim());
+	    }
+	} catch (Exception e) {
+	    // Property is optional; default value is used
+	}
+	return value;
+    }
+
+    /**
+     * @return the maxDuration
+     */
+    public long getMaxDuration() {
+	return maxDuration;
+    }
+
+    /**
+     * @return the initialInterval
+     */
+    public long getInitialInterval() {
+	return initialInterval;
+    }
+
+    /**
+     * @return the maxInterval
+     */
+    public long getMaxInterval() {
+	return maxInterval;
+    }
+
+    /**
+     * @return the backoffMultiplier
+     */
+    public double getBackoffMultiplier() {
+	return backoffMultiplier;
+    }
+
+    /**
+     * @return the jitterPercentage
+     */
+    public int getJitterPercentage() {
+	return jitterPercentage;
+    }
+
+    /**
+     * @return the maxAttempts; 0 if the number of attempts is bounded only by the hard deadline
+     */
+    public int getMaxAttempts() {
+	return maxAttempts;
+    }
+}
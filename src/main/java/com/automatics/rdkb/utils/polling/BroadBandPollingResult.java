@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.polling;
+
+/**
+ * Outcome of a {@link BroadBandPollingEngine} run.
+ *
+ * @param <T>
+ *            Type of the value returned by each attempt
+ */
+public class BroadBandPollingResult<T> {
+
+    /** Value returned by the last attempt */
+    private final T value;
+
+    /** True, if the polling condition was satisfied before the deadline */
+    private final boolean complete;
+
+    /** Number of attempts made */
+    private final int attempts;
+
+    /** Time taken in milliseconds */
+    private final long elapsedTime;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param value
+     *            value returned by the last attempt
+     * @param complete
+     *            true, if the polling condition was satisfied
+     * @param attempts
+     *            number of attempts made
+     * @param elapsedTime
+     *            time taken in milliseconds
+     */
+    public BroadBandPollingResult(T value, boolean complete, int attempts, long elapsedTime) {
+	this.value = value;
+	this.complete = complete;
+	this.attempts = attempts;
+	this.elapsedTime = elapsedTime;
+    }
+
+    /**
+     * @return the value
+     */
+    public T getValue() {
+	return value;
+    }
+
+    /**
+     * @return the complete
+     */
+    public boolean isComplete() {
+	return complete;
+    }
+
+    /**
+     * @return the attempts
+     */
+    public int getAttempts() {
+	return attempts;
+    }
+
+    /**
+     * @return the elapsedTime
+     */
+    public long getElapsedTime() {
+	return elapsedTime;
+    }
+}
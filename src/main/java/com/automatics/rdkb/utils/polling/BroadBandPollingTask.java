@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.polling;
+
+/**
+ * Single unit of work executed by {@link BroadBandPollingEngine} on every poll attempt, together with the predicate
+ * which decides whether polling can stop.
+ *
+ * @param <T>
+ *            Type of the value returned by each attempt
+ */
+public interface BroadBandPollingTask<T> {
+
+    /**
+     * Method to perform one poll attempt, e.g. a WebPA get or set.
+     *
+     * @return value obtained in this attempt; can be null
+     */
+    public T execute();
+
+    /**
+     * Method to verify whether the value obtained in an attempt satisfies the polling condition.
+     *
+     * @param result
+     *            value returned by {@link #execute()}
+     * @return true, if polling can stop
+     */
+    public boolean isComplete(T result);
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.snmp;
+
+import com.automatics.snmp.SnmpDataType;
+
+/**
+ * SNMP agent benchmarked by {@link BroadBandSnmpBenchmarkUtils}; either a real device or the local
+ * {@link BroadBandSnmpStandIn}. Each method returns the output of the SNMP command as printed by net-snmp, so that the
+ * benchmark includes parsing the output.
+ */
+public interface BroadBandSnmpBenchmarkTarget {
+
+    /**
+     * Method to get an OID
+     *
+     * @param oid
+     *            OID with table index
+     * @return output of the SNMP get; null if the request failed
+     */
+    public String get(String oid);
+
+    /**
+     * Method to set an OID
+     *
+     * @param oid
+     *            OID with table index
+     * @param dataType
+     *            {@link SnmpDataType} of the value
+     * @param value
+     *            value to be set
+     * @return output of the SNMP set; null if the request failed
+     */
+    public String set(String oid, SnmpDataType dataType, String value);
+
+    /**
+     * Method to walk an OID with one get next request per row
+     *
+     * @param oid
+     *            OID to be walked, e.g. a table column
+     * @return output of the SNMP walk; null if the request failed
+     */
+    public String walk(String oid);
+
+    /**
+     * Method to walk an OID with get bulk requests, each returning several rows
+     *
+     * @param oid
+     *            OID to be walked, e.g. a table column
+     * @return output of the SNMP bulk walk; null if the request failed
+     */
+    public String bulkWalk(String oid);
+}
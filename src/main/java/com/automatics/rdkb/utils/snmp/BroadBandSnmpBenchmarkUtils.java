@@ -0,0 +1,360 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.snmp;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.rdkb.utils.benchmark.BroadBandBenchmarkOperation;
+import com.automatics.rdkb.utils.benchmark.BroadBandBenchmarkResult;
+import com.automatics.rdkb.utils.benchmark.BroadBandBenchmarkRunner;
+import com.automatics.snmp.SnmpDataType;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Utility class which benchmarks SNMP get, set, walk and bulk walk latency and throughput using the OIDs of
+ * {@link BroadBandSnmpMib}, sweeping concurrency. The outputs are parsed as {@link BroadBandSnmpUtils} parses them, so
+ * that parsing is part of the measured latency. OIDs with table index, or ending with the .0 instance, are read with
+ * get; the other OIDs are table columns and are walked.
+ */
+public class BroadBandSnmpBenchmarkUtils {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandSnmpBenchmarkUtils.class);
+
+    /** Operation name of SNMP get scenarios */
+    public static final String OPERATION_SNMP_GET = "SNMP_GET";
+
+    /** Operation name of SNMP set scenarios */
+    public static final String OPERATION_SNMP_SET = "SNMP_SET";
+
+    /** Operation name of SNMP walk scenarios */
+    public static final String OPERATION_SNMP_WALK = "SNMP_WALK";
+
+    /** Operation name of SNMP bulk walk scenarios */
+    public static final String OPERATION_SNMP_BULK_WALK = "SNMP_BULK_WALK";
+
+    /** Default concurrency levels */
+    public static final int[] DEFAULT_CONCURRENCY_LEVELS = { 1, 2, 4, 8 };
+
+    /** Suffix of the OIDs of scalar instances */
+    private static final String SCALAR_INSTANCE_SUFFIX = ".0";
+
+    /**
+     * Method to get a benchmark target which sends requests to the SNMP agents of a device, the ECM for cable modem
+     * OIDs and the eSTB for the other OIDs. As the framework has no SNMP bulk walk command, a bulk walk of the device
+     * is an SNMP walk.
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @return {@link BroadBandSnmpBenchmarkTarget} for the device
+     */
+    public static BroadBandSnmpBenchmarkTarget getDeviceTarget(final Dut device, final AutomaticsTapApi tapEnv) {
+	return new BroadBandSnmpBenchmarkTarget() {
+
+	    @Override
+	    public String get(String oid) {
+		return BroadBandSnmpUtils.isCableModemRelatedOid(oid) ? BroadBandSnmpUtils.snmpGetOnEcm(tapEnv, device,
+			oid) : CommonMethods.snmpGetOnEstb(tapEnv, device, device.getHostIpAddress(), oid);
+	    }
+
+	    @Override
+	    public String set(String oid, SnmpDataType dataType, String value) {
+		return BroadBandSnmpUtils.isCableModemRelatedOid(oid)
+			? BroadBandSnmpUtils.snmpSetOnEcm(tapEnv, device, oid, dataType, value)
+			: BroadBandSnmpUtils.snmpSetOnEstb(tapEnv, device, oid, dataType, value);
+	    }
+
+	    @Override
+	    public String walk(String oid) {
+		return BroadBandSnmpUtils.isCableModemRelatedOid(oid)
+			? BroadBandSnmpUtils.snmpWalkOnEcm(tapEnv, device, oid)
+			: BroadBandSnmpUtils.executeSnmpWalkOnRdkDevices(tapEnv, device, oid);
+	    }
+
+	    @Override
+	    public String bulkWalk(String oid) {
+		return walk(oid);
+	    }
+	};
+    }
+
+    /**
+     * Method to get a local SNMP agent stand-in preloaded with the OIDs of {@link BroadBandSnmpMib}. Instance OIDs hold
+     * the MIB name as STRING, and each table column holds {@link BroadBandTestConstants#SNMP_STAND_IN_TABLE_ROWS} rows
+     * with their row number as INTEGER.
+     *
+     * @param requestLatency
+     *            fixed latency of each request in milliseconds
+     * @param varbindLatency
+     *            additional latency of each variable binding in a response in milliseconds
+     * @param lossPercentage
+     *            percentage of requests which are lost
+     * @param retryTimeout
+     *            time waited for the response of a lost request before retrying, in milliseconds
+     * @param maxConcurrentRequests
+     *            number of requests served concurrently
+     * @return {@link BroadBandSnmpStandIn}
+     */
+    public static BroadBandSnmpStandIn getStandInTarget(long requestLatency, long varbindLatency, int lossPercentage,
+	    long retryTimeout, int maxConcurrentRequests) {
+	BroadBandSnmpStandIn standIn = new BroadBandSnmpStandIn(requestLatency, varbindLatency, lossPercentage,
+		retryTimeout, maxConcurrentRequests);
+	for (BroadBandSnmpMib mib : BroadBandSnmpMib.values()) {
+	    String instanceOid = getInstanceOid(mib);
+	    if (null != instanceOid) {
+		standIn.putValue(instanceOid, "STRING", mib.getName());
+	    } else {
+		for (int row = 1; row <= BroadBandTestConstants.SNMP_STAND_IN_TABLE_ROWS; row++) {
+		    standIn.putValue(getRowOid(mib.getOid(), String.valueOf(row)), "INTEGER",
+			    String.valueOf(row));
+		}
+	    }
+	}
+	return standIn;
+    }
+
+    /**
+     * Method to get the instance OIDs of {@link BroadBandSnmpMib}, which are read with get
+     *
+     * @return list of OIDs with table index or ending with the .0 instance
+     */
+    public static List<String> getInstanceOids() {
+	Set<String> oids = new LinkedHashSet<String>();
+	for (BroadBandSnmpMib mib : BroadBandSnmpMib.values()) {
+	    String instanceOid = getInstanceOid(mib);
+	    if (null != instanceOid) {
+		oids.add(instanceOid);
+	    }
+	}
+	return new ArrayList<String>(oids);
+    }
+
+    /**
+     * Method to get the table column OIDs of {@link BroadBandSnmpMib}, which are walked
+     *
+     * @return list of OIDs without table index and not ending with the .0 instance
+     */
+    public static List<String> getColumnOids() {
+	Set<String> oids = new LinkedHashSet<String>();
+	for (BroadBandSnmpMib mib : BroadBandSnmpMib.values()) {
+	    if (null == getInstanceOid(mib)) {
+		oids.add(mib.getOid());
+	    }
+	}
+	return new ArrayList<String>(oids);
+    }
+
+    /**
+     * Method to benchmark SNMP get for each concurrency. Each request gets the next OID of the list.
+     *
+     * @param target
+     *            {@link BroadBandSnmpBenchmarkTarget}
+     * @param oids
+     *            OIDs with table index
+     * @param concurrencyLevels
+     *            concurrency levels
+     * @param iterations
+     *            number of recorded requests per scenario
+     * @return list of {@link BroadBandBenchmarkResult}, one per scenario
+     */
+    public static List<BroadBandBenchmarkResult> runGetSweep(final BroadBandSnmpBenchmarkTarget target,
+	    final List<String> oids, int[] concurrencyLevels, int iterations) {
+	LOGGER.debug("STARTING METHOD: runGetSweep");
+	List<BroadBandBenchmarkResult> results = new ArrayList<BroadBandBenchmarkResult>();
+	for (int concurrency : concurrencyLevels) {
+	    results.add(run(OPERATION_SNMP_GET, concurrency, iterations, new BroadBandBenchmarkOperation() {
+
+		@Override
+		public boolean execute(int iteration) throws Exception {
+		    return null != getValue(target.get(oids.get(iteration % oids.size())));
+		}
+	    }));
+	}
+	LOGGER.debug("ENDING METHOD: runGetSweep");
+	return results;
+    }
+
+    /**
+     * Method to benchmark SNMP set for each concurrency. Every request sets the same value, so on a device the OID
+     * must be one for which setting the value repeatedly is harmless.
+     *
+     * @param target
+     *            {@link BroadBandSnmpBenchmarkTarget}
+     * @param oid
+     *            OID with table index
+     * @param dataType
+     *            {@link SnmpDataType} of the value
+     * @param value
+     *            value to be set
+     * @param concurrencyLevels
+     *            concurrency levels
+     * @param iterations
+     *            number of recorded requests per scenario
+     * @return list of {@link BroadBandBenchmarkResult}, one per scenario
+     */
+    public static List<BroadBandBenchmarkResult> runSetSweep(final BroadBandSnmpBenchmarkTarget target,
+	    final String oid, final SnmpDataType dataType, final String value, int[] concurrencyLevels,
+	    int iterations) {
+	LOGGER.debug("STARTING METHOD: runSetSweep");
+	List<BroadBandBenchmarkResult> results = new ArrayList<BroadBandBenchmarkResult>();
+	for (int concurrency : concurrencyLevels) {
+	    results.add(run(OPERATION_SNMP_SET, concurrency, iterations, new BroadBandBenchmarkOperation() {
+
+		@Override
+		public boolean execute(int iteration) throws Exception {
+		    return value.equalsIgnoreCase(getValue(target.set(oid, dataType, value)));
+		}
+	    }));
+	}
+	LOGGER.debug("ENDING METHOD: runSetSweep");
+	return results;
+    }
+
+    /**
+     * Method to benchmark SNMP walk, or bulk walk, for each concurrency. Each request walks the next column of the
+     * list and reads its rows as {@link BroadBandSnmpTableReader} does.
+     *
+     * @param target
+     *            {@link BroadBandSnmpBenchmarkTarget}
+     * @param columnOids
+     *            OIDs of table columns
+     * @param isBulk
+     *            true to bulk walk, false to walk
+     * @param concurrencyLevels
+     *            concurrency levels
+     * @param iterations
+     *            number of recorded requests per scenario
+     * @return list of {@link BroadBandBenchmarkResult}, one per scenario
+     */
+    public static List<BroadBandBenchmarkResult> runWalkSweep(final BroadBandSnmpBenchmarkTarget target,
+	    final List<String> columnOids, final boolean isBulk, int[] concurrencyLevels, int iterations) {
+	LOGGER.debug("STARTING METHOD: runWalkSweep");
+	List<BroadBandBenchmarkResult> results = new ArrayList<BroadBandBenchmarkResult>();
+	for (int concurrency : concurrencyLevels) {
+	    results.add(run(isBulk ? OPERATION_SNMP_BULK_WALK : OPERATION_SNMP_WALK, concurrency, iterations,
+		    new BroadBandBenchmarkOperation() {
+
+			@Override
+			public boolean execute(int iteration) throws Exception {
+			    String columnOid = columnOids.get(iteration % columnOids.size());
+			    String output = isBulk ? target.bulkWalk(columnOid) : target.walk(columnOid);
+			    return CommonMethods.isNotNull(output)
+				    && !output.contains(BroadBandTestConstants.SNMP_TIME_OUT_RESPONSE)
+				    && !BroadBandSnmpTableReader.parseWalkOutput(columnOid, output).isEmpty();
+			}
+		    }));
+	}
+	LOGGER.debug("ENDING METHOD: runWalkSweep");
+	return results;
+    }
+
+    /**
+     * Method to run the default get, walk and bulk walk sweeps over the OIDs of {@link BroadBandSnmpMib}, and the set
+     * sweep if an OID to be set is given, and write the report
+     *
+     * @param name
+     *            name of the benchmark, e.g. firmware build under test
+     * @param target
+     *            {@link BroadBandSnmpBenchmarkTarget}
+     * @param setOid
+     *            OID with table index to be set; null to skip the set sweep
+     * @param setDataType
+     *            {@link SnmpDataType} of the value to be set
+     * @param setValue
+     *            value to be set
+     * @param reportFile
+     *            file to which the JSON report is written
+     * @return list of {@link BroadBandBenchmarkResult}
+     */
+    public static List<BroadBandBenchmarkResult> runBenchmark(String name, BroadBandSnmpBenchmarkTarget target,
+	    String setOid, SnmpDataType setDataType, String setValue, File reportFile) {
+	List<BroadBandBenchmarkResult> results = new ArrayList<BroadBandBenchmarkResult>();
+	results.addAll(runGetSweep(target, getInstanceOids(), DEFAULT_CONCURRENCY_LEVELS,
+		BroadBandTestConstants.SNMP_BENCHMARK_DEFAULT_ITERATIONS));
+	if (CommonMethods.isNotNull(setOid)) {
+	    results.addAll(runSetSweep(target, setOid, setDataType, setValue, DEFAULT_CONCURRENCY_LEVELS,
+		    BroadBandTestConstants.SNMP_BENCHMARK_DEFAULT_ITERATIONS));
+	}
+	results.addAll(runWalkSweep(target, getColumnOids(), false, DEFAULT_CONCURRENCY_LEVELS,
+		BroadBandTestConstants.SNMP_BENCHMARK_DEFAULT_ITERATIONS));
+	results.addAll(runWalkSweep(target, getColumnOids(), true, DEFAULT_CONCURRENCY_LEVELS,
+		BroadBandTestConstants.SNMP_BENCHMARK_DEFAULT_ITERATIONS));
+	BroadBandBenchmarkRunner.writeReport(name, results, reportFile);
+	return results;
+    }
+
+    /**
+     * Helper method to run one scenario of single OID requests
+     */
+    private static BroadBandBenchmarkResult run(String operation, int concurrency, int iterations,
+	    BroadBandBenchmarkOperation benchmarkOperation) {
+	return BroadBandBenchmarkRunner.run(new BroadBandBenchmarkResult(operation, 1, concurrency),
+		benchmarkOperation, BroadBandTestConstants.SNMP_BENCHMARK_WARM_UP_ITERATIONS, iterations);
+    }
+
+    /**
+     * Helper method to get the value of the output of SNMP get or set, which may be the value alone; null if the
+     * command timed out or the agent returned no value
+     */
+    private static String getValue(String snmpOutput) {
+	String value = null;
+	if (CommonMethods.isNotNull(snmpOutput)
+		&& !snmpOutput.contains(BroadBandTestConstants.SNMP_TIME_OUT_RESPONSE)) {
+	    BroadBandSnmpVarbind varbind = BroadBandSnmpOutputParser.getFirstVarbind(snmpOutput);
+	    if (null == varbind) {
+		value = snmpOutput.trim();
+	    } else if (!varbind.isException()) {
+		value = varbind.getValue();
+	    }
+	}
+	return value;
+    }
+
+    /**
+     * Helper method to get the OID of the MIB with its table index or .0 instance; null for a table column
+     */
+    private static String getInstanceOid(BroadBandSnmpMib mib) {
+	String instanceOid = null;
+	if (CommonMethods.isNotNull(mib.getTableIndex())) {
+	    instanceOid = getRowOid(mib.getOid(), mib.getTableIndex());
+	} else if (mib.getOid().endsWith(SCALAR_INSTANCE_SUFFIX)) {
+	    instanceOid = mib.getOid();
+	}
+	return instanceOid;
+    }
+
+    /**
+     * Helper method to get the OID of a table row, without the trailing dot some {@link BroadBandSnmpMib} OIDs end with
+     */
+    private static String getRowOid(String oid, String tableIndex) {
+	return oid.replaceAll("\\.+$", BroadBandTestConstants.EMPTY_STRING) + BroadBandTestConstants.DOT_OPERATOR
+		+ tableIndex;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.snmp;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming parser of the output of snmpget, snmpwalk and snmpbulkwalk, returning one {@link BroadBandSnmpVarbind} at a
+ * time. The output is scanned in place by index, without splitting it into lines or fields; only the OID, type and
+ * value of each variable binding are copied. A line starting with an OID followed by " = " starts a variable binding,
+ * any other line continues the value of the previous one, and lines before the first variable binding, like the echo
+ * of the command, are skipped.
+ */
+public class BroadBandSnmpOutputParser implements Iterator<BroadBandSnmpVarbind> {
+
+    /** Separator of the OID and value */
+    private static final String VARBIND_SEPARATOR = " = ";
+
+    /** Separator of the type and value */
+    private static final String TYPE_SEPARATOR = ": ";
+
+    /** Output to be parsed */
+    private final String output;
+
+    /** Start of the next line to be scanned */
+    private int position;
+
+    /** Variable binding read ahead by {@link #hasNext()} */
+    private BroadBandSnmpVarbind nextVarbind;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param output
+     *            output of the SNMP command; null is handled as empty output
+     */
+    public BroadBandSnmpOutputParser(String output) {
+	this.output = null != output ? output : "";
+    }
+
+    /**
+     * Method to get the first variable binding of the output, e.g. the result of snmpget
+     *
+     * @param output
+     *            output of the SNMP command
+     * @return first {@link BroadBandSnmpVarbind}; null if the output has no variable binding
+     */
+    public static BroadBandSnmpVarbind getFirstVarbind(String output) {
+	BroadBandSnmpOutputParser parser = new BroadBandSnmpOutputParser(output);
+	return parser.hasNext() ? parser.next() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+	if (null == nextVarbind) {
+	    nextVarbind = readNext();
+	}
+	return null != nextVarbind;
+    }
+
+    @Override
+    public BroadBandSnmpVarbind next() {
+	if (!hasNext()) {
+	    throw new NoSuchElementException("No more variable bindings in the SNMP output");
+	}
+	BroadBandSnmpVarbind varbind = nextVarbind;
+	nextVarbind = null;
+	return varbind;
+    }
+
+    @Override
+    public void remove() {
+	throw new UnsupportedOperationException("SNMP output is read only");
+    }
+
+    /**
+     * Helper method to read the next variable binding, leaving the position at the start of the following one
+     */
+    private BroadBandSnmpVarbind readNext() {
+	BroadBandSnmpVarbind varbind = null;
+	int length = output.length();
+	while (null == varbind && position < length) {
+	    int lineStart = position;
+	    int lineEnd = getLineEnd(lineStart);
+	    int separatorIndex = getSeparatorIndex(lineStart, lineEnd);
+	    if (separatorIndex < 0) {
+		position = lineEnd + 1;
+		continue;
+	    }
+	    int valueStart = separatorIndex + VARBIND_SEPARATOR.length();
+	    int valueEnd = lineEnd;
+	    position = lineEnd + 1;
+	    // Lines not starting a variable binding continue the value
+	    while (position < length) {
+		lineEnd = getLineEnd(position);
+		if (getSeparatorIndex(position, lineEnd) >= 0) {
+		    break;
+		}
+		valueEnd = lineEnd;
+		position = lineEnd + 1;
+	    }
+	    varbind = createVarbind(skipWhitespace(lineStart), separatorIndex, valueStart, valueEnd);
+	}
+	return varbind;
+    }
+
+    /**
+     * Helper method to get the index of the new line ending the line, or the output length for the last line
+     */
+    private int getLineEnd(int lineStart) {
+	int lineEnd = output.indexOf('\n', lineStart);
+	return lineEnd < 0 ? output.length() : lineEnd;
+    }
+
+    /**
+     * Helper method to get the index of the OID and value separator of a line starting a variable binding, which is
+     * preceded by a dotted OID without whitespace
+     *
+     * @return index of the separator; -1 if the line does not start a variable binding
+     */
+    private int getSeparatorIndex(int lineStart, int lineEnd) {
+	int oidStart = skipWhitespace(lineStart);
+	boolean hasDot = false;
+	int index = oidStart;
+	while (index < lineEnd && !Character.isWhitespace(output.charAt(index))) {
+	    hasDot |= output.charAt(index) == '.';
+	    index++;
+	}
+	return hasDot && index > oidStart && index + VARBIND_SEPARATOR.length() <= lineEnd
+		&& output.startsWith(VARBIND_SEPARATOR, index) ? index : -1;
+    }
+
+    /**
+     * Helper method to get the index of the first character which is not a space or tab
+     */
+    private int skipWhitespace(int index) {
+	int current = index;
+	while (current < output.length() && (output.charAt(current) == ' ' || output.charAt(current) == '\t')) {
+	    current++;
+	}
+	return current;
+    }
+
+    /**
+     * Helper method to create the variable binding, splitting the type from the value and removing the surrounding
+     * quotes of the value
+     */
+    private BroadBandSnmpVarbind createVarbind(int oidStart, int oidEnd, int valueStart, int valueEnd) {
+	int start = valueStart;
+	int end = valueEnd;
+	while (start < end && Character.isWhitespace(output.charAt(start))) {
+	    start++;
+	}
+	while (end > start && Character.isWhitespace(output.charAt(end - 1))) {
+	    end--;
+	}
+	String type = null;
+	int typeEnd = start;
+	while (typeEnd < end && output.charAt(typeEnd) != ':' && output.charAt(typeEnd) != '"'
+		&& !Character.isWhitespace(output.charAt(typeEnd))) {
+	    typeEnd++;
+	}
+	if (typeEnd > start && output.startsWith(TYPE_SEPARATOR, typeEnd) && typeEnd + 1 < end) {
+	    type = output.substring(start, typeEnd);
+	    start = typeEnd + TYPE_SEPARATOR.length();
+	    while (start < end && Character.isWhitespace(output.charAt(start))) {
+		start++;
+	    }
+	}
+	if (end - start > 1 && output.charAt(start) == '"' && output.charAt(end - 1) == '"') {
+	    start++;
+	    end--;
+	}
+	return new BroadBandSnmpVarbind(output.substring(oidStart, oidEnd), type, output.substring(start, end));
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.snmp;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Semaphore;
+
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.snmp.SnmpDataType;
+
+/**
+ * Local, in-process stand-in for a device's SNMP agent, used to run SNMP benchmarks and utilities without lab devices.
+ * OIDs are kept in memory in OID order, and responses are printed as net-snmp prints them. Each request PDU costs a
+ * fixed latency plus a per variable binding latency, so that a walk costs one request per row and a bulk walk one
+ * request per {@link BroadBandTestConstants#SNMP_STAND_IN_MAX_REPETITIONS} rows. A lost request costs the retry
+ * timeout and is retried up to {@link BroadBandTestConstants#SNMP_STAND_IN_RETRIES} times, as net-snmp does, before
+ * the command times out. The number of requests served concurrently can be limited to mimic the single threaded
+ * request handling of the agent.
+ */
+public class BroadBandSnmpStandIn implements BroadBandSnmpBenchmarkTarget {
+
+    /** Address of the agent printed in the time out response */
+    private static final String AGENT_ADDRESS = "localhost";
+
+    /** Value printed for an OID without value */
+    private static final String NO_SUCH_INSTANCE = "No Such Instance currently exists at this OID";
+
+    /** Value printed for a walk of an OID without rows */
+    private static final String NO_SUCH_OBJECT = "No Such Object available on this agent at this OID";
+
+    /** Pattern of a numeric OID component */
+    private static final String PATTERN_NUMERIC_COMPONENT = "\\d+";
+
+    /**
+     * Comparator of OIDs in OID order, i.e. by the numeric value of each component; components which are not numeric,
+     * such as MIB names, sort after the numeric ones and are compared as text
+     */
+    private static final Comparator<String> OID_ORDER = new Comparator<String>() {
+
+	@Override
+	public int compare(String oid, String otherOid) {
+	    String[] components = oid.split("\\.");
+	    String[] otherComponents = otherOid.split("\\.");
+	    int result = 0;
+	    for (int index = 0; result == 0 && index < Math.min(components.length, otherComponents.length); index++) {
+		result = compareComponents(components[index], otherComponents[index]);
+	    }
+	    return result != 0 ? result : components.length - otherComponents.length;
+	}
+
+	/**
+	 * Helper method to compare two OID components, comparing numbers by their length before their digits so that
+	 * components longer than a long do not overflow
+	 */
+	private int compareComponents(String component, String otherComponent) {
+	    boolean isNumeric = component.matches(PATTERN_NUMERIC_COMPONENT);
+	    boolean isOtherNumeric = otherComponent.matches(PATTERN_NUMERIC_COMPONENT);
+	    int result = 0;
+	    if (isNumeric && isOtherNumeric) {
+		String number = component.replaceFirst("^0+(?=\\d)", "");
+		String otherNumber = otherComponent.replaceFirst("^0+(?=\\d)", "");
+		result = number.length() != otherNumber.length() ? number.length() - otherNumber.length()
+			: number.compareTo(otherNumber);
+	    } else if (isNumeric || isOtherNumeric) {
+		result = isNumeric ? -1 : 1;
+	    } else {
+		result = component.compareTo(otherComponent);
+	    }
+	    return result;
+	}
+    };
+
+    /** Variable bindings by OID without leading dot, in OID order */
+    private final ConcurrentNavigableMap<String, BroadBandSnmpVarbind> varbinds = new ConcurrentSkipListMap<String, BroadBandSnmpVarbind>(
+	    OID_ORDER);
+
+    /** Random number generator used for losses */
+    private final Random random = new Random();
+
+    /** Fixed latency of each request in milliseconds */
+    private final long requestLatency;
+
+    /** Additional latency of each variable binding in a response in milliseconds */
+    private final long varbindLatency;
+
+    /** Percentage of requests which are lost */
+    private final int lossPercentage;
+
+    /** Time waited for the response of a lost request before retrying, in milliseconds */
+    private final long retryTimeout;
+
+    /** Permits for requests served concurrently */
+    private final Semaphore concurrentRequests;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param requestLatency
+     *            fixed latency of each request in milliseconds
+     * @param varbindLatency
+     *            additional latency of each variable binding in a response in milliseconds
+     * @param lossPercentage
+     *            percentage of requests which are lost
+     * @param retryTimeout
+     *            time waited for the response of a lost request before retrying, in milliseconds
+     * @param maxConcurrentRequests
+     *            number of requests served concurrently
+     */
+    public BroadBandSnmpStandIn(long requestLatency, long varbindLatency, int lossPercentage, long retryTimeout,
+	    int maxConcurrentRequests) {
+	this.requestLatency = requestLatency;
+	this.varbindLatency = varbindLatency;
+	this.lossPercentage = lossPercentage;
+	this.retryTimeout = retryTimeout;
+	this.concurrentRequests = new Semaphore(Math.max(1, maxConcurrentRequests), true);
+    }
+
+    /**
+     * Method to preload an OID value
+     *
+     * @param oid
+     *            OID with table index
+     * @param type
+     *            type printed before the value, e.g. INTEGER or STRING
+     * @param value
+     *            value of the OID
+     */
+    public void putValue(String oid, String type, String value) {
+	String normalizedOid = normalizeOid(oid);
+	varbinds.put(normalizedOid, new BroadBandSnmpVarbind(normalizedOid, type, value));
+    }
+
+    /**
+     * Method to get an OID value without simulated latency
+     *
+     * @param oid
+     *            OID with table index
+     * @return {@link BroadBandSnmpVarbind} of the OID; null if not present
+     */
+    public BroadBandSnmpVarbind getValue(String oid) {
+	return varbinds.get(normalizeOid(oid));
+    }
+
+    @Override
+    public String get(String oid) {
+	String output = getTimeoutResponse();
+	if (exchange(1)) {
+	    String normalizedOid = normalizeOid(oid);
+	    BroadBandSnmpVarbind varbind = varbinds.get(normalizedOid);
+	    output = format(null != varbind ? varbind : new BroadBandSnmpVarbind(normalizedOid, null, NO_SUCH_INSTANCE));
+	}
+	return output;
+    }
+
+    @Override
+    public String set(String oid, SnmpDataType dataType, String value) {
+	String output = getTimeoutResponse();
+	if (exchange(1)) {
+	    String normalizedOid = normalizeOid(oid);
+	    BroadBandSnmpVarbind varbind = new BroadBandSnmpVarbind(normalizedOid, getType(dataType), value);
+	    varbinds.put(normalizedOid, varbind);
+	    output = format(varbind);
+	}
+	return output;
+    }
+
+    @Override
+    public String walk(String oid) {
+	return walk(oid, 1);
+    }
+
+    @Override
+    public String bulkWalk(String oid) {
+	return walk(oid, BroadBandTestConstants.SNMP_STAND_IN_MAX_REPETITIONS);
+    }
+
+    /**
+     * Helper method to walk the OID with requests returning up to the given number of rows, printing the rows
+     * received before a request times out
+     */
+    private String walk(String oid, int maxRepetitions) {
+	String baseOid = normalizeOid(oid);
+	String prefix = baseOid + BroadBandTestConstants.DOT_OPERATOR;
+	List<BroadBandSnmpVarbind> rows = new ArrayList<BroadBandSnmpVarbind>();
+	for (Map.Entry<String, BroadBandSnmpVarbind> entry : varbinds.tailMap(baseOid, false).entrySet()) {
+	    if (!entry.getKey().startsWith(prefix)) {
+		break;
+	    }
+	    rows.add(entry.getValue());
+	}
+	StringBuilder output = new StringBuilder();
+	// The last request returns the first OID after the walked OID, which ends the walk
+	int remainingVarbinds = rows.size() + 1;
+	int printedRows = 0;
+	while (remainingVarbinds > 0) {
+	    int varbindCount = Math.min(remainingVarbinds, maxRepetitions);
+	    if (!exchange(varbindCount)) {
+		output.append(getTimeoutResponse());
+		break;
+	    }
+	    for (int row = printedRows; row < Math.min(rows.size(), printedRows + varbindCount); row++) {
+		output.append(format(rows.get(row))).append(BroadBandTestConstants.CHAR_NEW_LINE);
+	    }
+	    printedRows = Math.min(rows.size(), printedRows + varbindCount);
+	    remainingVarbinds -= varbindCount;
+	}
+	if (rows.isEmpty() && remainingVarbinds == 0) {
+	    output.append(format(new BroadBandSnmpVarbind(baseOid, null, NO_SUCH_OBJECT)));
+	}
+	return output.toString().trim();
+    }
+
+    /**
+     * Helper method to simulate the exchange of a request and its response, retrying lost requests
+     *
+     * @param varbindCount
+     *            number of variable bindings in the response
+     * @return true, if the response is received
+     */
+    private boolean exchange(int varbindCount) {
+	boolean status = false;
+	try {
+	    for (int attempt = 0; !status && attempt <= BroadBandTestConstants.SNMP_STAND_IN_RETRIES; attempt++) {
+		boolean isLost;
+		synchronized (random) {
+		    isLost = random.nextInt(100) < lossPercentage;
+		}
+		if (isLost) {
+		    Thread.sleep(retryTimeout);
+		} else {
+		    concurrentRequests.acquire();
+		    try {
+			Thread.sleep(requestLatency + varbindLatency * varbindCount);
+			status = true;
+		    } finally {
+			concurrentRequests.release();
+		    }
+		}
+	    }
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	}
+	return status;
+    }
+
+    /**
+     * Helper method to print the variable binding as net-snmp prints it with numeric OIDs
+     */
+    private static String format(BroadBandSnmpVarbind varbind) {
+	StringBuilder line = new StringBuilder(BroadBandTestConstants.DOT_OPERATOR).append(varbind.getOid())
+		.append(" = ");
+	if (null != varbind.getType()) {
+	    line.append(varbind.getType()).append(": ");
+	}
+	if ("STRING".equals(varbind.getType())) {
+	    line.append('"').append(varbind.getValue()).append('"');
+	} else {
+	    line.append(varbind.getValue());
+	}
+	return line.toString();
+    }
+
+    /**
+     * Helper method to get the type printed by net-snmp for the data type
+     */
+    private static String getType(SnmpDataType dataType) {
+	String type = null;
+	switch (dataType) {
+	case INTEGER:
+	    type = "INTEGER";
+	    break;
+	case UNSIGNED_INTEGER:
+	    type = "Gauge32";
+	    break;
+	case HEXADECIMAL:
+	    type = "Hex-STRING";
+	    break;
+	default:
+	    type = "STRING";
+	    break;
+	}
+	return type;
+    }
+
+    /**
+     * Helper method to get the response of a command whose requests were all lost
+     */
+    private static String getTimeoutResponse() {
+	return BroadBandTestConstants.SNMP_TIME_OUT_RESPONSE + " " + AGENT_ADDRESS;
+    }
+
+    /**
+     * Helper method to get the OID without leading, trailing or repeated dots
+     */
+    private static String normalizeOid(String oid) {
+	return oid.trim().replaceAll("\\.{2,}", BroadBandTestConstants.DOT_OPERATOR).replaceAll("^\\.|\\.$",
+		BroadBandTestConstants.EMPTY_STRING);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.snmp;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Utility class which reads a whole SNMP table column, or a whole table, with a single walk instead of one SNMP get per
+ * table index, and returns the rows keyed by table index with their typed values. The {@link BroadBandSnmpMib} entries
+ * sharing a column OID and differing only in table index, like the SSID status rows, are read with one walk per
+ * column.
+ */
+public class BroadBandSnmpTableReader {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandSnmpTableReader.class);
+
+    /** Minimum number of trailing OID components matched to find the table index in a printed OID */
+    private static final int MINIMUM_MATCHED_COMPONENTS = 2;
+
+    /**
+     * Method to read a table column with a single walk
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param columnOid
+     *            OID of the table column, without table index
+     * @return map of table index and {@link BroadBandSnmpVarbind}, in the order of the walk
+     */
+    public static Map<String, BroadBandSnmpVarbind> readColumn(AutomaticsTapApi tapEnv, Dut device,
+	    String columnOid) {
+	LOGGER.debug("STARTING METHOD: readColumn");
+	Map<String, BroadBandSnmpVarbind> column = parseWalkOutput(columnOid, walk(tapEnv, device, columnOid));
+	LOGGER.info("SNMP TABLE COLUMN " + columnOid + " HAS " + column.size() + " ROWS: " + column.keySet());
+	LOGGER.debug("ENDING METHOD: readColumn");
+	return column;
+    }
+
+    /**
+     * Method to read a whole table with a single walk of its entry OID
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param entryOid
+     *            OID of the table entry, the parent of the column OIDs
+     * @return map of column number and map of table index and {@link BroadBandSnmpVarbind}, in the order of the walk
+     */
+    public static Map<String, Map<String, BroadBandSnmpVarbind>> readTable(AutomaticsTapApi tapEnv, Dut device,
+	    String entryOid) {
+	LOGGER.debug("STARTING METHOD: readTable");
+	Map<String, Map<String, BroadBandSnmpVarbind>> table = new LinkedHashMap<String, Map<String, BroadBandSnmpVarbind>>();
+	for (Map.Entry<String, BroadBandSnmpVarbind> row : parseWalkOutput(entryOid, walk(tapEnv, device, entryOid))
+		.entrySet()) {
+	    int dotIndex = row.getKey().indexOf(BroadBandTestConstants.DOT_OPERATOR);
+	    if (dotIndex > 0) {
+		String columnNumber = row.getKey().substring(0, dotIndex);
+		Map<String, BroadBandSnmpVarbind> column = table.get(columnNumber);
+		if (null == column) {
+		    column = new LinkedHashMap<String, BroadBandSnmpVarbind>();
+		    table.put(columnNumber, column);
+		}
+		column.put(row.getKey().substring(dotIndex + 1), row.getValue());
+	    }
+	}
+	LOGGER.info("SNMP TABLE " + entryOid + " HAS COLUMNS: " + table.keySet());
+	LOGGER.debug("ENDING METHOD: readTable");
+	return table;
+    }
+
+    /**
+     * Method to read the values of the MIBs defined with table index, walking each distinct column OID once
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param mibs
+     *            {@link BroadBandSnmpMib} entries with table index
+     * @return map of {@link BroadBandSnmpMib} and {@link BroadBandSnmpVarbind}, holding only the MIBs read
+     */
+    public static Map<BroadBandSnmpMib, BroadBandSnmpVarbind> readMibs(AutomaticsTapApi tapEnv, Dut device,
+	    BroadBandSnmpMib... mibs) {
+	LOGGER.debug("STARTING METHOD: readMibs");
+	Map<String, Map<String, BroadBandSnmpVarbind>> columns = new LinkedHashMap<String, Map<String, BroadBandSnmpVarbind>>();
+	Map<BroadBandSnmpMib, BroadBandSnmpVarbind> values = new LinkedHashMap<BroadBandSnmpMib, BroadBandSnmpVarbind>();
+	for (BroadBandSnmpMib mib : mibs) {
+	    if (CommonMethods.isNull(mib.getTableIndex())) {
+		LOGGER.error("MIB " + mib + " HAS NO TABLE INDEX, IT CANNOT BE READ FROM ITS COLUMN");
+		continue;
+	    }
+	    String columnOid = normalizeOid(mib.getOid());
+	    Map<String, BroadBandSnmpVarbind> column = columns.get(columnOid);
+	    if (null == column) {
+		column = readColumn(tapEnv, device, mib.getOid());
+		columns.put(columnOid, column);
+	    }
+	    BroadBandSnmpVarbind varbind = column.get(mib.getTableIndex());
+	    if (null != varbind) {
+		values.put(mib, varbind);
+	    }
+	}
+	LOGGER.info("READ " + values.size() + " OF " + mibs.length + " MIBS USING " + columns.size() + " WALKS");
+	LOGGER.debug("ENDING METHOD: readMibs");
+	return values;
+    }
+
+    /**
+     * Method to read the rows of the walk output under the given OID, keyed by the OID components following it
+     *
+     * @param baseOid
+     *            OID which was walked
+     * @param snmpOutput
+     *            output of the walk
+     * @return map of table index and {@link BroadBandSnmpVarbind}, in the order of the output
+     */
+    public static Map<String, BroadBandSnmpVarbind> parseWalkOutput(String baseOid, String snmpOutput) {
+	Map<String, BroadBandSnmpVarbind> rows = new LinkedHashMap<String, BroadBandSnmpVarbind>();
+	if (CommonMethods.isNotNull(snmpOutput)) {
+	    String[] baseComponents = normalizeOid(baseOid).split("\\.");
+	    BroadBandSnmpOutputParser parser = new BroadBandSnmpOutputParser(snmpOutput);
+	    while (parser.hasNext()) {
+		BroadBandSnmpVarbind varbind = parser.next();
+		String index = getTableIndex(baseComponents, varbind.getOid());
+		if (null != index) {
+		    rows.put(index, varbind);
+		}
+	    }
+	}
+	return rows;
+    }
+
+    /**
+     * Method to get the table index of a printed OID relative to the walked OID. The printed OID may start with a MIB
+     * prefix, like SNMPv2-SMI::enterprises, so the longest trailing part of the walked OID found in the printed OID is
+     * used.
+     *
+     * @param baseComponents
+     *            components of the walked OID
+     * @param printedOid
+     *            OID as printed in the output
+     * @return table index; null if the printed OID is not under the walked OID
+     */
+    private static String getTableIndex(String[] baseComponents, String printedOid) {
+	String tableIndex = null;
+	String oid = printedOid.trim();
+	for (int start = 0; start <= baseComponents.length - MINIMUM_MATCHED_COMPONENTS
+		&& null == tableIndex; start++) {
+	    StringBuilder suffix = new StringBuilder();
+	    for (int component = start; component < baseComponents.length; component++) {
+		suffix.append(baseComponents[component]).append('.');
+	    }
+	    int suffixIndex = oid.lastIndexOf(suffix.toString());
+	    if (suffixIndex >= 0 && oid.length() > suffixIndex + suffix.length()
+		    && (suffixIndex == 0 || !Character.isDigit(oid.charAt(suffixIndex - 1)))) {
+		tableIndex = oid.substring(suffixIndex + suffix.length());
+	    }
+	}
+	return tableIndex;
+    }
+
+    /**
+     * Helper method to get the OID without leading dot
+     */
+    private static String normalizeOid(String oid) {
+	String normalizedOid = oid.trim();
+	return normalizedOid.startsWith(BroadBandTestConstants.DOT_OPERATOR) ? normalizedOid.substring(1)
+		: normalizedOid;
+    }
+
+    /**
+     * Helper method to walk the OID on the ECM for cable modem OIDs, else on the eSTB
+     */
+    private static String walk(AutomaticsTapApi tapEnv, Dut device, String oid) {
+	return BroadBandSnmpUtils.isCableModemRelatedOid(oid) ? BroadBandSnmpUtils.snmpWalkOnEcm(tapEnv, device, oid)
+		: BroadBandSnmpUtils.executeSnmpWalkOnRdkDevices(tapEnv, device, oid);
+    }
+}
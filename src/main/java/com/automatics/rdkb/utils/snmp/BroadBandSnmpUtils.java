@@ -23,6 +23,7 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -48,6 +49,7 @@ import com.automatics.rdkb.utils.BroadBandCommonUtils;
 import com.automatics.rdkb.utils.BroadbandPropertyFileHandler;
 import com.automatics.rdkb.utils.CommonUtils;
 import com.automatics.rdkb.utils.DeviceModeHandler;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 import com.automatics.snmp.SnmpCommand;
 import com.automatics.snmp.SnmpDataType;
@@ -253,17 +255,20 @@ public class BroadBandSnmpUtils {
 	String snmpProtocol = System.setProperty(SnmpConstants.SYSTEM_PARAM_SNMP_VERSION,
 		SnmpProtocol.SNMP_V3.toString());
 	LOGGER.info("Current SNMP protocol: " + snmpProtocol);
+	BroadBandSnmpV3Session session = BroadBandSnmpV3Session.getInstance(device, null);
 
 	snmpParam = new SnmpParams();
 	snmpParam.setSnmpCommand(SnmpCommand.SET);
 	snmpParam.setSnmpCommunity("CUSTOM");
 	snmpParam.setMibOid(mibOrOid.trim());
 	snmpParam.setCommandOption("-t 10 ");
-	snmpParam.setCommandOption("-OQ -v 3 -u docsisManager");
+	snmpParam.setCommandOption(
+		session.getCommandOption(tapEnv, device, BroadBandSnmpConstants.SNMP_V3_COMMAND_OPTION));
 	snmpParam.setDataType(datatype);
 	snmpParam.setValue(value);
 
 	result = tapEnv.executeSnmpCommand(device, snmpParam);
+	session.verifyResponse(result);
 
 	for (int retryCount = 0; getRetries(result, snmpProtocol, retryCount); ++retryCount) {
 	    LOGGER.info("Retrying snmp .Retry count :" + retryCount);
@@ -272,11 +277,13 @@ public class BroadBandSnmpUtils {
 	    snmpParam.setSnmpCommunity("CUSTOM");
 	    snmpParam.setMibOid(mibOrOid.trim());
 	    snmpParam.setCommandOption("-t 10 ");
-	    snmpParam.setCommandOption("-OQ -v 3 -u docsisManager");
+	    snmpParam.setCommandOption(
+		    session.getCommandOption(tapEnv, device, BroadBandSnmpConstants.SNMP_V3_COMMAND_OPTION));
 	    snmpParam.setDataType(datatype);
 	    snmpParam.setValue(value);
 
 	    result = tapEnv.executeSnmpCommand(device, snmpParam);
+	    session.verifyResponse(result);
 	}
 	return result;
     }
@@ -537,6 +544,22 @@ public class BroadBandSnmpUtils {
 	return snmpCommandOutput;
     }
 
+    /**
+     * Utility method to execute SNMP WALK command on RDKB devices and read the rows one at a time.
+     * 
+     * @param tapEnv
+     *            The {@link AutomaticsTapApi} instance
+     * @param device
+     *            The device to be validated.
+     * @param oidOrMibName
+     *            The MIB or OID name.
+     * @return Iterator of {@link BroadBandSnmpVarbind} over the rows of the SNMP WALK Command output.
+     */
+    public static Iterator<BroadBandSnmpVarbind> iterateSnmpWalkOnRdkDevices(AutomaticsTapApi tapEnv, Dut device,
+	    String oidOrMibName) {
+	return new BroadBandSnmpOutputParser(executeSnmpWalkOnRdkDevices(tapEnv, device, oidOrMibName));
+    }
+
     /**
      * Helper method to parse the system descriptor properties from SNMP command and store it in HashMap for further
      * processing.
@@ -551,26 +574,32 @@ public class BroadBandSnmpUtils {
 	LOGGER.debug("STARTING METHOD : parseSystemDescriptorInformationFromSnmpOutput()");
 
 	HashMap<String, String> systemDescriptor = new HashMap<String, String>();
-
-	if (CommonMethods.isNotNull(sysDescrSnmpOutput)
-		&& sysDescrSnmpOutput.contains(BroadBandTestConstants.LEFT_SHIFT_OPERATOR)
-		&& sysDescrSnmpOutput.contains(BroadBandTestConstants.RIGHT_SHIFT_OPERATOR)) {
-
-	    String[] requiredDescriptor = sysDescrSnmpOutput.split(BroadBandTestConstants.LEFT_SHIFT_OPERATOR)[1]
-		    .replace(BroadBandTestConstants.RIGHT_SHIFT_OPERATOR, BroadBandTestConstants.EMPTY_STRING)
-		    .split(BroadBandTestConstants.SEMI_COLON);
-	    for (String sysDescrField : requiredDescriptor) {
-
-		String[] sysDescrFieldKeyValue = sysDescrField.split(BroadBandTestConstants.DELIMITER_COLON);
-
-		if (CommonMethods.isNotNull(sysDescrFieldKeyValue[0])) {
-		    systemDescriptor.put(sysDescrFieldKeyValue[0].trim(), sysDescrFieldKeyValue[1].trim());
-		} else {
+	int descriptorStart = CommonMethods.isNotNull(sysDescrSnmpOutput)
+		? sysDescrSnmpOutput.indexOf(BroadBandTestConstants.LEFT_SHIFT_OPERATOR)
+		: -1;
+	int descriptorEnd = descriptorStart >= 0
+		? sysDescrSnmpOutput.indexOf(BroadBandTestConstants.RIGHT_SHIFT_OPERATOR, descriptorStart)
+		: -1;
+
+	if (descriptorEnd >= 0) {
+	    // Fields are read in place as key: value pairs separated by semicolon
+	    int fieldStart = descriptorStart + BroadBandTestConstants.LEFT_SHIFT_OPERATOR.length();
+	    while (fieldStart < descriptorEnd) {
+		int fieldEnd = sysDescrSnmpOutput.indexOf(BroadBandTestConstants.SEMI_COLON, fieldStart);
+		fieldEnd = fieldEnd < 0 || fieldEnd > descriptorEnd ? descriptorEnd : fieldEnd;
+		int colonIndex = sysDescrSnmpOutput.indexOf(BroadBandTestConstants.DELIMITER_COLON, fieldStart);
+		String key = colonIndex >= 0 && colonIndex < fieldEnd
+			? sysDescrSnmpOutput.substring(fieldStart, colonIndex).trim()
+			: null;
+
+		if (CommonMethods.isNotNull(key)) {
+		    systemDescriptor.put(key, sysDescrSnmpOutput.substring(colonIndex + 1, fieldEnd).trim());
+		} else if (CommonMethods.isNotNull(sysDescrSnmpOutput.substring(fieldStart, fieldEnd))) {
 		    LOGGER.error(
 			    "parseSystemDescriptorInformationFromSnmpOutput : Either key or value is null observed in system Descriptor field = "
-				    + sysDescrField);
+				    + sysDescrSnmpOutput.substring(fieldStart, fieldEnd));
 		}
-
+		fieldStart = fieldEnd + 1;
 	    }
 	} else {
 	    throw new Exception("Invalid sysDescSnmprOutput!!!!!!!!");
@@ -798,7 +827,7 @@ public class BroadBandSnmpUtils {
      *            OID to be classified
      * @return true if it is CM related OIDs
      */
-    private static boolean isCableModemRelatedOid(String mibOrOid) {
+    public static boolean isCableModemRelatedOid(String mibOrOid) {
 	boolean isCmRelated = false;
 	if (CommonMethods.isNotNull(mibOrOid)) {
 	    mibOrOid = mibOrOid.trim();
@@ -1206,9 +1235,13 @@ public class BroadBandSnmpUtils {
 	    String snmpOutput, String childOid, SnmpDataType dataType, String setValue) {
 	boolean result = false; // stores the test status
 	try {
+	    // Table index is the last OID component of each row of the walk
 	    List<String> tableIndexList = new ArrayList<String>();
-	    tableIndexList = CommonUtils.patternFinderForMultipleMatches(snmpOutput,
-		    BroadBandTestConstants.PATTERN_TO_EXTRACT_TABLE_INDEX);
+	    BroadBandSnmpOutputParser parser = new BroadBandSnmpOutputParser(snmpOutput);
+	    while (parser.hasNext()) {
+		String oid = parser.next().getOid();
+		tableIndexList.add(oid.substring(oid.lastIndexOf(BroadBandTestConstants.DOT_OPERATOR) + 1));
+	    }
 	    if (tableIndexList.size() > BroadBandTestConstants.CONSTANT_0) {
 		result = true;
 		for (String tableIndex : tableIndexList) {
@@ -1371,21 +1404,22 @@ public class BroadBandSnmpUtils {
 	try {
 	    boolean status = false; // stores the test status
 	    String errorMessage = null; // stores the error message
-	    String snmpOutput = null; // stores SNMP output
-	    String webPaOutput = null; // stores webPa output
+	    // SNMP and WebPA outputs are retrieved at the same time
+	    BroadBandSnmpWebPaCrossVerification.CrossCheckResult crossCheckResult = BroadBandSnmpWebPaCrossVerification
+		    .verify(tapEnv, device, new BroadBandSnmpWebPaCrossVerification.CrossCheck(webPaParameter, oid,
+			    tableIndex, BroadBandSnmpWebPaCrossVerification.TEXT_COMPARATOR))
+		    .getResults().get(0);
 
-	    snmpOutput = executeSnmpGetWithTableIndexOnRdkDevices(tapEnv, device, oid, tableIndex);
-	    status = CommonMethods.isNotNull(snmpOutput);
+	    status = crossCheckResult.isSnmpRetrieved();
 	    errorMessage = "Unable to retrieve " + testParameter + " Radio using SNMP";
 	    result.setExecutionStatus(status ? ExecutionStatus.PASSED : ExecutionStatus.FAILED);
 	    if (status) {
-		webPaOutput = tapEnv.executeWebPaCommand(device, webPaParameter);
-		status = CommonMethods.isNotNull(webPaOutput);
+		status = crossCheckResult.isWebPaRetrieved();
 		errorMessage = "Using WebPA unable to retrieve " + testParameter + " Radio";
 		result.setExecutionStatus(ExecutionStatus.NOT_TESTED);
 	    }
 	    if (status) {
-		status = snmpOutput.equalsIgnoreCase(webPaOutput);
+		status = crossCheckResult.isStatus();
 		errorMessage = testParameter + " Radio retrieved from SNMP & WebPA do not match";
 		result.setExecutionStatus(status ? ExecutionStatus.PASSED : ExecutionStatus.FAILED);
 	    }
@@ -1949,18 +1983,21 @@ public class BroadBandSnmpUtils {
 	String snmpProtocol = System.setProperty(SnmpConstants.SYSTEM_PARAM_SNMP_VERSION,
 		SnmpProtocol.SNMP_V2.toString());
 	LOGGER.info("Current SNMP protocol: " + snmpProtocol);
+	BroadBandSnmpV3Session session = BroadBandSnmpV3Session.getInstance(device, CommonUtils.getIPAddress(device));
 
 	snmpParam = new SnmpParams();
 	snmpParam.setSnmpCommand(SnmpCommand.SET);
 	snmpParam.setSnmpCommunity("CUSTOM");
 	snmpParam.setMibOid(mibOrOid.trim());
 	snmpParam.setCommandOption("-t 10 ");
-	snmpParam.setCommandOption("-OQ -v 3 -u docsisManager");
+	snmpParam.setCommandOption(
+		session.getCommandOption(tapEnv, device, BroadBandSnmpConstants.SNMP_V3_COMMAND_OPTION));
 	snmpParam.setDataType(datatype);
 	snmpParam.setValue(value);
 	snmpParam.setIpAddress(CommonUtils.getIPAddress(device));
 
 	result = tapEnv.executeSnmpCommand(device, snmpParam);
+	session.verifyResponse(result);
 
 	for (int retryCount = 0; getRetries(result, snmpProtocol, retryCount); ++retryCount) {
 	    LOGGER.info("Retrying snmp .Retry count :" + retryCount);
@@ -1969,12 +2006,14 @@ public class BroadBandSnmpUtils {
 	    snmpParam.setSnmpCommunity("CUSTOM");
 	    snmpParam.setMibOid(mibOrOid.trim());
 	    snmpParam.setCommandOption("-t 10 ");
-	    snmpParam.setCommandOption("-OQ -v 3 -u docsisManager");
+	    snmpParam.setCommandOption(
+		    session.getCommandOption(tapEnv, device, BroadBandSnmpConstants.SNMP_V3_COMMAND_OPTION));
 	    snmpParam.setDataType(datatype);
 	    snmpParam.setValue(value);
 	    snmpParam.setIpAddress(CommonUtils.getIPAddress(device));
 
 	    result = tapEnv.executeSnmpCommand(device, snmpParam);
+	    session.verifyResponse(result);
 	}
 	return result;
     }
@@ -2091,6 +2130,8 @@ public class BroadBandSnmpUtils {
 //		AutomaticsUtils.sleep(AutomaticsConstants.TEN_SECONDS);
 		
 	    if (CommonMethods.rebootAndWaitForIpAccusition(device, tapEnv)) {
+		BroadBandWebPaCache.flush(device);
+		BroadBandSnmpV3Session.reset(device);
 		isStbAccessible = getSystemUpTimeUsingSnmp(tapEnv, device, BroadBandTestConstants.TEN_MINUTE_IN_MILLIS,
 			BroadBandTestConstants.BOOLEAN_VALUE_TRUE, BroadBandTestConstants.CONSTANT_420);
 		LOGGER.info("Device is accessible after reboot :" + isStbAccessible);
@@ -2299,6 +2340,7 @@ public class BroadBandSnmpUtils {
 			    BroadBandTestConstants.BOOLEAN_VALUE_FALSE, BroadBandTestConstants.CONSTANT_540);
 		    LOGGER.info("Device is rebooted :" + isRebooted);
 		    if (isRebooted) {
+			BroadBandSnmpV3Session.reset(device);
 			result = getSystemUpTimeUsingSnmp(tapEnv, device,
 				BroadBandTestConstants.FIFTEEN_MINUTES_IN_MILLIS,
 				BroadBandTestConstants.BOOLEAN_VALUE_TRUE, BroadBandTestConstants.CONSTANT_540);
@@ -2429,6 +2471,10 @@ public class BroadBandSnmpUtils {
 	    indexList = BroadBandSnmpConstants.RDKB_WIFI_STATUS_SNMP_MIBS_BUSINESSCLASS;
 	}
 	try {
+	    // Read all SSID status rows with one walk; rows not matching yet are polled one by one
+	    Map<String, BroadBandSnmpVarbind> statusColumn = isSetOper ? null
+		    : BroadBandSnmpTableReader.readColumn(tapEnv, device,
+			    BroadBandSnmpMib.ECM_STATUS_PRIVATE_WIFI_5_GHZ.getOid());
 	    for (String index : indexList) {
 		if (isSetOper) {
 		    LOGGER.info("Performing snmp set operation");
@@ -2443,8 +2489,13 @@ public class BroadBandSnmpUtils {
 		    if (index.equalsIgnoreCase("10102") && isdefault) {
 			expectedValue = BroadBandTestConstants.STRING_CONSTANT_2;
 		    }
-		    result = BroadBandSnmpUtils.performSnmpGetOnRdkDevicesAndVerify(tapEnv, device,
-			    BroadBandSnmpMib.ECM_STATUS_PRIVATE_WIFI_5_GHZ.getOid(), index, expectedValue);
+		    BroadBandSnmpVarbind status = statusColumn.get(index);
+		    result = null != status && BroadBandCommonUtils.compareValues(
+			    BroadBandTestConstants.CONSTANT_TXT_COMPARISON, expectedValue, status.getValue());
+		    if (!result) {
+			result = BroadBandSnmpUtils.performSnmpGetOnRdkDevicesAndVerify(tapEnv, device,
+				BroadBandSnmpMib.ECM_STATUS_PRIVATE_WIFI_5_GHZ.getOid(), index, expectedValue);
+		    }
 		    if (index.equalsIgnoreCase("10102") && isdefault) {
 			expectedValue = BroadBandTestConstants.STRING_CONSTANT_1;
 		    }
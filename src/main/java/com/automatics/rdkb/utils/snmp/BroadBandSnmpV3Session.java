@@ -0,0 +1,256 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.snmp;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.snmp.SnmpCommand;
+import com.automatics.snmp.SnmpParams;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * SNMPv3 session of a device agent, caching the authoritative engine ID, engine boots and engine time discovered once,
+ * so that later SNMPv3 commands pass them with the -e and -Z options instead of repeating the USM engine discovery
+ * exchange. The session is discovered again after a response showing that the engine changed or did not answer, as
+ * after a reboot, and can be reset explicitly when the device is rebooted.
+ */
+public class BroadBandSnmpV3Session {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandSnmpV3Session.class);
+
+    /** Sessions by device and agent address */
+    private static final ConcurrentMap<String, BroadBandSnmpV3Session> SESSIONS = new ConcurrentHashMap<String, BroadBandSnmpV3Session>();
+
+    /** OID of snmpEngineID.0 */
+    private static final String OID_SNMP_ENGINE_ID = "1.3.6.1.6.3.10.2.1.1.0";
+
+    /** OID of snmpEngineBoots.0 */
+    private static final String OID_SNMP_ENGINE_BOOTS = "1.3.6.1.6.3.10.2.1.2.0";
+
+    /** OID of snmpEngineTime.0 */
+    private static final String OID_SNMP_ENGINE_TIME = "1.3.6.1.6.3.10.2.1.3.0";
+
+    /** Pattern of a valid engine ID, 5 to 32 octets as hexadecimal digits */
+    private static final String PATTERN_ENGINE_ID = "([0-9A-Fa-f]{2}){5,32}";
+
+    /** Responses showing that the cached engine details are no longer valid */
+    private static final String[] ENGINE_ERRORS = { "Timeout", "Unknown engine ID", "unknownEngineID",
+	    "notInTimeWindow", "Not in time window", "No response from" };
+
+    /** Address of the agent; null for the default agent of the device */
+    private final String ipAddress;
+
+    /** Authoritative engine ID as hexadecimal digits; null if not discovered */
+    private String engineId;
+
+    /** Engine boots; -1 if not discovered */
+    private long engineBoots = -1;
+
+    /** Engine time in seconds at discovery; -1 if not discovered */
+    private long engineTime = -1;
+
+    /** Time of the discovery */
+    private long discoveryTime;
+
+    /** Whether discovery was attempted since the last invalidation */
+    private boolean isDiscoveryAttempted;
+
+    /**
+     * Constructor with parameters.
+     */
+    private BroadBandSnmpV3Session(String ipAddress) {
+	this.ipAddress = ipAddress;
+    }
+
+    /**
+     * Method to get the session of the device agent, creating it on first use
+     *
+     * @param device
+     *            {@link Dut}
+     * @param ipAddress
+     *            address of the agent; null for the default agent of the device, i.e. the ECM
+     * @return {@link BroadBandSnmpV3Session}
+     */
+    public static BroadBandSnmpV3Session getInstance(Dut device, String ipAddress) {
+	String key = getKey(device, ipAddress);
+	BroadBandSnmpV3Session session = SESSIONS.get(key);
+	if (null == session) {
+	    SESSIONS.putIfAbsent(key, new BroadBandSnmpV3Session(ipAddress));
+	    session = SESSIONS.get(key);
+	}
+	return session;
+    }
+
+    /**
+     * Method to discard the sessions of all agents of the device, e.g. after a reboot
+     *
+     * @param device
+     *            {@link Dut}
+     */
+    public static void reset(Dut device) {
+	String prefix = getKey(device, null);
+	for (String key : SESSIONS.keySet()) {
+	    if (key.startsWith(prefix)) {
+		SESSIONS.remove(key);
+	    }
+	}
+	LOGGER.info("SNMPv3 SESSIONS RESET FOR DEVICE " + device.getHostMacAddress());
+    }
+
+    /**
+     * Method to get the command option with the engine details of the session appended, discovering them on first
+     * use. Without engine details the command option is returned unchanged, so that the SNMP command discovers the
+     * engine itself.
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param commandOption
+     *            SNMPv3 command option, also used for the discovery
+     * @return command option with the engine details
+     */
+    public synchronized String getCommandOption(AutomaticsTapApi tapEnv, Dut device, String commandOption) {
+	if (!isDiscoveryAttempted) {
+	    discover(tapEnv, device, commandOption);
+	}
+	StringBuilder option = new StringBuilder(null != commandOption ? commandOption.trim() : "");
+	if (null != engineId) {
+	    option.append(" -e 0x").append(engineId);
+	    if (engineBoots >= 0 && engineTime >= 0) {
+		long elapsedSeconds = (System.currentTimeMillis() - discoveryTime)
+			/ BroadBandTestConstants.ONE_SECOND_IN_MILLIS;
+		option.append(" -Z ").append(engineBoots).append(',').append(engineTime + elapsedSeconds);
+	    }
+	}
+	return option.toString().trim();
+    }
+
+    /**
+     * Method to check the response of a command executed with the session, invalidating the engine details when the
+     * response shows that the engine changed or did not answer
+     *
+     * @param response
+     *            response of the SNMP command
+     * @return true if the engine details are still valid
+     */
+    public synchronized boolean verifyResponse(String response) {
+	boolean isValid = CommonMethods.isNotNull(response);
+	for (int index = 0; isValid && index < ENGINE_ERRORS.length; index++) {
+	    isValid = !response.contains(ENGINE_ERRORS[index]);
+	}
+	if (!isValid && isDiscoveryAttempted) {
+	    LOGGER.info("SNMPv3 ENGINE OF " + (null != ipAddress ? ipAddress : "DEFAULT AGENT")
+		    + " TO BE DISCOVERED AGAIN, RESPONSE: " + response);
+	    invalidate();
+	}
+	return isValid;
+    }
+
+    /**
+     * Method to discard the engine details, so that they are discovered again on next use
+     */
+    public synchronized void invalidate() {
+	engineId = null;
+	engineBoots = -1;
+	engineTime = -1;
+	isDiscoveryAttempted = false;
+    }
+
+    /**
+     * @return the engine ID as hexadecimal digits; null if not discovered
+     */
+    public synchronized String getEngineId() {
+	return engineId;
+    }
+
+    /**
+     * Helper method to discover the engine ID, boots and time of the agent
+     */
+    private void discover(AutomaticsTapApi tapEnv, Dut device, String commandOption) {
+	long startTime = System.currentTimeMillis();
+	isDiscoveryAttempted = true;
+	String engineIdValue = getValue(tapEnv, device, commandOption, OID_SNMP_ENGINE_ID);
+	if (null != engineIdValue) {
+	    String hexEngineId = engineIdValue.replaceFirst("^0[xX]", "").replaceAll("[\\s:]",
+		    BroadBandTestConstants.EMPTY_STRING);
+	    engineId = hexEngineId.matches(PATTERN_ENGINE_ID) ? hexEngineId.toUpperCase() : null;
+	}
+	if (null != engineId) {
+	    Long boots = getNumericValue(getValue(tapEnv, device, commandOption, OID_SNMP_ENGINE_BOOTS));
+	    Long time = getNumericValue(getValue(tapEnv, device, commandOption, OID_SNMP_ENGINE_TIME));
+	    discoveryTime = System.currentTimeMillis();
+	    engineBoots = null != boots && null != time ? boots : -1;
+	    engineTime = null != boots && null != time ? time : -1;
+	}
+	LOGGER.info("SNMPv3 ENGINE OF " + (null != ipAddress ? ipAddress : "DEFAULT AGENT") + " DISCOVERED IN "
+		+ (System.currentTimeMillis() - startTime) + " ms: ENGINE ID = " + engineId + ", BOOTS = "
+		+ engineBoots + ", TIME = " + engineTime);
+    }
+
+    /**
+     * Helper method to get the value of the OID from the agent; null if not available
+     */
+    private String getValue(AutomaticsTapApi tapEnv, Dut device, String commandOption, String oid) {
+	SnmpParams snmpParam = new SnmpParams();
+	snmpParam.setSnmpCommand(SnmpCommand.GET);
+	snmpParam.setSnmpCommunity("CUSTOM");
+	snmpParam.setMibOid(oid);
+	if (CommonMethods.isNotNull(commandOption)) {
+	    snmpParam.setCommandOption(commandOption);
+	}
+	if (null != ipAddress) {
+	    snmpParam.setIpAddress(ipAddress);
+	}
+	String value = null;
+	try {
+	    String response = tapEnv.executeSnmpCommand(device, snmpParam);
+	    if (CommonMethods.isNotNull(response)) {
+		BroadBandSnmpVarbind varbind = BroadBandSnmpOutputParser.getFirstVarbind(response);
+		value = null != varbind ? varbind.getValue() : response.trim();
+		value = null != varbind && varbind.isException() ? null : value;
+	    }
+	} catch (Exception exception) {
+	    LOGGER.error("Exception occurred while discovering the SNMPv3 engine: " + exception.getMessage());
+	}
+	return value;
+    }
+
+    /**
+     * Helper method to get the numeric value of an SNMP value; null if not numeric
+     */
+    private static Long getNumericValue(String value) {
+	return null != value ? new BroadBandSnmpVarbind(null, null, value).getNumericValue() : null;
+    }
+
+    /**
+     * Helper method to get the key of the session of the device agent
+     */
+    private static String getKey(Dut device, String ipAddress) {
+	return device.getHostMacAddress() + BroadBandTestConstants.DELIMITER_HASH
+		+ (null != ipAddress ? ipAddress : BroadBandTestConstants.EMPTY_STRING);
+    }
+}
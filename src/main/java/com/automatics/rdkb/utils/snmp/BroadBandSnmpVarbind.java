@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.snmp;
+
+/**
+ * Variable binding read from the output of an SNMP command, holding the OID as printed, the type printed before the
+ * value (e.g. INTEGER, STRING, Gauge32, Timeticks) and the value without surrounding quotes.
+ */
+public class BroadBandSnmpVarbind {
+
+    /** Prefix of the values printed for an OID without value */
+    private static final String NO_SUCH_PREFIX = "No Such ";
+
+    /** Value printed at the end of the MIB view */
+    private static final String END_OF_MIB_VIEW = "No more variables left in this MIB View";
+
+    /** Type of the values printed as hexadecimal bytes, which are not numeric */
+    private static final String HEX_STRING_TYPE = "Hex-STRING";
+
+    /** OID as printed */
+    private final String oid;
+
+    /** Type as printed; null if the value has no type */
+    private final String type;
+
+    /** Value without surrounding quotes */
+    private final String value;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param oid
+     *            OID as printed
+     * @param type
+     *            type as printed; null if the value has no type
+     * @param value
+     *            value without surrounding quotes
+     */
+    public BroadBandSnmpVarbind(String oid, String type, String value) {
+	this.oid = oid;
+	this.type = type;
+	this.value = value;
+    }
+
+    /**
+     * @return the OID as printed
+     */
+    public String getOid() {
+	return oid;
+    }
+
+    /**
+     * @return the type as printed; null if the value has no type
+     */
+    public String getType() {
+	return type;
+    }
+
+    /**
+     * @return the value without surrounding quotes
+     */
+    public String getValue() {
+	return value;
+    }
+
+    /**
+     * @return true if the agent returned no value for the OID, e.g. No Such Instance or end of MIB view
+     */
+    public boolean isException() {
+	return null == type && null != value && (value.startsWith(NO_SUCH_PREFIX) || value.startsWith(END_OF_MIB_VIEW));
+    }
+
+    /**
+     * Method to get the numeric value of INTEGER, counter, gauge and time ticks types. Enumerated integers printed as
+     * label(number) and time ticks printed as (number) text give the number.
+     *
+     * @return numeric value; null if the value is not numeric
+     */
+    public Long getNumericValue() {
+	Long numericValue = null;
+	if (null != value && !HEX_STRING_TYPE.equals(type)) {
+	    String number = value;
+	    int openIndex = value.indexOf('(');
+	    int closeIndex = value.indexOf(')', openIndex + 1);
+	    if (openIndex >= 0 && closeIndex > openIndex) {
+		number = value.substring(openIndex + 1, closeIndex);
+	    } else {
+		int spaceIndex = value.indexOf(' ');
+		number = spaceIndex > 0 ? value.substring(0, spaceIndex) : value;
+	    }
+	    try {
+		numericValue = Long.valueOf(number.trim());
+	    } catch (NumberFormatException e) {
+		numericValue = null;
+	    }
+	}
+	return numericValue;
+    }
+
+    @Override
+    public String toString() {
+	return oid + " = " + (null != type ? type + ": " : "") + value;
+    }
+}
@@ -0,0 +1,686 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.snmp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.BroadBandResultObject;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.rdkb.utils.BroadBandCommonUtils;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Utility class which cross verifies the values of TR-181 parameters read over WebPA with the values of the matching
+ * OIDs read over SNMP. The WebPA parameters are read in batches with bulk WebPA gets, and the OIDs sharing a table
+ * column with a single walk of the column; the WebPA batches and SNMP reads all run at the same time, so that the
+ * verification takes about as long as the slowest read instead of the sum of all reads. The outcome of every check is
+ * returned in a single {@link CrossVerificationReport}.
+ */
+public class BroadBandSnmpWebPaCrossVerification {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandSnmpWebPaCrossVerification.class);
+
+    /** Table index matching the first row of the column, for values which may be read from any row */
+    public static final String FIRST_ROW_INDEX = "*";
+
+    /** Pattern of the first number of a value */
+    private static final String PATTERN_NUMBER = "(-?\\d+(?:\\.\\d+)?)";
+
+    /** Comparator of the values as text, ignoring case and surrounding whitespace */
+    public static final ValueComparator TEXT_COMPARATOR = new ValueComparator() {
+
+	@Override
+	public boolean isMatching(String webPaValue, String snmpValue) {
+	    return BroadBandCommonUtils.compareValues(BroadBandTestConstants.CONSTANT_TXT_COMPARISON, webPaValue,
+		    snmpValue);
+	}
+    };
+
+    /** Executor of the WebPA and SNMP reads, shared by all devices */
+    private static final ExecutorService READ_EXECUTOR = Executors.newFixedThreadPool(
+	    BroadBandTestConstants.CROSS_VERIFICATION_MAX_CONCURRENCY, new ThreadFactory() {
+
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+		    Thread thread = new Thread(runnable,
+			    "snmp-webpa-cross-verification-" + threadCount.incrementAndGet());
+		    thread.setDaemon(true);
+		    return thread;
+		}
+	    });
+
+    /**
+     * Method to get a comparator of the first number of each value, which matches when the SNMP number divided by the
+     * scale is within the tolerance of the WebPA number, e.g. for levels read over SNMP in tenths of dB
+     *
+     * @param snmpScale
+     *            divisor of the SNMP number to get the unit of the WebPA number
+     * @param tolerance
+     *            maximum difference of the numbers
+     * @return {@link ValueComparator}
+     */
+    public static ValueComparator getNumericComparator(final double snmpScale, final double tolerance) {
+	return new ValueComparator() {
+
+	    @Override
+	    public boolean isMatching(String webPaValue, String snmpValue) {
+		String webPaNumber = CommonMethods.patternFinder(webPaValue, PATTERN_NUMBER);
+		String snmpNumber = CommonMethods.patternFinder(snmpValue, PATTERN_NUMBER);
+		return CommonMethods.isNotNull(webPaNumber) && CommonMethods.isNotNull(snmpNumber)
+			&& Math.abs(Double.parseDouble(snmpNumber) / snmpScale
+				- Double.parseDouble(webPaNumber)) <= tolerance;
+	    }
+	};
+    }
+
+    /**
+     * Method to cross verify the values of the WebPA parameters with the values of the OIDs
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param checks
+     *            {@link CrossCheck} of each WebPA parameter and OID
+     * @return {@link CrossVerificationReport} with the outcome of each check, in the order of the checks
+     */
+    public static CrossVerificationReport verify(AutomaticsTapApi tapEnv, Dut device, CrossCheck... checks) {
+	return verify(tapEnv, device, Arrays.asList(checks));
+    }
+
+    /**
+     * Method to cross verify the values of the WebPA parameters with the values of the OIDs. Each distinct WebPA
+     * parameter is read once, in batches of {@link BroadBandTestConstants#CROSS_VERIFICATION_WEBPA_BATCH_SIZE}. An OID
+     * without table index is read with SNMP get; a table column with several checks, or with a check of
+     * {@link #FIRST_ROW_INDEX}, is read with a single walk, and a column with a single check with SNMP get of its row.
+     * Reads which do not complete within {@link BroadBandTestConstants#CROSS_VERIFICATION_TIMEOUT_IN_MILLIS} are
+     * reported as not retrieved.
+     *
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param device
+     *            {@link Dut}
+     * @param checks
+     *            {@link CrossCheck} of each WebPA parameter and OID
+     * @return {@link CrossVerificationReport} with the outcome of each check, in the order of the checks
+     */
+    public static CrossVerificationReport verify(AutomaticsTapApi tapEnv, Dut device, List<CrossCheck> checks) {
+	LOGGER.debug("STARTING METHOD: verify");
+	long startTime = System.currentTimeMillis();
+	List<Future<Map<String, String>>> webPaFutures = new ArrayList<Future<Map<String, String>>>();
+	List<Future<Map<String, String>>> snmpFutures = new ArrayList<Future<Map<String, String>>>();
+
+	Set<String> parameters = new LinkedHashSet<String>();
+	Map<String, List<CrossCheck>> columns = new LinkedHashMap<String, List<CrossCheck>>();
+	Map<String, CrossCheck> scalars = new LinkedHashMap<String, CrossCheck>();
+	for (CrossCheck check : checks) {
+	    parameters.add(check.getWebPaParameter());
+	    if (CommonMethods.isNull(check.getTableIndex())) {
+		scalars.put(check.getSnmpKey(), check);
+	    } else {
+		String columnOid = normalizeOid(check.getOid());
+		List<CrossCheck> columnChecks = columns.get(columnOid);
+		if (null == columnChecks) {
+		    columnChecks = new ArrayList<CrossCheck>();
+		    columns.put(columnOid, columnChecks);
+		}
+		columnChecks.add(check);
+	    }
+	}
+
+	List<String> parameterList = new ArrayList<String>(parameters);
+	int batchSize = BroadBandTestConstants.CROSS_VERIFICATION_WEBPA_BATCH_SIZE;
+	for (int start = 0; start < parameterList.size(); start += batchSize) {
+	    List<String> batch = parameterList.subList(start, Math.min(parameterList.size(), start + batchSize));
+	    webPaFutures.add(READ_EXECUTOR.submit(new WebPaRead(tapEnv, device, batch.toArray(new String[batch.size()]))));
+	}
+	for (CrossCheck check : scalars.values()) {
+	    snmpFutures.add(READ_EXECUTOR.submit(new SnmpRead(tapEnv, device, Arrays.asList(check), false)));
+	}
+	for (List<CrossCheck> columnChecks : columns.values()) {
+	    boolean isColumnWalked = columnChecks.size() > 1
+		    || FIRST_ROW_INDEX.equals(columnChecks.get(0).getTableIndex());
+	    snmpFutures.add(READ_EXECUTOR.submit(new SnmpRead(tapEnv, device, columnChecks, isColumnWalked)));
+	}
+
+	long deadline = startTime + BroadBandTestConstants.CROSS_VERIFICATION_TIMEOUT_IN_MILLIS;
+	Map<String, String> webPaValues = getValues(webPaFutures, deadline);
+	Map<String, String> snmpValues = getValues(snmpFutures, deadline);
+
+	CrossVerificationReport report = new CrossVerificationReport(webPaFutures.size(), snmpFutures.size());
+	for (CrossCheck check : checks) {
+	    report.results.add(compare(check, webPaValues.get(check.getWebPaParameter()),
+		    snmpValues.get(check.getSnmpKey())));
+	}
+	report.durationMillis = System.currentTimeMillis() - startTime;
+	LOGGER.info("SNMP AND WEBPA CROSS VERIFICATION REPORT:\n" + report);
+	LOGGER.debug("ENDING METHOD: verify");
+	return report;
+    }
+
+    /**
+     * Helper method to wait for the reads until the deadline and merge the values read, cancelling the reads which did
+     * not complete
+     */
+    private static Map<String, String> getValues(List<Future<Map<String, String>>> futures, long deadline) {
+	Map<String, String> values = new HashMap<String, String>();
+	for (Future<Map<String, String>> future : futures) {
+	    try {
+		Map<String, String> readValues = future.get(Math.max(0, deadline - System.currentTimeMillis()),
+			TimeUnit.MILLISECONDS);
+		if (null != readValues) {
+		    values.putAll(readValues);
+		}
+	    } catch (TimeoutException e) {
+		LOGGER.error("Timed out waiting for the WebPA/SNMP read of the cross verification");
+		future.cancel(true);
+	    } catch (InterruptedException e) {
+		LOGGER.error("Interrupted while waiting for the WebPA/SNMP read of the cross verification");
+		future.cancel(true);
+		Thread.currentThread().interrupt();
+	    } catch (ExecutionException e) {
+		LOGGER.error("Exception occured during the WebPA/SNMP read of the cross verification: "
+			+ e.getMessage());
+	    }
+	}
+	return values;
+    }
+
+    /**
+     * Helper method to compare the values of a check
+     */
+    private static CrossCheckResult compare(CrossCheck check, String webPaValue, String snmpValue) {
+	boolean status = false;
+	String errorMessage = null;
+	if (CommonMethods.isNull(webPaValue)) {
+	    errorMessage = "Unable to retrieve value for param '" + check.getWebPaParameter() + "' from WebPA";
+	} else if (CommonMethods.isNull(snmpValue)) {
+	    errorMessage = "Unable to retrieve value for OID '" + check.getOid() + "' from SNMP";
+	} else {
+	    try {
+		status = check.getComparator().isMatching(webPaValue, snmpValue);
+	    } catch (Exception e) {
+		LOGGER.error("Exception occured while comparing the values of " + check + ": " + e.getMessage());
+	    }
+	    errorMessage = status ? null
+		    : "Value retrieved from WEBPA and SNMP do not match. Value from WEBPA : " + webPaValue
+			    + "; Value from SNMP : " + snmpValue;
+	}
+	return new CrossCheckResult(check, webPaValue, snmpValue, status, errorMessage);
+    }
+
+    /**
+     * Helper method to get the value of the output of SNMP get; null if the agent returned no value
+     */
+    private static String getSnmpValue(String snmpOutput) {
+	String value = null;
+	if (CommonMethods.isNotNull(snmpOutput)) {
+	    BroadBandSnmpVarbind varbind = BroadBandSnmpOutputParser.getFirstVarbind(snmpOutput);
+	    if (null == varbind) {
+		value = snmpOutput.trim();
+	    } else if (!varbind.isException()) {
+		value = varbind.getValue();
+	    }
+	}
+	return value;
+    }
+
+    /**
+     * Helper method to get the OID without leading dot
+     */
+    private static String normalizeOid(String oid) {
+	String normalizedOid = oid.trim();
+	return normalizedOid.startsWith(BroadBandTestConstants.DOT_OPERATOR) ? normalizedOid.substring(1)
+		: normalizedOid;
+    }
+
+    /**
+     * Comparator of the values read over WebPA and SNMP
+     */
+    public interface ValueComparator {
+
+	/**
+	 * Method to compare the values
+	 *
+	 * @param webPaValue
+	 *            value read over WebPA
+	 * @param snmpValue
+	 *            value read over SNMP
+	 * @return true if the values match
+	 */
+	boolean isMatching(String webPaValue, String snmpValue);
+    }
+
+    /**
+     * Check of a WebPA parameter against an OID
+     */
+    public static class CrossCheck {
+
+	/** TR-181 parameter read over WebPA */
+	private final String webPaParameter;
+
+	/** OID read over SNMP, or its table column OID */
+	private final String oid;
+
+	/** Table index of the OID; null if the OID is read as is */
+	private final String tableIndex;
+
+	/** Comparator of the values */
+	private final ValueComparator comparator;
+
+	/**
+	 * Constructor with parameters.
+	 *
+	 * @param webPaParameter
+	 *            TR-181 parameter read over WebPA
+	 * @param oid
+	 *            OID read over SNMP, or its table column OID
+	 * @param tableIndex
+	 *            table index of the OID, or {@link BroadBandSnmpWebPaCrossVerification#FIRST_ROW_INDEX}; null if the
+	 *            OID is read as is
+	 * @param comparator
+	 *            {@link ValueComparator}
+	 */
+	public CrossCheck(String webPaParameter, String oid, String tableIndex, ValueComparator comparator) {
+	    this.webPaParameter = webPaParameter;
+	    this.oid = oid;
+	    this.tableIndex = tableIndex;
+	    this.comparator = comparator;
+	}
+
+	/**
+	 * Constructor with parameters.
+	 *
+	 * @param webPaParameter
+	 *            TR-181 parameter read over WebPA
+	 * @param snmpMib
+	 *            {@link BroadBandSnmpMib} read over SNMP, with its table index if any
+	 * @param comparator
+	 *            {@link ValueComparator}
+	 */
+	public CrossCheck(String webPaParameter, BroadBandSnmpMib snmpMib, ValueComparator comparator) {
+	    this(webPaParameter, snmpMib.getOid(), snmpMib.getTableIndex(), comparator);
+	}
+
+	/**
+	 * @return the TR-181 parameter read over WebPA
+	 */
+	public String getWebPaParameter() {
+	    return webPaParameter;
+	}
+
+	/**
+	 * @return the OID read over SNMP, or its table column OID
+	 */
+	public String getOid() {
+	    return oid;
+	}
+
+	/**
+	 * @return the table index of the OID; null if the OID is read as is
+	 */
+	public String getTableIndex() {
+	    return tableIndex;
+	}
+
+	/**
+	 * @return the {@link ValueComparator}
+	 */
+	public ValueComparator getComparator() {
+	    return comparator;
+	}
+
+	/**
+	 * Helper method to get the key of the SNMP value of the check
+	 */
+	private String getSnmpKey() {
+	    return CommonMethods.isNull(tableIndex) ? normalizeOid(oid)
+		    : normalizeOid(oid) + BroadBandTestConstants.DELIMITER_HASH + tableIndex;
+	}
+
+	@Override
+	public String toString() {
+	    return webPaParameter + " <-> " + oid
+		    + (CommonMethods.isNotNull(tableIndex) ? BroadBandTestConstants.DOT_OPERATOR + tableIndex : "");
+	}
+    }
+
+    /**
+     * Outcome of a check
+     */
+    public static class CrossCheckResult {
+
+	/** Check */
+	private final CrossCheck check;
+
+	/** Value read over WebPA; null if not retrieved */
+	private final String webPaValue;
+
+	/** Value read over SNMP; null if not retrieved */
+	private final String snmpValue;
+
+	/** Whether the values match */
+	private final boolean status;
+
+	/** Reason of the failure; null if the values match */
+	private final String errorMessage;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private CrossCheckResult(CrossCheck check, String webPaValue, String snmpValue, boolean status,
+		String errorMessage) {
+	    this.check = check;
+	    this.webPaValue = webPaValue;
+	    this.snmpValue = snmpValue;
+	    this.status = status;
+	    this.errorMessage = errorMessage;
+	}
+
+	/**
+	 * @return the {@link CrossCheck}
+	 */
+	public CrossCheck getCheck() {
+	    return check;
+	}
+
+	/**
+	 * @return the value read over WebPA; null if not retrieved
+	 */
+	public String getWebPaValue() {
+	    return webPaValue;
+	}
+
+	/**
+	 * @return the value read over SNMP; null if not retrieved
+	 */
+	public String getSnmpValue() {
+	    return snmpValue;
+	}
+
+	/**
+	 * @return true if the values match
+	 */
+	public boolean isStatus() {
+	    return status;
+	}
+
+	/**
+	 * @return the reason of the failure; null if the values match
+	 */
+	public String getErrorMessage() {
+	    return errorMessage;
+	}
+
+	/**
+	 * @return true if the value is read over WebPA
+	 */
+	public boolean isWebPaRetrieved() {
+	    return CommonMethods.isNotNull(webPaValue);
+	}
+
+	/**
+	 * @return true if the value is read over SNMP
+	 */
+	public boolean isSnmpRetrieved() {
+	    return CommonMethods.isNotNull(snmpValue);
+	}
+
+	/**
+	 * Method to get the outcome as {@link BroadBandResultObject}
+	 *
+	 * @return {@link BroadBandResultObject} with the status and error message
+	 */
+	public BroadBandResultObject toResultObject() {
+	    BroadBandResultObject result = new BroadBandResultObject();
+	    result.setStatus(status);
+	    result.setErrorMessage(errorMessage);
+	    return result;
+	}
+
+	@Override
+	public String toString() {
+	    return (status ? "MATCHED    " : "MISMATCHED ") + check + " : WEBPA = " + webPaValue + ", SNMP = "
+		    + snmpValue;
+	}
+    }
+
+    /**
+     * Outcome of all checks of a cross verification, with the number of reads and the time taken
+     */
+    public static class CrossVerificationReport {
+
+	/** Outcome of each check, in the order of the checks */
+	private final List<CrossCheckResult> results = new ArrayList<CrossCheckResult>();
+
+	/** Number of bulk WebPA gets */
+	private final int webPaReads;
+
+	/** Number of SNMP gets and walks */
+	private final int snmpReads;
+
+	/** Time taken by the cross verification */
+	private long durationMillis;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private CrossVerificationReport(int webPaReads, int snmpReads) {
+	    this.webPaReads = webPaReads;
+	    this.snmpReads = snmpReads;
+	}
+
+	/**
+	 * @return the outcome of each check, in the order of the checks
+	 */
+	public List<CrossCheckResult> getResults() {
+	    return results;
+	}
+
+	/**
+	 * @return the outcome of the checks whose values do not match or are not retrieved
+	 */
+	public List<CrossCheckResult> getMismatches() {
+	    List<CrossCheckResult> mismatches = new ArrayList<CrossCheckResult>();
+	    for (CrossCheckResult result : results) {
+		if (!result.isStatus()) {
+		    mismatches.add(result);
+		}
+	    }
+	    return mismatches;
+	}
+
+	/**
+	 * @return true if the values of all checks match
+	 */
+	public boolean isAllMatching() {
+	    return getMismatches().isEmpty();
+	}
+
+	/**
+	 * @return the number of bulk WebPA gets
+	 */
+	public int getWebPaReads() {
+	    return webPaReads;
+	}
+
+	/**
+	 * @return the number of SNMP gets and walks
+	 */
+	public int getSnmpReads() {
+	    return snmpReads;
+	}
+
+	/**
+	 * @return the time taken by the cross verification
+	 */
+	public long getDurationMillis() {
+	    return durationMillis;
+	}
+
+	/**
+	 * Method to get the report as {@link BroadBandResultObject}
+	 *
+	 * @return {@link BroadBandResultObject} with true status if the values of all checks match, and the error
+	 *         messages of the other checks
+	 */
+	public BroadBandResultObject toResultObject() {
+	    BroadBandResultObject result = new BroadBandResultObject();
+	    StringBuilder errorMessage = new StringBuilder();
+	    for (CrossCheckResult mismatch : getMismatches()) {
+		errorMessage.append(errorMessage.length() > 0 ? BroadBandTestConstants.CHAR_NEW_LINE : "")
+			.append(mismatch.getCheck()).append(" : ").append(mismatch.getErrorMessage());
+	    }
+	    result.setStatus(errorMessage.length() == 0);
+	    result.setErrorMessage(errorMessage.length() > 0 ? errorMessage.toString() : null);
+	    return result;
+	}
+
+	@Override
+	public String toString() {
+	    StringBuilder report = new StringBuilder();
+	    report.append(results.size() - getMismatches().size()).append(" OF ").append(results.size())
+		    .append(" CHECKS MATCHED USING ").append(webPaReads).append(" WEBPA AND ").append(snmpReads)
+		    .append(" SNMP READS IN ").append(durationMillis).append(" ms");
+	    for (CrossCheckResult result : results) {
+		report.append(BroadBandTestConstants.CHAR_NEW_LINE).append(result);
+	    }
+	    return report.toString();
+	}
+    }
+
+    /**
+     * Bulk WebPA get of a batch of parameters
+     */
+    private static class WebPaRead implements Callable<Map<String, String>> {
+
+	/** {@link AutomaticsTapApi} instance */
+	private final AutomaticsTapApi tapEnv;
+
+	/** Device to be read */
+	private final Dut device;
+
+	/** Parameters to be read */
+	private final String[] parameters;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private WebPaRead(AutomaticsTapApi tapEnv, Dut device, String[] parameters) {
+	    this.tapEnv = tapEnv;
+	    this.device = device;
+	    this.parameters = parameters;
+	}
+
+	@Override
+	public Map<String, String> call() {
+	    Map<String, String> values = null;
+	    try {
+		// WebPA only, so that the check fails instead of falling back to dmcli when WebPA is down
+		values = tapEnv.executeMultipleWebPaGetCommands(device, parameters);
+	    } catch (Exception e) {
+		LOGGER.error("Exception occured while retrieving values from WEBPA :" + e.getMessage());
+	    }
+	    return values;
+	}
+    }
+
+    /**
+     * SNMP get of an OID, or of the row of a table column, or walk of a table column
+     */
+    private static class SnmpRead implements Callable<Map<String, String>> {
+
+	/** {@link AutomaticsTapApi} instance */
+	private final AutomaticsTapApi tapEnv;
+
+	/** Device to be read */
+	private final Dut device;
+
+	/** Checks of the OID or table column */
+	private final List<CrossCheck> checks;
+
+	/** Whether the table column is walked */
+	private final boolean isColumnWalked;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private SnmpRead(AutomaticsTapApi tapEnv, Dut device, List<CrossCheck> checks, boolean isColumnWalked) {
+	    this.tapEnv = tapEnv;
+	    this.device = device;
+	    this.checks = checks;
+	    this.isColumnWalked = isColumnWalked;
+	}
+
+	@Override
+	public Map<String, String> call() {
+	    Map<String, String> values = new HashMap<String, String>();
+	    CrossCheck firstCheck = checks.get(0);
+	    try {
+		if (isColumnWalked) {
+		    Map<String, BroadBandSnmpVarbind> column = BroadBandSnmpTableReader.readColumn(tapEnv, device,
+			    firstCheck.getOid());
+		    for (CrossCheck check : checks) {
+			BroadBandSnmpVarbind varbind = FIRST_ROW_INDEX.equals(check.getTableIndex())
+				? (column.isEmpty() ? null : column.values().iterator().next())
+				: column.get(check.getTableIndex());
+			if (null != varbind && !varbind.isException()) {
+			    values.put(check.getSnmpKey(), varbind.getValue());
+			}
+		    }
+		} else {
+		    String snmpOutput = CommonMethods.isNull(firstCheck.getTableIndex())
+			    ? BroadBandSnmpUtils.executeSnmpGetOnRdkDevices(tapEnv, device, firstCheck.getOid())
+			    : BroadBandSnmpUtils.executeSnmpGetWithTableIndexOnRdkDevices(tapEnv, device,
+				    firstCheck.getOid(), firstCheck.getTableIndex());
+		    String value = getSnmpValue(snmpOutput);
+		    if (null != value) {
+			values.put(firstCheck.getSnmpKey(), value);
+		    }
+		}
+	    } catch (Exception e) {
+		LOGGER.error("Exception occured while retrieving values from SNMP :" + e.getMessage());
+	    }
+	    return values;
+	}
+    }
+}
@@ -37,6 +37,7 @@ import com.automatics.rdkb.utils.BroadbandPropertyFileHandler;
 import com.automatics.rdkb.utils.DeviceModeHandler;
 import com.automatics.rdkb.utils.SplunkUtils;
 import com.automatics.rdkb.utils.dmcli.DmcliUtils;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 import com.automatics.rdkb.constants.WebPaParamConstants.WebPaDataTypes;
 
@@ -260,6 +261,7 @@ public class BroadBandTelemetry2Utils {
 
 	    if (status) {
 		CommonMethods.rebootAndWaitForIpAccusition(device, tapEnv);
+		BroadBandWebPaCache.flush(device);
 		LOGGER.info("STEP " + stepNum + ": ACTUAL : Telemetry 1.0 configs are set successfully on the device");
 	    } else {
 		LOGGER.error("STEP " + stepNum + ": ACTUAL : " + errorMessage);
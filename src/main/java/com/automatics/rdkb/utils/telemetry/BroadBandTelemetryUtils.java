@@ -55,6 +55,7 @@ import com.automatics.rdkb.utils.CommonUtils;
 import com.automatics.rdkb.utils.DeviceModeHandler;
 import com.automatics.rdkb.utils.SplunkUtils;
 import com.automatics.rdkb.utils.dmcli.DmcliUtils;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCache;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 import com.automatics.restclient.RestClientException;
 import com.automatics.restclient.RestEasyClientImpl;
@@ -652,6 +653,7 @@ public class BroadBandTelemetryUtils {
      */
     public static boolean rebootAndWaitForDeviceAccessible(AutomaticsTapApi tapEnv, Dut device, long waitTime) {
 	LOGGER.debug("STARTING METHOD : rebootAndWaitForIpAcquisition ");
+	BroadBandWebPaCache.flush(device);
 	boolean status = false;
 	// Rebooting the device
 	LOGGER.debug("Rebooting the device");
@@ -27,8 +27,9 @@ import com.automatics.device.Dut;
 import com.automatics.tap.AutomaticsTapApi;
 
 /**
- * Class to define Thread class to execute multiple webpa requests in parallel
- * 
+ * Class to define Thread class to execute multiple webpa requests in parallel. Instances are immutable and are
+ * submitted to the per device {@link BroadBandWebPaRequestExecutor}.
+ *
  * @author Ashwin Sankarasubramanian
  *
  */
@@ -37,13 +38,13 @@ public class BroadBandParallelWebPaRequest implements Callable<String> {
     /**
      * Logger instance for {@link BroadBandParallelWebPaRequest}
      */
-    private Logger LOGGER = LoggerFactory.getLogger(BroadBandParallelWebPaRequest.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandParallelWebPaRequest.class);
 
-    private Dut settopobj;
+    private final Dut settopobj;
 
-    private AutomaticsTapApi tapApi;
+    private final AutomaticsTapApi tapApi;
 
-    private String webPaParameter;
+    private final String webPaParameter;
 
     public BroadBandParallelWebPaRequest(Dut device, AutomaticsTapApi tapEnv, String parameter) {
 	settopobj = device;
@@ -55,7 +56,7 @@ public class BroadBandParallelWebPaRequest implements Callable<String> {
     public String call() {
 	String response = null;
 	try {
-	    LOGGER.info("Entering thread call method");
+	    LOGGER.debug("Executing parallel webpa request for parameter: " + webPaParameter);
 	    response = tapApi.executeWebPaCommand(settopobj, webPaParameter);
 	} catch (Exception e) {
 	    LOGGER.error("Exception occured while executing webpa request in thread call method: " + e.getMessage());
@@ -63,12 +64,10 @@ public class BroadBandParallelWebPaRequest implements Callable<String> {
 	return response;
     }
 
-    @Override
-    protected void finalize() throws Throwable {
-	super.finalize();
-	settopobj = null;
-	webPaParameter = null;
-	tapApi = null;
-	LOGGER = null;
+    /**
+     * @return the webPaParameter
+     */
+    public String getWebPaParameter() {
+	return webPaParameter;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.webpa;
+
+import java.util.List;
+import java.util.Map;
+
+import com.automatics.webpa.WebPaParameter;
+
+/**
+ * WebPA endpoint benchmarked by {@link BroadBandWebPaBenchmarkUtils}; either a real device or the local
+ * {@link BroadBandWebPaStandIn}.
+ */
+public interface BroadBandWebPaBenchmarkTarget {
+
+    /**
+     * Method to get multiple WebPA parameters in one request
+     *
+     * @param parameters
+     *            WebPA parameters
+     * @return Map with WebPA parameter as key and its value as value; null or empty if the request failed
+     */
+    public Map<String, String> get(String[] parameters);
+
+    /**
+     * Method to set multiple WebPA parameters in one request
+     *
+     * @param webPaParameters
+     *            list of {@link WebPaParameter}
+     * @return true, if all the parameters are set
+     */
+    public boolean set(List<WebPaParameter> webPaParameters);
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.webpa;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.rdkb.utils.benchmark.BroadBandBenchmarkOperation;
+import com.automatics.rdkb.utils.benchmark.BroadBandBenchmarkResult;
+import com.automatics.rdkb.utils.benchmark.BroadBandBenchmarkRunner;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+import com.automatics.webpa.WebPaParameter;
+import com.automatics.webpa.WebPaServerResponse;
+
+/**
+ * Utility class which benchmarks WebPA GET and SET latency and throughput using the stress parameter sets of
+ * {@link BroadBandWebPaUtils}, sweeping batch size and concurrency.
+ */
+public class BroadBandWebPaBenchmarkUtils {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandWebPaBenchmarkUtils.class);
+
+    /** Operation name of WebPA GET scenarios */
+    public static final String OPERATION_WEBPA_GET = "WEBPA_GET";
+
+    /** Operation name of WebPA SET scenarios */
+    public static final String OPERATION_WEBPA_SET = "WEBPA_SET";
+
+    /** Batch sizes supported by {@link BroadBandWebPaUtils#webpaGetParameters(Integer)} */
+    public static final int[] GET_BATCH_SIZES = { 2, 3, 4, 5, 10 };
+
+    /** Batch sizes of the WebPA SET stress parameter sets */
+    public static final int[] SET_BATCH_SIZES = { 1, 5, 10 };
+
+    /** Default concurrency levels */
+    public static final int[] DEFAULT_CONCURRENCY_LEVELS = { 1, 2, 4, 8 };
+
+    /** Number of distinct value sets in each WebPA SET stress parameter set */
+    private static final int SET_PARAMETER_ITERATIONS = 10;
+
+    /**
+     * Method to get a benchmark target which sends requests to the WebPA server of a device
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @return {@link BroadBandWebPaBenchmarkTarget} for the device
+     */
+    public static BroadBandWebPaBenchmarkTarget getDeviceTarget(final Dut device, final AutomaticsTapApi tapEnv) {
+	return new BroadBandWebPaBenchmarkTarget() {
+
+	    @Override
+	    public Map<String, String> get(String[] parameters) {
+		return tapEnv.executeMultipleWebPaGetCommands(device, parameters);
+	    }
+
+	    @Override
+	    public boolean set(List<WebPaParameter> webPaParameters) {
+		WebPaServerResponse serverResponse = tapEnv.setWebPaParameterValues(device, webPaParameters);
+		return null != serverResponse && (200 == serverResponse.getStatusCode()
+			|| (CommonMethods.isNotNull(serverResponse.getMessage())
+				&& serverResponse.getMessage().contains(BroadBandTestConstants.SUCCESS_TXT)));
+	    }
+	};
+    }
+
+    /**
+     * Method to get a local WebPA stand-in preloaded with the parameters of the WebPA GET stress parameter sets
+     *
+     * @param requestLatency
+     *            fixed latency of each request in milliseconds
+     * @param parameterLatency
+     *            additional latency of each parameter in a request in milliseconds
+     * @param errorPercentage
+     *            percentage of requests which fail
+     * @param maxConcurrentRequests
+     *            number of requests served concurrently
+     * @return {@link BroadBandWebPaStandIn}
+     */
+    public static BroadBandWebPaStandIn getStandInTarget(long requestLatency, long parameterLatency,
+	    int errorPercentage, int maxConcurrentRequests) {
+	BroadBandWebPaStandIn standIn = new BroadBandWebPaStandIn(requestLatency, parameterLatency, errorPercentage,
+		maxConcurrentRequests);
+	for (int batchSize : GET_BATCH_SIZES) {
+	    for (String parameter : BroadBandWebPaUtils.webpaGetParameters(batchSize)) {
+		standIn.putValue(parameter, parameter.substring(parameter.lastIndexOf('.') + 1));
+	    }
+	}
+	return standIn;
+    }
+
+    /**
+     * Method to benchmark WebPA GET for each combination of batch size and concurrency
+     *
+     * @param target
+     *            {@link BroadBandWebPaBenchmarkTarget}
+     * @param batchSizes
+     *            batch sizes supported by {@link BroadBandWebPaUtils#webpaGetParameters(Integer)}
+     * @param concurrencyLevels
+     *            concurrency levels
+     * @param iterations
+     *            number of recorded requests per scenario
+     * @return list of {@link BroadBandBenchmarkResult}, one per scenario
+     */
+    public static List<BroadBandBenchmarkResult> runGetSweep(final BroadBandWebPaBenchmarkTarget target,
+	    int[] batchSizes, int[] concurrencyLevels, int iterations) {
+	LOGGER.debug("STARTING METHOD: runGetSweep");
+	List<BroadBandBenchmarkResult> results = new ArrayList<BroadBandBenchmarkResult>();
+	for (int batchSize : batchSizes) {
+	    final String[] parameters = BroadBandWebPaUtils.webpaGetParameters(batchSize);
+	    for (int concurrency : concurrencyLevels) {
+		results.add(BroadBandBenchmarkRunner.run(
+			new BroadBandBenchmarkResult(OPERATION_WEBPA_GET, batchSize, concurrency),
+			new BroadBandBenchmarkOperation() {
+
+			    @Override
+			    public boolean execute(int iteration) throws Exception {
+				Map<String, String> response = target.get(parameters);
+				return null != response && response.size() == parameters.length;
+			    }
+			}, BroadBandTestConstants.WEBPA_BENCHMARK_WARM_UP_ITERATIONS, iterations));
+	    }
+	}
+	LOGGER.debug("ENDING METHOD: runGetSweep");
+	return results;
+    }
+
+    /**
+     * Method to benchmark WebPA SET for each combination of batch size and concurrency. Each request sets the next
+     * value set of the stress parameter set of the batch size.
+     *
+     * @param target
+     *            {@link BroadBandWebPaBenchmarkTarget}
+     * @param batchSizes
+     *            batch sizes 1, 5 or 10
+     * @param concurrencyLevels
+     *            concurrency levels
+     * @param iterations
+     *            number of recorded requests per scenario
+     * @return list of {@link BroadBandBenchmarkResult}, one per scenario
+     */
+    public static List<BroadBandBenchmarkResult> runSetSweep(final BroadBandWebPaBenchmarkTarget target,
+	    int[] batchSizes, int[] concurrencyLevels, int iterations) {
+	LOGGER.debug("STARTING METHOD: runSetSweep");
+	List<BroadBandBenchmarkResult> results = new ArrayList<BroadBandBenchmarkResult>();
+	for (final int batchSize : batchSizes) {
+	    for (int concurrency : concurrencyLevels) {
+		results.add(BroadBandBenchmarkRunner.run(
+			new BroadBandBenchmarkResult(OPERATION_WEBPA_SET, batchSize, concurrency),
+			new BroadBandBenchmarkOperation() {
+
+			    @Override
+			    public boolean execute(int iteration) throws Exception {
+				return target.set(getSetParameters(batchSize, iteration % SET_PARAMETER_ITERATIONS));
+			    }
+			}, BroadBandTestConstants.WEBPA_BENCHMARK_WARM_UP_ITERATIONS, iterations));
+	    }
+	}
+	LOGGER.debug("ENDING METHOD: runSetSweep");
+	return results;
+    }
+
+    /**
+     * Method to run the default GET and SET sweeps and write the report
+     *
+     * @param name
+     *            name of the benchmark, e.g. firmware build under test
+     * @param target
+     *            {@link BroadBandWebPaBenchmarkTarget}
+     * @param reportFile
+     *            file to which the JSON report is written
+     * @return list of {@link BroadBandBenchmarkResult}
+     */
+    public static List<BroadBandBenchmarkResult> runBenchmark(String name, BroadBandWebPaBenchmarkTarget target,
+	    File reportFile) {
+	List<BroadBandBenchmarkResult> results = new ArrayList<BroadBandBenchmarkResult>();
+	results.addAll(runGetSweep(target, GET_BATCH_SIZES, DEFAULT_CONCURRENCY_LEVELS,
+		BroadBandTestConstants.WEBPA_BENCHMARK_DEFAULT_ITERATIONS));
+	results.addAll(runSetSweep(target, SET_BATCH_SIZES, DEFAULT_CONCURRENCY_LEVELS,
+		BroadBandTestConstants.WEBPA_BENCHMARK_DEFAULT_ITERATIONS));
+	BroadBandBenchmarkRunner.writeReport(name, results, reportFile);
+	return results;
+    }
+
+    /**
+     * Helper method to get the WebPA SET stress parameter set of a batch size
+     *
+     * @param batchSize
+     *            1, 5 or 10
+     * @param iteration
+     *            value set of the parameter set
+     * @return list of {@link WebPaParameter}
+     */
+    private static List<WebPaParameter> getSetParameters(int batchSize, int iteration) {
+	List<WebPaParameter> webPaParameters = null;
+	switch (batchSize) {
+	case 1:
+	    webPaParameters = BroadBandWebPaUtils.webpaSetOneParameter(iteration);
+	    break;
+	case 5:
+	    webPaParameters = BroadBandWebPaUtils.webpaSetFiveParameter(iteration);
+	    break;
+	case 10:
+	    webPaParameters = BroadBandWebPaUtils.webpaSetTenParameter(iteration);
+	    break;
+	default:
+	    throw new IllegalArgumentException("No WebPA SET parameter set of batch size " + batchSize);
+	}
+	return webPaParameters;
+    }
+}
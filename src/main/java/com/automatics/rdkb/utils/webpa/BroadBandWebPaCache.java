@@ -0,0 +1,259 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.webpa;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandPropertyKeyConstants;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.rdkb.constants.BroadBandWebPaConstants;
+import com.automatics.rdkb.enums.BroadBandWebPaCacheClassEnum;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Per device read cache for TR-181 parameters which are static or rarely change during a test run. Only parameters
+ * registered with a {@link BroadBandWebPaCacheClassEnum} are cached; every other parameter is always read from the
+ * device. Entries are invalidated when the parameter is set through {@link BroadBandWebPaUtils} or
+ * {@link com.automatics.rdkb.utils.BroadBandCommonUtils} and all entries of a device are flushed on reboot and factory
+ * reset.
+ */
+public class BroadBandWebPaCache {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandWebPaCache.class);
+
+    /** Cache class of the cacheable parameters */
+    private static final Map<String, BroadBandWebPaCacheClassEnum> PARAMETER_CLASSES = new ConcurrentHashMap<String, BroadBandWebPaCacheClassEnum>();
+
+    /** Cached entries per device, keyed by device MAC address */
+    private static final ConcurrentMap<String, ConcurrentMap<String, CacheEntry>> DEVICE_CACHES = new ConcurrentHashMap<String, ConcurrentMap<String, CacheEntry>>();
+
+    /** Number of reads served from the cache */
+    private static final AtomicLong HIT_COUNT = new AtomicLong();
+
+    /** Number of reads of cacheable parameters which went to the device */
+    private static final AtomicLong MISS_COUNT = new AtomicLong();
+
+    static {
+	register(BroadBandWebPaConstants.WEBPA_PARAM_FOR_SYNDICATION_PARTNER_ID,
+		BroadBandWebPaCacheClassEnum.PROVISIONING);
+    }
+
+    /**
+     * Method to register a parameter as cacheable
+     *
+     * @param parameter
+     *            TR-181 parameter name
+     * @param cacheClass
+     *            {@link BroadBandWebPaCacheClassEnum} deciding the time to live
+     */
+    public static void register(String parameter, BroadBandWebPaCacheClassEnum cacheClass) {
+	PARAMETER_CLASSES.put(parameter, cacheClass);
+    }
+
+    /**
+     * Method to get a parameter value, served from the cache when the parameter is cacheable and its entry has not
+     * expired. Null values are never cached.
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param parameter
+     *            TR-181 parameter name
+     * @return parameter value
+     */
+    public static String get(Dut device, AutomaticsTapApi tapEnv, String parameter) {
+	BroadBandWebPaCacheClassEnum cacheClass = PARAMETER_CLASSES.get(parameter);
+	if (null == cacheClass) {
+	    return tapEnv.executeWebPaCommand(device, parameter);
+	}
+	String value = getCachedValue(device, parameter);
+	if (null == value) {
+	    MISS_COUNT.incrementAndGet();
+	    value = tapEnv.executeWebPaCommand(device, parameter);
+	    put(device, parameter, value, cacheClass);
+	}
+	return value;
+    }
+
+    /**
+     * Method to invalidate the cached entry of a parameter. A partial path ending with '.' invalidates every entry
+     * under it.
+     *
+     * @param device
+     *            {@link Dut}
+     * @param parameter
+     *            TR-181 parameter name or partial path
+     */
+    public static void invalidate(Dut device, String parameter) {
+	ConcurrentMap<String, CacheEntry> deviceCache = DEVICE_CACHES.get(device.getHostMacAddress());
+	if (null != deviceCache && CommonMethods.isNotNull(parameter)) {
+	    if (parameter.endsWith(BroadBandTestConstants.DOT_OPERATOR)) {
+		for (String cachedParameter : deviceCache.keySet()) {
+		    if (cachedParameter.startsWith(parameter)) {
+			deviceCache.remove(cachedParameter);
+		    }
+		}
+	    } else {
+		deviceCache.remove(parameter);
+	    }
+	}
+    }
+
+    /**
+     * Method to flush all the cached entries of a device; to be called on reboot and factory reset
+     *
+     * @param device
+     *            {@link Dut}
+     */
+    public static void flush(Dut device) {
+	if (null != DEVICE_CACHES.remove(device.getHostMacAddress())) {
+	    LOGGER.info("Flushed WebPA read cache of device " + device.getHostMacAddress() + ". " + getStatistics());
+	}
+    }
+
+    /**
+     * @return number of reads served from the cache
+     */
+    public static long getHitCount() {
+	return HIT_COUNT.get();
+    }
+
+    /**
+     * @return number of reads of cacheable parameters which went to the device
+     */
+    public static long getMissCount() {
+	return MISS_COUNT.get();
+    }
+
+    /**
+     * Method to reset the hit and miss counters
+     */
+    public static void resetStatistics() {
+	HIT_COUNT.set(0);
+	MISS_COUNT.set(0);
+    }
+
+    /**
+     * @return hit and miss counters in readable format
+     */
+    public static String getStatistics() {
+	return "WebPA read cache hits: " + HIT_COUNT.get() + ", misses: " + MISS_COUNT.get();
+    }
+
+    /**
+     * Helper method to get a cached value which has not expired
+     *
+     * @param device
+     *            {@link Dut}
+     * @param parameter
+     *            TR-181 parameter name
+     * @return cached value; null if not cached or expired
+     */
+    private static String getCachedValue(Dut device, String parameter) {
+	String value = null;
+	ConcurrentMap<String, CacheEntry> deviceCache = DEVICE_CACHES.get(device.getHostMacAddress());
+	CacheEntry entry = null != deviceCache ? deviceCache.get(parameter) : null;
+	if (null != entry) {
+	    if (entry.expiryTime > System.currentTimeMillis()) {
+		HIT_COUNT.incrementAndGet();
+		value = entry.value;
+		LOGGER.debug("WebPA read cache hit for " + parameter + " : " + value);
+	    } else {
+		deviceCache.remove(parameter, entry);
+	    }
+	}
+	return value;
+    }
+
+    /**
+     * Helper method to cache a value
+     *
+     * @param device
+     *            {@link Dut}
+     * @param parameter
+     *            TR-181 parameter name
+     * @param value
+     *            value to be cached; null values are ignored
+     * @param cacheClass
+     *            {@link BroadBandWebPaCacheClassEnum} of the parameter
+     */
+    private static void put(Dut device, String parameter, String value, BroadBandWebPaCacheClassEnum cacheClass) {
+	if (CommonMethods.isNotNull(value)) {
+	    String deviceKey = device.getHostMacAddress();
+	    ConcurrentMap<String, CacheEntry> deviceCache = DEVICE_CACHES.get(deviceKey);
+	    if (null == deviceCache) {
+		ConcurrentMap<String, CacheEntry> newCache = new ConcurrentHashMap<String, CacheEntry>();
+		deviceCache = DEVICE_CACHES.putIfAbsent(deviceKey, newCache);
+		if (null == deviceCache) {
+		    deviceCache = newCache;
+		}
+	    }
+	    long timeToLive = getTimeToLive(cacheClass);
+	    long now = System.currentTimeMillis();
+	    deviceCache.put(parameter,
+		    new CacheEntry(value, timeToLive > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + timeToLive));
+	}
+    }
+
+    /**
+     * Helper method to get the time to live of a cache class, which can be overridden with the property
+     * {@link BroadBandPropertyKeyConstants#PROP_KEY_WEBPA_CACHE_TTL} followed by the class name
+     *
+     * @param cacheClass
+     *            {@link BroadBandWebPaCacheClassEnum}
+     * @return time to live in milliseconds
+     */
+    private static long getTimeToLive(BroadBandWebPaCacheClassEnum cacheClass) {
+	long timeToLive = cacheClass.getDefaultTimeToLive();
+	try {
+	    String propertyValue = AutomaticsTapApi
+		    .getSTBPropsValue(BroadBandPropertyKeyConstants.PROP_KEY_WEBPA_CACHE_TTL + cacheClass.getClassName());
+	    if (CommonMethods.isNotNull(propertyValue)) {
+		timeToLive = Long.parseLong(propertyValue.trim());
+	    }
+	} catch (Exception e) {
+	    // Property is optional; default time to live is used
+	}
+	return timeToLive;
+    }
+
+    /**
+     * Cached value with its expiry time
+     */
+    private static class CacheEntry {
+
+	private final String value;
+
+	private final long expiryTime;
+
+	private CacheEntry(String value, long expiryTime) {
+	    this.value = value;
+	    this.expiryTime = expiryTime;
+	}
+    }
+}
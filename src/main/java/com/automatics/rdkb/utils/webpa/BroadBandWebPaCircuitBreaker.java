@@ -0,0 +1,365 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.webpa;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandPropertyKeyConstants;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.rdkb.constants.BroadBandWebPaConstants;
+import com.automatics.rdkb.enums.BroadBandWebPaCircuitStateEnum;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Per device WebPA health tracker and circuit breaker, used by the WebPA or DMCLI helpers of {@link BroadBandWebPaUtils}
+ * to decide whether a request is sent using WebPA. The circuit is opened after
+ * {@link BroadBandPropertyKeyConstants#PROP_KEY_WEBPA_CIRCUIT_BREAKER_FAILURE_THRESHOLD} consecutive failures, or when
+ * the failure rate over the recent requests reaches
+ * {@link BroadBandTestConstants#WEBPA_CIRCUIT_BREAKER_FAILURE_PERCENTAGE}. While the circuit is open, requests go to
+ * DMCLI without waiting for a WebPA timeout and WebPA is probed in the background; the circuit is closed when a probe
+ * succeeds. The wait between probes doubles after each failed probe.
+ */
+public class BroadBandWebPaCircuitBreaker {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandWebPaCircuitBreaker.class);
+
+    /** Circuit breakers per device, keyed by device MAC address */
+    private static final ConcurrentMap<String, BroadBandWebPaCircuitBreaker> CIRCUIT_BREAKERS = new ConcurrentHashMap<String, BroadBandWebPaCircuitBreaker>();
+
+    /** Factory of the daemon threads used for background probes */
+    private static final ThreadFactory PROBE_THREAD_FACTORY = new ThreadFactory() {
+
+	@Override
+	public Thread newThread(Runnable runnable) {
+	    Thread thread = new Thread(runnable, "webpa-circuit-probe");
+	    thread.setDaemon(true);
+	    return thread;
+	}
+    };
+
+    /** Scheduler of background probes, shared by all devices; it only hands the due probes to the probe executor */
+    private static final ScheduledExecutorService PROBE_SCHEDULER = Executors
+	    .newSingleThreadScheduledExecutor(PROBE_THREAD_FACTORY);
+
+    /** Executor running the probes, so that a probe waiting for a WebPA timeout does not delay other devices */
+    private static final ExecutorService PROBE_EXECUTOR = Executors.newCachedThreadPool(PROBE_THREAD_FACTORY);
+
+    /** Device of this circuit */
+    private final Dut device;
+
+    /** {@link AutomaticsTapApi} instance used for probes */
+    private final AutomaticsTapApi tapEnv;
+
+    /** Number of consecutive failures after which the circuit is opened */
+    private final int failureThreshold;
+
+    /** Time after which an open circuit is first probed */
+    private final long openDuration;
+
+    /** Outcome of the recent requests; true for a failure */
+    private final boolean[] recentFailures = new boolean[BroadBandTestConstants.WEBPA_CIRCUIT_BREAKER_WINDOW_SIZE];
+
+    /** Number of outcomes recorded in {@link #recentFailures} */
+    private int recentCount = 0;
+
+    /** Index in {@link #recentFailures} of the next outcome */
+    private int recentIndex = 0;
+
+    /** Number of consecutive failures */
+    private int consecutiveFailures = 0;
+
+    /** Current state */
+    private BroadBandWebPaCircuitStateEnum state = BroadBandWebPaCircuitStateEnum.CLOSED;
+
+    /** Time to wait before the next probe */
+    private long probeDelay;
+
+    /** Number of successful WebPA requests */
+    private long successCount = 0;
+
+    /** Number of failed WebPA requests */
+    private long failureCount = 0;
+
+    /** Number of requests sent to DMCLI because the circuit was not closed */
+    private long rejectedCount = 0;
+
+    /** Number of times the circuit was opened */
+    private long openedCount = 0;
+
+    /** Number of times the circuit was closed by a probe */
+    private long closedCount = 0;
+
+    /** Number of background probes */
+    private long probeCount = 0;
+
+    /** Total latency of WebPA requests in milliseconds */
+    private long totalLatency = 0;
+
+    /** Maximum latency of a WebPA request in milliseconds */
+    private long maxLatency = 0;
+
+    /** Time of the last state change */
+    private long lastStateChangeTime = System.currentTimeMillis();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     */
+    private BroadBandWebPaCircuitBreaker(Dut device, AutomaticsTapApi tapEnv) {
+	this.device = device;
+	this.tapEnv = tapEnv;
+	this.failureThreshold = (int) getConfiguredValue(
+		BroadBandPropertyKeyConstants.PROP_KEY_WEBPA_CIRCUIT_BREAKER_FAILURE_THRESHOLD,
+		BroadBandTestConstants.WEBPA_CIRCUIT_BREAKER_DEFAULT_FAILURE_THRESHOLD);
+	this.openDuration = getConfiguredValue(
+		BroadBandPropertyKeyConstants.PROP_KEY_WEBPA_CIRCUIT_BREAKER_OPEN_DURATION,
+		BroadBandTestConstants.WEBPA_CIRCUIT_BREAKER_DEFAULT_OPEN_DURATION_IN_MILLIS);
+	this.probeDelay = openDuration;
+    }
+
+    /**
+     * Method to get the circuit breaker of the device, creating it on first use
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @return {@link BroadBandWebPaCircuitBreaker} of the device
+     */
+    public static BroadBandWebPaCircuitBreaker getInstance(Dut device, AutomaticsTapApi tapEnv) {
+	String deviceKey = device.getHostMacAddress();
+	BroadBandWebPaCircuitBreaker circuitBreaker = CIRCUIT_BREAKERS.get(deviceKey);
+	if (null == circuitBreaker) {
+	    BroadBandWebPaCircuitBreaker newCircuitBreaker = new BroadBandWebPaCircuitBreaker(device, tapEnv);
+	    circuitBreaker = CIRCUIT_BREAKERS.putIfAbsent(deviceKey, newCircuitBreaker);
+	    if (null == circuitBreaker) {
+		circuitBreaker = newCircuitBreaker;
+	    }
+	}
+	return circuitBreaker;
+    }
+
+    /**
+     * Method to reset the circuit of the device to closed, e.g. after the device is replaced or WebPA is fixed
+     *
+     * @param device
+     *            {@link Dut}
+     */
+    public static void reset(Dut device) {
+	CIRCUIT_BREAKERS.remove(device.getHostMacAddress());
+    }
+
+    /**
+     * Method to check whether a request can be sent using WebPA. Rejected requests are counted in the metrics. The
+     * system property {@link BroadBandTestConstants#SYSTEM_PROPERTY_WEBPA_CONNECTIVITY_BROKEN} can still be set to
+     * force DMCLI for all the devices.
+     *
+     * @return true, if the circuit is closed
+     */
+    public synchronized boolean allowRequest() {
+	boolean allowed = BroadBandWebPaCircuitStateEnum.CLOSED == state && !Boolean.parseBoolean(System.getProperty(
+		BroadBandTestConstants.SYSTEM_PROPERTY_WEBPA_CONNECTIVITY_BROKEN, BroadBandTestConstants.FALSE));
+	if (!allowed) {
+	    rejectedCount++;
+	    LOGGER.debug("WebPA circuit of " + device.getHostMacAddress() + " is " + state + ", using DMCLI");
+	}
+	return allowed;
+    }
+
+    /**
+     * Method to record the outcome of a WebPA request
+     *
+     * @param success
+     *            true, if the request succeeded
+     * @param latency
+     *            latency of the request in milliseconds
+     */
+    public synchronized void record(boolean success, long latency) {
+	totalLatency += latency;
+	maxLatency = Math.max(maxLatency, latency);
+	if (recentCount < recentFailures.length) {
+	    recentCount++;
+	}
+	recentFailures[recentIndex] = !success;
+	recentIndex = (recentIndex + 1) % recentFailures.length;
+	if (success) {
+	    successCount++;
+	    consecutiveFailures = 0;
+	} else {
+	    failureCount++;
+	    consecutiveFailures++;
+	    if (BroadBandWebPaCircuitStateEnum.CLOSED == state
+		    && (consecutiveFailures >= failureThreshold || (recentCount == recentFailures.length
+			    && getRecentFailurePercentage() >= BroadBandTestConstants.WEBPA_CIRCUIT_BREAKER_FAILURE_PERCENTAGE))) {
+		open();
+	    }
+	}
+    }
+
+    /**
+     * @return current state of the circuit
+     */
+    public synchronized BroadBandWebPaCircuitStateEnum getState() {
+	return state;
+    }
+
+    /**
+     * Method to get the metrics of the circuit: request, rejection and state change counts, latency and current state
+     *
+     * @return map of metric name and value
+     */
+    public synchronized Map<String, Object> getMetrics() {
+	Map<String, Object> metrics = new LinkedHashMap<String, Object>();
+	long requestCount = successCount + failureCount;
+	metrics.put("state", state.name());
+	metrics.put("stateChangeTime", lastStateChangeTime);
+	metrics.put("successCount", successCount);
+	metrics.put("failureCount", failureCount);
+	metrics.put("recentFailurePercentage", getRecentFailurePercentage());
+	metrics.put("rejectedCount", rejectedCount);
+	metrics.put("openedCount", openedCount);
+	metrics.put("closedCount", closedCount);
+	metrics.put("probeCount", probeCount);
+	metrics.put("averageLatencyMillis", requestCount == 0 ? 0 : totalLatency / requestCount);
+	metrics.put("maxLatencyMillis", maxLatency);
+	return metrics;
+    }
+
+    /**
+     * Helper method to get the failure percentage of the recent requests
+     */
+    private int getRecentFailurePercentage() {
+	int failures = 0;
+	for (int index = 0; index < recentCount; index++) {
+	    if (recentFailures[index]) {
+		failures++;
+	    }
+	}
+	return recentCount == 0 ? 0 : failures * 100 / recentCount;
+    }
+
+    /**
+     * Helper method to open the circuit and schedule the first probe
+     */
+    private void open() {
+	openedCount++;
+	probeDelay = openDuration;
+	changeState(BroadBandWebPaCircuitStateEnum.OPEN);
+	scheduleProbe();
+    }
+
+    /**
+     * Helper method to change the state of the circuit, logging the change
+     */
+    private void changeState(BroadBandWebPaCircuitStateEnum newState) {
+	LOGGER.info("WebPA circuit of " + device.getHostMacAddress() + " changed from " + state + " to " + newState
+		+ " after " + (System.currentTimeMillis() - lastStateChangeTime) + " ms. Metrics: successCount="
+		+ successCount + ", failureCount=" + failureCount + ", rejectedCount=" + rejectedCount);
+	state = newState;
+	lastStateChangeTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Helper method to schedule a background probe of WebPA
+     */
+    private void scheduleProbe() {
+	PROBE_SCHEDULER.schedule(new Runnable() {
+
+	    @Override
+	    public void run() {
+		PROBE_EXECUTOR.execute(new Runnable() {
+
+		    @Override
+		    public void run() {
+			probe();
+		    }
+		});
+	    }
+	}, probeDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Helper method to probe WebPA with a single GET, closing the circuit on success
+     */
+    private void probe() {
+	synchronized (this) {
+	    if (BroadBandWebPaCircuitStateEnum.OPEN != state) {
+		return;
+	    }
+	    probeCount++;
+	    changeState(BroadBandWebPaCircuitStateEnum.HALF_OPEN);
+	}
+	boolean success = false;
+	try {
+	    success = CommonMethods
+		    .isNotNull(tapEnv.executeWebPaCommand(device, BroadBandWebPaConstants.WEBPA_PARAM_DEVICE_UPTIME));
+	} catch (Exception e) {
+	    LOGGER.debug("WebPA probe of " + device.getHostMacAddress() + " failed: " + e.getMessage());
+	}
+	synchronized (this) {
+	    if (success) {
+		closedCount++;
+		consecutiveFailures = 0;
+		recentCount = 0;
+		recentIndex = 0;
+		changeState(BroadBandWebPaCircuitStateEnum.CLOSED);
+	    } else {
+		probeDelay = Math.min(probeDelay * 2,
+			BroadBandTestConstants.WEBPA_CIRCUIT_BREAKER_MAX_OPEN_DURATION_IN_MILLIS);
+		changeState(BroadBandWebPaCircuitStateEnum.OPEN);
+		scheduleProbe();
+	    }
+	}
+    }
+
+    /**
+     * Helper method to read a configured numeric property
+     *
+     * @return configured value; default value if the property is not configured
+     */
+    private static long getConfiguredValue(String propertyKey, long defaultValue) {
+	long value = defaultValue;
+	try {
+	    String propertyValue = AutomaticsTapApi.getSTBPropsValue(propertyKey);
+	    if (CommonMethods.isNotNull(propertyValue)) {
+		value = Math.max(BroadBandTestConstants.CONSTANT_1, Long.parseLong(propertyValue.trim()));
+	    }
+	} catch (Exception e) {
+	    // Property is optional; default value is used
+	}
+	return value;
+    }
+}
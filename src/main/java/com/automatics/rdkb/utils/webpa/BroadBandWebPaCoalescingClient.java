@@ -0,0 +1,311 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.webpa;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandPropertyKeyConstants;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Client which coalesces single parameter WebPA GET requests of a device into one
+ * {@link AutomaticsTapApi#executeMultipleWebPaGetCommands(Dut, String[])} call.
+ *
+ * <p>
+ * Requests issued through {@link #request(Dut, AutomaticsTapApi, String)} join the open batch of the device and return
+ * a {@link Future}. The batch is executed when the first of its values is read, so a caller can queue several
+ * parameters and pay for one round trip. {@link #get(Dut, AutomaticsTapApi, String)} is the blocking variant for
+ * concurrent callers: it keeps the batch open for the coalescing window so that requests from other threads can join
+ * before executing it.
+ * </p>
+ *
+ * <p>
+ * If the batched request fails or does not return a value for a parameter, that parameter is retried with a single
+ * {@link AutomaticsTapApi#executeWebPaCommand(Dut, String)} so that callers see the same values as before.
+ * </p>
+ */
+public class BroadBandWebPaCoalescingClient {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandWebPaCoalescingClient.class);
+
+    /** Open batch per device, keyed by device MAC address */
+    private static final ConcurrentMap<String, WebPaGetBatch> OPEN_BATCHES = new ConcurrentHashMap<String, WebPaGetBatch>();
+
+    /**
+     * Method to queue a WebPA GET for the device. The returned value is fetched together with all other parameters
+     * queued for the same device when any of them is read.
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param parameter
+     *            WebPA parameter
+     * @return {@link Future} holding the WebPA parameter value
+     */
+    public static Future<String> request(Dut device, AutomaticsTapApi tapEnv, String parameter) {
+	String deviceKey = device.getHostMacAddress();
+	while (true) {
+	    WebPaGetBatch batch = OPEN_BATCHES.get(deviceKey);
+	    if (null == batch) {
+		WebPaGetBatch newBatch = new WebPaGetBatch(deviceKey, device, tapEnv);
+		batch = OPEN_BATCHES.putIfAbsent(deviceKey, newBatch);
+		if (null == batch) {
+		    batch = newBatch;
+		}
+	    }
+	    if (batch.add(parameter)) {
+		return new CoalescedWebPaValue(batch, parameter);
+	    }
+	    // Batch was closed while joining, remove it and retry with a new batch
+	    OPEN_BATCHES.remove(deviceKey, batch);
+	}
+    }
+
+    /**
+     * Method to get a WebPA parameter value, sharing the round trip with other GETs issued for the same device within
+     * the coalescing window configured by {@link BroadBandPropertyKeyConstants#PROP_KEY_WEBPA_COALESCING_WINDOW}
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param parameter
+     *            WebPA parameter
+     * @return WebPA parameter value; null if it could not be retrieved
+     */
+    public static String get(Dut device, AutomaticsTapApi tapEnv, String parameter) {
+	CoalescedWebPaValue value = (CoalescedWebPaValue) request(device, tapEnv, parameter);
+	long waitTime = value.batch.creationTime + getCoalescingWindow() - System.currentTimeMillis();
+	if (waitTime > 0) {
+	    try {
+		Thread.sleep(waitTime);
+	    } catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+	    }
+	}
+	return value.get();
+    }
+
+    /**
+     * Method to get multiple WebPA parameter values of a device in one round trip through the coalescing client
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param parameters
+     *            WebPA parameters
+     * @return Map with WebPA parameter as key and its value as value
+     */
+    public static Map<String, String> getAll(Dut device, AutomaticsTapApi tapEnv, String... parameters) {
+	Map<String, Future<String>> futures = new HashMap<String, Future<String>>();
+	for (String parameter : parameters) {
+	    futures.put(parameter, request(device, tapEnv, parameter));
+	}
+	Map<String, String> values = new HashMap<String, String>();
+	for (Map.Entry<String, Future<String>> entry : futures.entrySet()) {
+	    values.put(entry.getKey(), ((CoalescedWebPaValue) entry.getValue()).get());
+	}
+	return values;
+    }
+
+    /**
+     * Helper method to read the configured coalescing window
+     *
+     * @return coalescing window in milliseconds
+     */
+    private static long getCoalescingWindow() {
+	long window = BroadBandTestConstants.WEBPA_COALESCING_DEFAULT_WINDOW_IN_MILLIS;
+	try {
+	    String propertyValue = AutomaticsTapApi
+		    .getSTBPropsValue(BroadBandPropertyKeyConstants.PROP_KEY_WEBPA_COALESCING_WINDOW);
+	    if (CommonMethods.isNotNull(propertyValue)) {
+		window = Long.parseLong(propertyValue.trim());
+	    }
+	} catch (Exception e) {
+	    // Property is optional; default window is used
+	}
+	return window;
+    }
+
+    /**
+     * Batch of WebPA GET requests of a device which are executed together
+     */
+    private static class WebPaGetBatch {
+
+	private final String deviceKey;
+
+	private final Dut device;
+
+	private final AutomaticsTapApi tapEnv;
+
+	private final long creationTime = System.currentTimeMillis();
+
+	private final Set<String> parameters = new LinkedHashSet<String>();
+
+	private final CountDownLatch completion = new CountDownLatch(1);
+
+	private volatile Map<String, String> values = new HashMap<String, String>();
+
+	private boolean closed = false;
+
+	private WebPaGetBatch(String deviceKey, Dut device, AutomaticsTapApi tapEnv) {
+	    this.deviceKey = deviceKey;
+	    this.device = device;
+	    this.tapEnv = tapEnv;
+	}
+
+	/**
+	 * Adds the parameter to the batch if it is still open
+	 */
+	private synchronized boolean add(String parameter) {
+	    if (!closed) {
+		parameters.add(parameter);
+	    }
+	    return !closed;
+	}
+
+	/**
+	 * Closes the batch; returns true only for the caller which has to execute it
+	 */
+	private synchronized boolean close() {
+	    boolean shouldExecute = !closed;
+	    closed = true;
+	    return shouldExecute;
+	}
+
+	/**
+	 * Executes the batch if no other thread has done it yet; returns true if it was executed by this caller
+	 */
+	private boolean executeIfOpen() {
+	    boolean shouldExecute = close();
+	    if (shouldExecute) {
+		OPEN_BATCHES.remove(deviceKey, this);
+		try {
+		    values = fetch();
+		} finally {
+		    completion.countDown();
+		}
+	    }
+	    return shouldExecute;
+	}
+
+	/**
+	 * Executes the batch, or waits for the thread executing it
+	 */
+	private void execute() {
+	    if (!executeIfOpen()) {
+		try {
+		    completion.await();
+		} catch (InterruptedException e) {
+		    Thread.currentThread().interrupt();
+		}
+	    }
+	}
+
+	/**
+	 * Fetches all parameters of the batch, falling back to single requests for missing values
+	 */
+	private Map<String, String> fetch() {
+	    Map<String, String> response = null;
+	    List<String> parameterList = new ArrayList<String>(parameters);
+	    if (parameterList.size() > BroadBandTestConstants.CONSTANT_1) {
+		LOGGER.info("Coalesced " + parameterList.size() + " WebPA GET requests into one request: "
+			+ parameterList);
+		try {
+		    response = tapEnv.executeMultipleWebPaGetCommands(device,
+			    parameterList.toArray(new String[parameterList.size()]));
+		} catch (Exception e) {
+		    LOGGER.error("Exception occured while executing coalesced WebPA GET: " + e.getMessage());
+		}
+	    }
+	    Map<String, String> result = new HashMap<String, String>();
+	    for (String parameter : parameterList) {
+		String value = null != response ? response.get(parameter) : null;
+		if (CommonMethods.isNull(value)) {
+		    value = tapEnv.executeWebPaCommand(device, parameter);
+		}
+		result.put(parameter, value);
+	    }
+	    return result;
+	}
+    }
+
+    /**
+     * {@link Future} holding the value of one parameter of a {@link WebPaGetBatch}
+     */
+    private static class CoalescedWebPaValue implements Future<String> {
+
+	private final WebPaGetBatch batch;
+
+	private final String parameter;
+
+	private CoalescedWebPaValue(WebPaGetBatch batch, String parameter) {
+	    this.batch = batch;
+	    this.parameter = parameter;
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+	    return false;
+	}
+
+	@Override
+	public boolean isCancelled() {
+	    return false;
+	}
+
+	@Override
+	public boolean isDone() {
+	    return batch.completion.getCount() == 0;
+	}
+
+	@Override
+	public String get() {
+	    batch.execute();
+	    return batch.values.get(parameter);
+	}
+
+	@Override
+	public String get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+	    if (!batch.executeIfOpen() && !batch.completion.await(timeout, unit)) {
+		throw new TimeoutException("Timed out waiting for coalesced WebPA GET of " + parameter);
+	    }
+	    return batch.values.get(parameter);
+	}
+    }
+}
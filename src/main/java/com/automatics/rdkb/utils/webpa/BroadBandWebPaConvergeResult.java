@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.webpa;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.automatics.rdkb.BroadBandResultObject;
+import com.automatics.rdkb.enums.BroadBandWebPaConvergeStatusEnum;
+
+/**
+ * Result of converging WebPA parameters to their target values using
+ * {@link BroadBandWebPaUtils#convergeWebPaParameters(com.automatics.device.Dut, com.automatics.tap.AutomaticsTapApi, List)},
+ * holding the outcome of each parameter. The status is true only if every parameter has its target value.
+ */
+public class BroadBandWebPaConvergeResult extends BroadBandResultObject {
+
+    /** Outcome of each parameter, in the order of the request */
+    private final Map<String, ParameterOutcome> outcomes = new LinkedHashMap<String, ParameterOutcome>();
+
+    /**
+     * Method to add the outcome of a parameter
+     *
+     * @param parameter
+     *            WebPA parameter
+     * @param targetValue
+     *            value to which the parameter is converged
+     * @param initialValue
+     *            value of the parameter before the set
+     * @param finalValue
+     *            value of the parameter after the set
+     * @param status
+     *            {@link BroadBandWebPaConvergeStatusEnum}
+     */
+    public void addOutcome(String parameter, String targetValue, String initialValue, String finalValue,
+	    BroadBandWebPaConvergeStatusEnum status) {
+	outcomes.put(parameter, new ParameterOutcome(targetValue, initialValue, finalValue, status));
+    }
+
+    /**
+     * @return unmodifiable map of parameter and its outcome
+     */
+    public Map<String, ParameterOutcome> getOutcomes() {
+	return Collections.unmodifiableMap(outcomes);
+    }
+
+    /**
+     * @param parameter
+     *            WebPA parameter
+     * @return outcome of the parameter; null if the parameter was not converged
+     */
+    public ParameterOutcome getOutcome(String parameter) {
+	return outcomes.get(parameter);
+    }
+
+    /**
+     * @param status
+     *            {@link BroadBandWebPaConvergeStatusEnum}
+     * @return parameters with the given outcome
+     */
+    public List<String> getParameters(BroadBandWebPaConvergeStatusEnum status) {
+	List<String> parameters = new ArrayList<String>();
+	for (Map.Entry<String, ParameterOutcome> outcome : outcomes.entrySet()) {
+	    if (status == outcome.getValue().getStatus()) {
+		parameters.add(outcome.getKey());
+	    }
+	}
+	return parameters;
+    }
+
+    /**
+     * @return map of parameter and target value, as returned by the set and verify helpers
+     */
+    public Map<String, String> getTargetValues() {
+	Map<String, String> targetValues = new HashMap<String, String>();
+	for (Map.Entry<String, ParameterOutcome> outcome : outcomes.entrySet()) {
+	    targetValues.put(outcome.getKey(), outcome.getValue().getTargetValue());
+	}
+	return targetValues;
+    }
+
+    /**
+     * Outcome of a single parameter
+     */
+    public static class ParameterOutcome {
+
+	/** Value to which the parameter is converged */
+	private final String targetValue;
+
+	/** Value of the parameter before the set */
+	private final String initialValue;
+
+	/** Value of the parameter after the set */
+	private final String finalValue;
+
+	/** Outcome of the parameter */
+	private final BroadBandWebPaConvergeStatusEnum status;
+
+	/**
+	 * Constructor with parameters.
+	 */
+	private ParameterOutcome(String targetValue, String initialValue, String finalValue,
+		BroadBandWebPaConvergeStatusEnum status) {
+	    this.targetValue = targetValue;
+	    this.initialValue = initialValue;
+	    this.finalValue = finalValue;
+	    this.status = status;
+	}
+
+	/**
+	 * @return the targetValue
+	 */
+	public String getTargetValue() {
+	    return targetValue;
+	}
+
+	/**
+	 * @return the initialValue
+	 */
+	public String getInitialValue() {
+	    return initialValue;
+	}
+
+	/**
+	 * @return the finalValue
+	 */
+	public String getFinalValue() {
+	    return finalValue;
+	}
+
+	/**
+	 * @return the status
+	 */
+	public BroadBandWebPaConvergeStatusEnum getStatus() {
+	    return status;
+	}
+
+	@Override
+	public String toString() {
+	    return status + " (target = " + targetValue + ", initial = " + initialValue + ", final = " + finalValue
+		    + ")";
+	}
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.webpa;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Map;
+
+import org.codehaus.jettison.json.JSONArray;
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local stand-in emitter of WebPA value change notifications, which posts notifications in the format accepted by
+ * {@link BroadBandWebPaNotificationReceiver}. Used with {@link BroadBandWebPaStandIn} to exercise notification based
+ * waits without a device.
+ */
+public class BroadBandWebPaNotificationEmitter {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandWebPaNotificationEmitter.class);
+
+    /** URL of the receiver */
+    private final String receiverUrl;
+
+    /** MAC address of the emitting device */
+    private final String macAddress;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param receiverUrl
+     *            URL of the receiver, e.g. {@link BroadBandWebPaNotificationReceiver#getUrl()}
+     * @param macAddress
+     *            MAC address of the emitting device
+     */
+    public BroadBandWebPaNotificationEmitter(String receiverUrl, String macAddress) {
+	this.receiverUrl = receiverUrl;
+	this.macAddress = macAddress;
+    }
+
+    /**
+     * Method to emit a value change notification of parameters
+     *
+     * @param parameterValues
+     *            map of changed parameter and its new value
+     * @return true, if the receiver accepted the notification
+     */
+    public boolean emit(Map<String, String> parameterValues) {
+	boolean status = false;
+	try {
+	    status = 200 == post(toNotification(parameterValues));
+	} catch (Exception e) {
+	    LOGGER.error("Failed to emit WebPA notification: " + e.getMessage());
+	}
+	return status;
+    }
+
+    /**
+     * Helper method to build the JSON notification
+     */
+    private String toNotification(Map<String, String> parameterValues) throws JSONException {
+	JSONArray modifiedParameters = new JSONArray();
+	for (Map.Entry<String, String> parameterValue : parameterValues.entrySet()) {
+	    JSONObject modifiedParameter = new JSONObject();
+	    modifiedParameter.put("parameterName", parameterValue.getKey());
+	    modifiedParameter.put("parameterValue", parameterValue.getValue());
+	    modifiedParameter.put("notify_type", "PARAM_NOTIFY");
+	    modifiedParameters.put(modifiedParameter);
+	}
+	JSONObject notification = new JSONObject();
+	notification.put("device_id", "mac:" + macAddress);
+	notification.put("timestamp", System.currentTimeMillis());
+	notification.put("paramsModified", modifiedParameters);
+	return notification.toString();
+    }
+
+    /**
+     * Helper method to post a notification to the receiver
+     *
+     * @return HTTP status code
+     */
+    private int post(String body) throws IOException {
+	HttpURLConnection connection = (HttpURLConnection) new URL(receiverUrl).openConnection();
+	OutputStream outputStream = null;
+	try {
+	    connection.setRequestMethod("POST");
+	    connection.setDoOutput(true);
+	    connection.setRequestProperty("Content-Type", "application/json");
+	    outputStream = connection.getOutputStream();
+	    outputStream.write(body.getBytes("UTF-8"));
+	    outputStream.flush();
+	    return connection.getResponseCode();
+	} finally {
+	    if (null != outputStream) {
+		outputStream.close();
+	    }
+	    connection.disconnect();
+	}
+    }
+}
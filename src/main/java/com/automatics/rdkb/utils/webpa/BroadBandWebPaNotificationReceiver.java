@@ -0,0 +1,410 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.webpa;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.codehaus.jettison.json.JSONArray;
+import org.codehaus.jettison.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandPropertyKeyConstants;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Lightweight embedded HTTP receiver of WebPA / Parodus value change notifications. Notifications are POSTed as JSON to
+ * {@link BroadBandTestConstants#WEBPA_NOTIFICATION_RECEIVER_PATH}; the port is read from the property
+ * {@link BroadBandPropertyKeyConstants#PROP_KEY_WEBPA_NOTIFICATION_RECEIVER_PORT}, and the notification webhook of the
+ * WebPA server is expected to point to {@link #getUrl()}.
+ *
+ * <p>
+ * A notification holds the device in device_id (e.g. mac:14cfe2142xxx) and either a single parameterName and
+ * parameterValue, or a paramsModified array of them. Callers turn notify on for the parameter with
+ * {@link BroadBandWebPaUtils#setWebPaAttribute(Dut, AutomaticsTapApi, String, JSONObject)}, register interest with
+ * {@link #awaitValueChange(Dut, String, String)} and wait on the returned {@link Future} instead of polling the
+ * parameter; a wait which times out is cancelled and no longer held by the receiver. Callers restore the notify
+ * attribute once done. {@link BroadBandWebPaNotificationEmitter} posts the same notifications for use with a local
+ * stand-in.
+ * </p>
+ */
+public class BroadBandWebPaNotificationReceiver {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandWebPaNotificationReceiver.class);
+
+    /** Receiver shared by all the tests */
+    private static BroadBandWebPaNotificationReceiver instance = null;
+
+    /** Server socket of the receiver */
+    private final ServerSocket serverSocket;
+
+    /** Value changes being waited for */
+    private final List<ValueChangeFuture> pendingValueChanges = new CopyOnWriteArrayList<ValueChangeFuture>();
+
+    /** Executor handling the accepted connections, so that a slow sender does not hold up other notifications */
+    private final ExecutorService connectionExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+
+	@Override
+	public Thread newThread(Runnable runnable) {
+	    Thread thread = new Thread(runnable, "webpa-notification-handler");
+	    thread.setDaemon(true);
+	    return thread;
+	}
+    });
+
+    /**
+     * Constructor with parameters. Notifications are accepted on a daemon thread and each connection is handled on a
+     * pooled daemon thread.
+     *
+     * @param port
+     *            port to listen on; 0 for any free port
+     * @throws IOException
+     *             if the server socket cannot be opened
+     */
+    private BroadBandWebPaNotificationReceiver(int port) throws IOException {
+	serverSocket = new ServerSocket(port);
+	Thread acceptThread = new Thread(new Runnable() {
+
+	    @Override
+	    public void run() {
+		while (!serverSocket.isClosed()) {
+		    try {
+			final Socket socket = serverSocket.accept();
+			connectionExecutor.execute(new Runnable() {
+
+			    @Override
+			    public void run() {
+				handle(socket);
+			    }
+			});
+		    } catch (IOException e) {
+			if (!serverSocket.isClosed()) {
+			    LOGGER.error("Failed to receive WebPA notification: " + e.getMessage());
+			}
+		    }
+		}
+	    }
+	}, "webpa-notification-receiver");
+	acceptThread.setDaemon(true);
+	acceptThread.start();
+	LOGGER.info("WebPA notification receiver started on port " + getPort());
+    }
+
+    /**
+     * Method to get the receiver, starting it on first use
+     *
+     * @return {@link BroadBandWebPaNotificationReceiver}
+     * @throws IOException
+     *             if the receiver cannot be started
+     */
+    public static synchronized BroadBandWebPaNotificationReceiver getInstance() throws IOException {
+	if (null == instance) {
+	    instance = new BroadBandWebPaNotificationReceiver(getConfiguredPort());
+	}
+	return instance;
+    }
+
+    /**
+     * Method to stop the receiver, failing any pending wait
+     */
+    public static synchronized void shutdown() {
+	if (null != instance) {
+	    try {
+		instance.serverSocket.close();
+	    } catch (IOException e) {
+		LOGGER.error("Failed to stop WebPA notification receiver: " + e.getMessage());
+	    }
+	    instance.connectionExecutor.shutdownNow();
+	    for (ValueChangeFuture valueChange : instance.pendingValueChanges) {
+		valueChange.cancel(false);
+	    }
+	    instance = null;
+	}
+    }
+
+    /**
+     * Method to register interest in a value change of a parameter. The returned future completes with the notified
+     * value; if it is cancelled or its timed wait expires, it is removed from the receiver. Register before triggering
+     * the change so that the notification is not missed.
+     *
+     * @param device
+     *            {@link Dut}
+     * @param parameter
+     *            WebPA parameter
+     * @param expectedValue
+     *            value to wait for; null for any change
+     * @return {@link Future} completed with the notified value
+     */
+    public Future<String> awaitValueChange(Dut device, String parameter, String expectedValue) {
+	return awaitValueChange(device.getHostMacAddress(), parameter, expectedValue);
+    }
+
+    /**
+     * Method to register interest in a value change of a parameter of a device MAC address
+     *
+     * @param macAddress
+     *            MAC address of the device
+     * @param parameter
+     *            WebPA parameter
+     * @param expectedValue
+     *            value to wait for; null for any change
+     * @return {@link Future} completed with the notified value
+     */
+    public Future<String> awaitValueChange(String macAddress, String parameter, String expectedValue) {
+	ValueChangeFuture valueChange = new ValueChangeFuture(normalizeMacAddress(macAddress), parameter,
+		expectedValue);
+	pendingValueChanges.add(valueChange);
+	return valueChange;
+    }
+
+    /**
+     * @return port on which the receiver listens
+     */
+    public int getPort() {
+	return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return URL to which notifications are posted
+     */
+    public String getUrl() {
+	String host = "localhost";
+	try {
+	    host = InetAddress.getLocalHost().getHostAddress();
+	} catch (IOException e) {
+	    LOGGER.debug("Failed to get local host address: " + e.getMessage());
+	}
+	return "http://" + host + ":" + getPort() + BroadBandTestConstants.WEBPA_NOTIFICATION_RECEIVER_PATH;
+    }
+
+    /**
+     * Helper method to handle a notification, completing the matching waits
+     *
+     * @param body
+     *            JSON notification
+     * @throws Exception
+     *             if the notification is not valid JSON
+     */
+    private void onNotification(String body) throws Exception {
+	LOGGER.debug("WebPA notification received: " + body);
+	JSONObject notification = new JSONObject(body);
+	String macAddress = normalizeMacAddress(notification.optString("device_id"));
+	JSONArray modifiedParameters = notification.optJSONArray("paramsModified");
+	if (null == modifiedParameters) {
+	    modifiedParameters = new JSONArray();
+	    modifiedParameters.put(notification);
+	}
+	for (int index = 0; index < modifiedParameters.length(); index++) {
+	    JSONObject modifiedParameter = modifiedParameters.getJSONObject(index);
+	    String parameter = modifiedParameter.optString("parameterName");
+	    String value = modifiedParameter.optString("parameterValue");
+	    for (ValueChangeFuture valueChange : pendingValueChanges) {
+		if (valueChange.isDone()) {
+		    pendingValueChanges.remove(valueChange);
+		} else if (valueChange.matches(macAddress, parameter, value)) {
+		    pendingValueChanges.remove(valueChange);
+		    valueChange.complete(value);
+		}
+	    }
+	}
+    }
+
+    /**
+     * Helper method to read an HTTP POST of a notification and respond to it
+     *
+     * @param socket
+     *            accepted connection
+     */
+    private void handle(Socket socket) {
+	String status = "200 OK";
+	try {
+	    socket.setSoTimeout((int) BroadBandTestConstants.TEN_SECOND_IN_MILLIS);
+	    InputStream inputStream = new BufferedInputStream(socket.getInputStream());
+	    String requestLine = readLine(inputStream);
+	    int contentLength = 0;
+	    String header;
+	    while (CommonMethods.isNotNull(header = readLine(inputStream))) {
+		if (header.toLowerCase().startsWith("content-length:")) {
+		    contentLength = Integer.parseInt(header.substring(header.indexOf(':') + 1).trim());
+		}
+	    }
+	    if (null == requestLine || !requestLine.startsWith("POST ")
+		    || !requestLine.contains(BroadBandTestConstants.WEBPA_NOTIFICATION_RECEIVER_PATH)) {
+		status = "404 Not Found";
+	    } else {
+		byte[] body = new byte[contentLength];
+		int offset = 0;
+		int length;
+		while (offset < contentLength && (length = inputStream.read(body, offset, contentLength - offset)) > 0) {
+		    offset += length;
+		}
+		try {
+		    onNotification(new String(body, 0, offset, "UTF-8"));
+		} catch (Exception e) {
+		    LOGGER.error("Invalid WebPA notification: " + e.getMessage());
+		    status = "400 Bad Request";
+		}
+	    }
+	    OutputStream outputStream = socket.getOutputStream();
+	    outputStream.write(("HTTP/1.1 " + status + "\r\nContent-Length: 0\r\nConnection: close\r\n\r\n")
+		    .getBytes("UTF-8"));
+	    outputStream.flush();
+	} catch (Exception e) {
+	    LOGGER.error("Failed to read WebPA notification: " + e.getMessage());
+	} finally {
+	    try {
+		socket.close();
+	    } catch (IOException e) {
+		// Connection is already closed
+	    }
+	}
+    }
+
+    /**
+     * Helper method to read a CRLF terminated line of an HTTP request
+     *
+     * @return line without the terminator; null at the end of the stream
+     */
+    private static String readLine(InputStream inputStream) throws IOException {
+	ByteArrayOutputStream line = new ByteArrayOutputStream();
+	int character;
+	while ((character = inputStream.read()) >= 0 && character != '\n') {
+	    if (character != '\r') {
+		line.write(character);
+	    }
+	}
+	return character < 0 && line.size() == 0 ? null : line.toString("UTF-8");
+    }
+
+    /**
+     * Helper method to normalize a MAC address for comparison, e.g. mac:14:CF:E2:14:2x:xx to 14cfe2142xxx
+     */
+    private static String normalizeMacAddress(String macAddress) {
+	String normalized = null == macAddress ? BroadBandTestConstants.EMPTY_STRING : macAddress.toLowerCase();
+	if (normalized.startsWith("mac:")) {
+	    normalized = normalized.substring(4);
+	}
+	return normalized.replace(":", BroadBandTestConstants.EMPTY_STRING);
+    }
+
+    /**
+     * Helper method to read the configured port
+     *
+     * @return configured port; 0 for any free port
+     */
+    private static int getConfiguredPort() {
+	int port = 0;
+	try {
+	    String propertyValue = AutomaticsTapApi
+		    .getSTBPropsValue(BroadBandPropertyKeyConstants.PROP_KEY_WEBPA_NOTIFICATION_RECEIVER_PORT);
+	    if (CommonMethods.isNotNull(propertyValue)) {
+		port = Integer.parseInt(propertyValue.trim());
+	    }
+	} catch (Exception e) {
+	    // Property is optional; any free port is used
+	}
+	return port;
+    }
+
+    /**
+     * Future of a value change being waited for
+     */
+    private class ValueChangeFuture implements Future<String> {
+
+	private final String macAddress;
+
+	private final String parameter;
+
+	private final String expectedValue;
+
+	private final CountDownLatch completion = new CountDownLatch(1);
+
+	private volatile String value = null;
+
+	private volatile boolean cancelled = false;
+
+	private ValueChangeFuture(String macAddress, String parameter, String expectedValue) {
+	    this.macAddress = macAddress;
+	    this.parameter = parameter;
+	    this.expectedValue = expectedValue;
+	}
+
+	private boolean matches(String notifiedMacAddress, String notifiedParameter, String notifiedValue) {
+	    return macAddress.equals(notifiedMacAddress) && parameter.equals(notifiedParameter)
+		    && (null == expectedValue || expectedValue.equalsIgnoreCase(notifiedValue));
+	}
+
+	private void complete(String notifiedValue) {
+	    value = notifiedValue;
+	    completion.countDown();
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+	    cancelled = completion.getCount() > 0;
+	    completion.countDown();
+	    pendingValueChanges.remove(this);
+	    return cancelled;
+	}
+
+	@Override
+	public boolean isCancelled() {
+	    return cancelled;
+	}
+
+	@Override
+	public boolean isDone() {
+	    return completion.getCount() == 0;
+	}
+
+	@Override
+	public String get() throws InterruptedException {
+	    completion.await();
+	    return value;
+	}
+
+	@Override
+	public String get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+	    if (!completion.await(timeout, unit)) {
+		cancel(false);
+		throw new TimeoutException("Timed out waiting for WebPA notification of " + parameter);
+	    }
+	    return value;
+	}
+    }
+}
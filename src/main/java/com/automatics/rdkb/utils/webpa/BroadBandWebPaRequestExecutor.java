@@ -0,0 +1,221 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.webpa;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.automatics.device.Dut;
+import com.automatics.rdkb.constants.BroadBandPropertyKeyConstants;
+import com.automatics.rdkb.constants.BroadBandTestConstants;
+import com.automatics.tap.AutomaticsTapApi;
+import com.automatics.utils.CommonMethods;
+
+/**
+ * Long lived, bounded executor used to run WebPA requests in parallel for a device. One executor is kept per device
+ * so that repeated parallel requests do not create and destroy thread pools on every call. Idle worker threads are
+ * released after {@link BroadBandTestConstants#WEBPA_PARALLEL_REQUEST_IDLE_TIMEOUT_IN_MILLIS}.
+ */
+public class BroadBandWebPaRequestExecutor {
+
+    /** SLF4j logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BroadBandWebPaRequestExecutor.class);
+
+    /** Executors per device, keyed by device MAC address */
+    private static final ConcurrentMap<String, BroadBandWebPaRequestExecutor> EXECUTORS = new ConcurrentHashMap<String, BroadBandWebPaRequestExecutor>();
+
+    /** Thread pool of this device */
+    private final ThreadPoolExecutor threadPool;
+
+    /** Maximum number of requests executed concurrently for this device */
+    private final int concurrencyLimit;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param deviceKey
+     *            key of the device, used for thread names
+     * @param concurrencyLimit
+     *            maximum number of requests executed concurrently
+     */
+    private BroadBandWebPaRequestExecutor(final String deviceKey, int concurrencyLimit) {
+	this.concurrencyLimit = concurrencyLimit;
+	this.threadPool = new ThreadPoolExecutor(concurrencyLimit, concurrencyLimit,
+		BroadBandTestConstants.WEBPA_PARALLEL_REQUEST_IDLE_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS,
+		new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+		    private final AtomicInteger threadCount = new AtomicInteger();
+
+		    @Override
+		    public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable,
+				"webpa-parallel-" + deviceKey + "-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		    }
+		});
+	this.threadPool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Method to get the executor of the device, creating it on first use. Concurrency limit is read from the property
+     * {@link BroadBandPropertyKeyConstants#PROP_KEY_WEBPA_PARALLEL_REQUEST_CONCURRENCY}.
+     *
+     * @param device
+     *            {@link Dut}
+     * @return {@link BroadBandWebPaRequestExecutor} of the device
+     */
+    public static BroadBandWebPaRequestExecutor getInstance(Dut device) {
+	String deviceKey = device.getHostMacAddress();
+	BroadBandWebPaRequestExecutor executor = EXECUTORS.get(deviceKey);
+	if (null == executor) {
+	    BroadBandWebPaRequestExecutor newExecutor = new BroadBandWebPaRequestExecutor(deviceKey,
+		    getConfiguredConcurrencyLimit());
+	    executor = EXECUTORS.putIfAbsent(deviceKey, newExecutor);
+	    if (null == executor) {
+		executor = newExecutor;
+	    } else {
+		newExecutor.threadPool.shutdown();
+	    }
+	}
+	return executor;
+    }
+
+    /**
+     * Method to shutdown and release the executor of the device, cancelling any request still running
+     *
+     * @param device
+     *            {@link Dut}
+     */
+    public static void shutdown(Dut device) {
+	BroadBandWebPaRequestExecutor executor = EXECUTORS.remove(device.getHostMacAddress());
+	if (null != executor) {
+	    executor.threadPool.shutdownNow();
+	}
+    }
+
+    /**
+     * Method to shutdown and release the executors of all devices
+     */
+    public static void shutdownAll() {
+	for (String deviceKey : EXECUTORS.keySet()) {
+	    BroadBandWebPaRequestExecutor executor = EXECUTORS.remove(deviceKey);
+	    if (null != executor) {
+		executor.threadPool.shutdownNow();
+	    }
+	}
+    }
+
+    /**
+     * Method to execute WebPA get requests in parallel. Requests which do not complete within the timeout are cancelled
+     * and their value is null in the response.
+     *
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param parameters
+     *            list of WebPA parameters
+     * @param timeout
+     *            overall timeout in milliseconds for all the requests
+     * @return Map with WebPA parameter as key and its value as value, in the order of the given parameters
+     */
+    public Map<String, String> execute(Dut device, AutomaticsTapApi tapEnv, List<String> parameters, long timeout) {
+	LOGGER.debug("STARTING METHOD: execute");
+	Map<String, Future<String>> futures = new LinkedHashMap<String, Future<String>>();
+	Map<String, String> responses = new LinkedHashMap<String, String>();
+	for (String parameter : parameters) {
+	    if (!futures.containsKey(parameter)) {
+		futures.put(parameter,
+			threadPool.submit(new BroadBandParallelWebPaRequest(device, tapEnv, parameter)));
+	    }
+	}
+	long deadline = System.currentTimeMillis() + timeout;
+	for (Map.Entry<String, Future<String>> entry : futures.entrySet()) {
+	    String response = null;
+	    try {
+		response = entry.getValue().get(Math.max(0, deadline - System.currentTimeMillis()),
+			TimeUnit.MILLISECONDS);
+	    } catch (TimeoutException e) {
+		LOGGER.error("Timed out waiting for parallel webpa request of parameter: " + entry.getKey());
+		entry.getValue().cancel(true);
+	    } catch (InterruptedException e) {
+		LOGGER.error("Interrupted while waiting for parallel webpa request of parameter: " + entry.getKey());
+		cancelAll(futures);
+		Thread.currentThread().interrupt();
+	    } catch (Exception e) {
+		LOGGER.error("Exception occured during parallel webpa request execution of parameter: "
+			+ entry.getKey() + " - " + e.getMessage());
+	    }
+	    responses.put(entry.getKey(), response);
+	}
+	LOGGER.debug("ENDING METHOD: execute");
+	return responses;
+    }
+
+    /**
+     * Helper method to cancel all the pending requests
+     *
+     * @param futures
+     *            pending requests
+     */
+    private static void cancelAll(Map<String, Future<String>> futures) {
+	for (Future<String> future : futures.values()) {
+	    future.cancel(true);
+	}
+    }
+
+    /**
+     * Helper method to read the configured concurrency limit
+     *
+     * @return concurrency limit
+     */
+    private static int getConfiguredConcurrencyLimit() {
+	int concurrencyLimit = BroadBandTestConstants.CONSTANT_5;
+	try {
+	    String propertyValue = AutomaticsTapApi
+		    .getSTBPropsValue(BroadBandPropertyKeyConstants.PROP_KEY_WEBPA_PARALLEL_REQUEST_CONCURRENCY);
+	    if (CommonMethods.isNotNull(propertyValue)) {
+		concurrencyLimit = Math.max(BroadBandTestConstants.CONSTANT_1, Integer.parseInt(propertyValue.trim()));
+	    }
+	} catch (Exception e) {
+	    // Property is optional; default concurrency limit is used
+	}
+	return concurrencyLimit;
+    }
+
+    /**
+     * @return the concurrencyLimit
+     */
+    public int getConcurrencyLimit() {
+	return concurrencyLimit;
+    }
+}
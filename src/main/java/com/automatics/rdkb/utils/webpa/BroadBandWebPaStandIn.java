@@ -0,0 +1,168 @@
+/*
+ * Copyright 2021 Comcast Cable Communications Management, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.automatics.rdkb.utils.webpa;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import com.automatics.webpa.WebPaParameter;
+
+/**
+ * Local, in-process stand-in for a device's WebPA endpoint, used to run WebPA benchmarks and utilities without lab
+ * devices. Parameters are kept in memory. Each request costs a fixed latency plus a per parameter latency, and fails
+ * at the configured error rate. The number of requests served concurrently can be limited to mimic the single
+ * threaded request handling of the device.
+ */
+public class BroadBandWebPaStandIn implements BroadBandWebPaBenchmarkTarget {
+
+    /** Parameter values */
+    private final Map<String, String> parameterValues = new ConcurrentHashMap<String, String>();
+
+    /** Random number generator used for errors */
+    private final Random random = new Random();
+
+    /** Fixed latency of each request in milliseconds */
+    private final long requestLatency;
+
+    /** Additional latency of each parameter in a request in milliseconds */
+    private final long parameterLatency;
+
+    /** Percentage of requests which fail */
+    private final int errorPercentage;
+
+    /** Permits for requests served concurrently */
+    private final Semaphore concurrentRequests;
+
+    /** Emitter of value change notifications; null if notifications are not emitted */
+    private volatile BroadBandWebPaNotificationEmitter notificationEmitter = null;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param requestLatency
+     *            fixed latency of each request in milliseconds
+     * @param parameterLatency
+     *            additional latency of each parameter in a request in milliseconds
+     * @param errorPercentage
+     *            percentage of requests which fail
+     * @param maxConcurrentRequests
+     *            number of requests served concurrently
+     */
+    public BroadBandWebPaStandIn(long requestLatency, long parameterLatency, int errorPercentage,
+	    int maxConcurrentRequests) {
+	this.requestLatency = requestLatency;
+	this.parameterLatency = parameterLatency;
+	this.errorPercentage = errorPercentage;
+	this.concurrentRequests = new Semaphore(Math.max(1, maxConcurrentRequests), true);
+    }
+
+    /**
+     * Method to preload a parameter value
+     *
+     * @param parameter
+     *            WebPA parameter
+     * @param value
+     *            value of the parameter
+     */
+    public void putValue(String parameter, String value) {
+	parameterValues.put(parameter, value);
+    }
+
+    /**
+     * Method to get a parameter value without simulated latency
+     *
+     * @param parameter
+     *            WebPA parameter
+     * @return value of the parameter; null if not present
+     */
+    public String getValue(String parameter) {
+	return parameterValues.get(parameter);
+    }
+
+    /**
+     * Method to emit a value change notification for every parameter changed by a set
+     *
+     * @param notificationEmitter
+     *            {@link BroadBandWebPaNotificationEmitter}; null to stop emitting notifications
+     */
+    public void setNotificationEmitter(BroadBandWebPaNotificationEmitter notificationEmitter) {
+	this.notificationEmitter = notificationEmitter;
+    }
+
+    @Override
+    public Map<String, String> get(String[] parameters) {
+	Map<String, String> response = null;
+	if (serve(parameters.length)) {
+	    response = new HashMap<String, String>();
+	    for (String parameter : parameters) {
+		String value = parameterValues.get(parameter);
+		response.put(parameter, null != value ? value : "");
+	    }
+	}
+	return response;
+    }
+
+    @Override
+    public boolean set(List<WebPaParameter> webPaParameters) {
+	boolean status = serve(webPaParameters.size());
+	if (status) {
+	    Map<String, String> changedValues = new LinkedHashMap<String, String>();
+	    for (WebPaParameter webPaParameter : webPaParameters) {
+		String previousValue = parameterValues.put(webPaParameter.getName(), webPaParameter.getValue());
+		if (null == previousValue || !previousValue.equals(webPaParameter.getValue())) {
+		    changedValues.put(webPaParameter.getName(), webPaParameter.getValue());
+		}
+	    }
+	    BroadBandWebPaNotificationEmitter emitter = notificationEmitter;
+	    if (null != emitter && !changedValues.isEmpty()) {
+		emitter.emit(changedValues);
+	    }
+	}
+	return status;
+    }
+
+    /**
+     * Helper method to simulate serving a request
+     *
+     * @param parameterCount
+     *            number of parameters in the request
+     * @return true, if the request succeeds
+     */
+    private boolean serve(int parameterCount) {
+	boolean status = false;
+	try {
+	    concurrentRequests.acquire();
+	    try {
+		Thread.sleep(requestLatency + parameterLatency * parameterCount);
+		synchronized (random) {
+		    status = random.nextInt(100) >= errorPercentage;
+		}
+	    } finally {
+		concurrentRequests.release();
+	    }
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	}
+	return status;
+    }
+}
@@ -29,14 +29,9 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import org.codehaus.jettison.json.JSONException;
 import org.codehaus.jettison.json.JSONObject;
@@ -54,12 +49,17 @@ import com.automatics.rdkb.constants.BroadBandTestConstants;
 import com.automatics.rdkb.constants.BroadBandTraceConstants;
 import com.automatics.rdkb.constants.BroadBandWebPaConstants;
 import com.automatics.rdkb.constants.RDKBTestConstants;
+import com.automatics.rdkb.enums.BroadBandWebPaConvergeStatusEnum;
 import com.automatics.rdkb.utils.BroadBandCommonUtils;
 import com.automatics.rdkb.utils.BroadBandSystemUtils;
 import com.automatics.rdkb.utils.BroadbandPropertyFileHandler;
 import com.automatics.rdkb.utils.CommonUtils;
 import com.automatics.rdkb.utils.DeviceModeHandler;
 import com.automatics.rdkb.utils.dmcli.DmcliUtils;
+import com.automatics.rdkb.utils.polling.BroadBandPollingEngine;
+import com.automatics.rdkb.utils.polling.BroadBandPollingPolicy;
+import com.automatics.rdkb.utils.polling.BroadBandPollingResult;
+import com.automatics.rdkb.utils.polling.BroadBandPollingTask;
 import com.automatics.tap.AutomaticsTapApi;
 import com.automatics.utils.AutomaticsPropertyUtility;
 import com.automatics.utils.CommonMethods;
@@ -174,15 +174,25 @@ public class BroadBandWebPaUtils {
     public static String getParameterValuesUsingWebPaOrDmcli(Dut device, AutomaticsTapApi tapApi, String parameter) {
 	LOGGER.info("Starting Method getParameterValuesUsingWebPaOrDmcli()");
 	String parameterValue = null;
-	boolean isWebpaConnBroken = Boolean.parseBoolean(System.getProperty(
-		BroadBandTestConstants.SYSTEM_PROPERTY_WEBPA_CONNECTIVITY_BROKEN, BroadBandTestConstants.FALSE));
-	LOGGER.info("Is WebpaConnectionBroken : " + isWebpaConnBroken);
-	if (!isWebpaConnBroken) {
+	BroadBandWebPaCircuitBreaker circuitBreaker = BroadBandWebPaCircuitBreaker.getInstance(device, tapApi);
+	if (circuitBreaker.allowRequest()) {
+	    long startTime = System.currentTimeMillis();
+	    boolean isWebPaFailed = true;
 	    try {
-		parameterValue = tapApi.executeWebPaCommand(device, parameter);
+		WebPaServerResponse serverResponse = WebPaConnectionHandler.get().getWebPaParamValue(device,
+			new String[] { parameter });
+		if (null != serverResponse) {
+		    // 520 is a failure reported by the device for the parameter, WebPA itself is reachable
+		    isWebPaFailed = 200 != serverResponse.getStatusCode() && 520 != serverResponse.getStatusCode();
+		    if (200 == serverResponse.getStatusCode() && null != serverResponse.getParams()
+			    && !serverResponse.getParams().isEmpty()) {
+			parameterValue = serverResponse.getParams().get(0).getValue();
+		    }
+		}
 	    } catch (Exception e) {
 		LOGGER.error("Exception caught while retrieving value using webpa: " + e.getMessage());
 	    }
+	    circuitBreaker.record(!isWebPaFailed, System.currentTimeMillis() - startTime);
 	}
 	if (CommonMethods.isNull(parameterValue)) {
 	    try {
@@ -239,19 +249,70 @@ public class BroadBandWebPaUtils {
     public static boolean getAndVerifyWebpaValueInPolledDuration(Dut device, AutomaticsTapApi tapEnv, String webPaParam,
 	    String valueToBeMatched, long maxDuration, long pollDuration) {
 	LOGGER.debug("STARTING METHOD: getAndVerifyWebpaValueInPolledDuration");
-	boolean status = false;
-	String response = null;
-	long startTime = System.currentTimeMillis();
-	do {
-	    response = tapEnv.executeWebPaCommand(device, webPaParam);
-	    if (CommonMethods.isNotNull(response)) {
-		status = response.equalsIgnoreCase(valueToBeMatched);
-	    }
-	} while ((System.currentTimeMillis() - startTime) < maxDuration && !status
-		&& BroadBandCommonUtils.hasWaitForDuration(tapEnv, pollDuration));
-	LOGGER.info("WebPa response for given parameter is: " + response);
+	BroadBandPollingResult<String> pollingResult = BroadBandPollingEngine.poll(tapEnv,
+		BroadBandPollingPolicy.adaptive(maxDuration, pollDuration),
+		getWebPaGetPollingTask(device, tapEnv, webPaParam, valueToBeMatched), webPaParam);
+	LOGGER.info("WebPa response for given parameter is: " + pollingResult.getValue());
 	LOGGER.debug("ENDING METHOD: getAndVerifyWebpaValueInPolledDuration");
-	return status;
+	return pollingResult.isComplete();
+    }
+
+    /**
+     * Helper method to create a polling task which gets the WebPA parameter value and completes when the value is not
+     * null and, if an expected value is given, equal to it ignoring case
+     * 
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param webPaParam
+     *            WebPa parameter name
+     * @param expectedValue
+     *            value to be matched with the webpa response; null to accept any non null response
+     * @return {@link BroadBandPollingTask} for WebPA get
+     */
+    private static BroadBandPollingTask<String> getWebPaGetPollingTask(final Dut device, final AutomaticsTapApi tapEnv,
+	    final String webPaParam, final String expectedValue) {
+	return new BroadBandPollingTask<String>() {
+
+	    @Override
+	    public String execute() {
+		return tapEnv.executeWebPaCommand(device, webPaParam);
+	    }
+
+	    @Override
+	    public boolean isComplete(String response) {
+		return CommonMethods.isNotNull(response)
+			&& (null == expectedValue || response.equalsIgnoreCase(expectedValue));
+	    }
+	};
+    }
+
+    /**
+     * Helper method to create a polling task which sets the WebPA parameter and completes when the set is successful
+     * 
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param webPaParameter
+     *            {@link WebPaParameter} to be set
+     * @return {@link BroadBandPollingTask} for WebPA set
+     */
+    private static BroadBandPollingTask<Boolean> getWebPaSetPollingTask(final Dut device,
+	    final AutomaticsTapApi tapEnv, final WebPaParameter webPaParameter) {
+	return new BroadBandPollingTask<Boolean>() {
+
+	    @Override
+	    public Boolean execute() {
+		return BroadBandCommonUtils.setWebPaParam(tapEnv, device, webPaParameter);
+	    }
+
+	    @Override
+	    public boolean isComplete(Boolean result) {
+		return Boolean.TRUE.equals(result);
+	    }
+	};
     }
 
     /**
@@ -322,54 +383,30 @@ public class BroadBandWebPaUtils {
 	    int dataType, String valueToBePassed, long maxDuration, long pollDuration) {
 	LOGGER.debug("STARTING METHOD: setVerifyWebPAInPolledDuration");
 	boolean result = false;
-	String response = null;
 	// Polled fetching of WebPA parameter before setting
-	long startTime = System.currentTimeMillis();
-	do {
-	    response = tapEnv.executeWebPaCommand(device, webPaParam);
-	    result = CommonMethods.isNotNull(response);
-	    if (result) {
-		LOGGER.info("WebPA get successful");
-		break;
-	    }
-	    LOGGER.info("WebPA get failed");
-	} while ((System.currentTimeMillis() - startTime) < maxDuration
-		&& BroadBandCommonUtils.hasWaitForDuration(tapEnv, pollDuration));
-	// Checking for null value of parameter
+	BroadBandPollingResult<String> getResult = BroadBandPollingEngine.poll(tapEnv,
+		BroadBandPollingPolicy.adaptive(maxDuration, pollDuration),
+		getWebPaGetPollingTask(device, tapEnv, webPaParam, null), webPaParam);
+	LOGGER.info("WebPA get " + (getResult.isComplete() ? "successful" : "failed"));
 	// Comparing obtained value with value to be set
-	result = CommonMethods.isNotNull(response) && response.equalsIgnoreCase(valueToBePassed);
+	result = getResult.isComplete() && getResult.getValue().equalsIgnoreCase(valueToBePassed);
 	if (result) {
 	    // Returning true as value is already equal to value to be set
 	    return true;
 	} else {
-	    WebPaParameter webPaParameter = new WebPaParameter();
-	    webPaParameter = generateWebpaParameterWithValueAndType(webPaParam, valueToBePassed, dataType);
+	    WebPaParameter webPaParameter = generateWebpaParameterWithValueAndType(webPaParam, valueToBePassed,
+		    dataType);
 	    // Polled setting of WebPA parameter
-	    startTime = System.currentTimeMillis();
-	    do {
-		result = BroadBandCommonUtils.setWebPaParam(tapEnv, device, webPaParameter);
-		if (result) {
-		    LOGGER.info("WebPA set successful");
-		    break;
-		}
-		LOGGER.info("WebPA set failed");
-	    } while ((System.currentTimeMillis() - startTime) < maxDuration
-		    && BroadBandCommonUtils.hasWaitForDuration(tapEnv, pollDuration));
+	    result = BroadBandPollingEngine.poll(tapEnv, BroadBandPollingPolicy.adaptive(maxDuration, pollDuration),
+		    getWebPaSetPollingTask(device, tapEnv, webPaParameter), webPaParam).isComplete();
+	    LOGGER.info("WebPA set " + (result ? "successful" : "failed"));
 	    if (result) {
-		// Polled fetching of WebPA parameter after setting
-		startTime = System.currentTimeMillis();
-		do {
-		    response = tapEnv.executeWebPaCommand(device, webPaParam);
-		    // Verifying WebPA value after setting is not null and
-		    // equal to value to be set
-		    result = CommonMethods.isNotNull(response) && response.equalsIgnoreCase(valueToBePassed);
-		    if (result) {
-			LOGGER.info("WebPA get after set successful");
-			break;
-		    }
-		    LOGGER.info("WebPA get after set failed");
-		} while ((System.currentTimeMillis() - startTime) < maxDuration
-			&& BroadBandCommonUtils.hasWaitForDuration(tapEnv, pollDuration));
+		// Polled fetching of WebPA parameter after setting and verifying it is equal to value to be set
+		result = BroadBandPollingEngine.poll(tapEnv,
+			BroadBandPollingPolicy.adaptive(maxDuration, pollDuration),
+			getWebPaGetPollingTask(device, tapEnv, webPaParam, valueToBePassed), webPaParam)
+			.isComplete();
+		LOGGER.info("WebPA get after set " + (result ? "successful" : "failed"));
 	    }
 	}
 	LOGGER.debug("EXITING : setVerifyWebPAInPolledDuration");
@@ -649,19 +686,20 @@ public class BroadBandWebPaUtils {
 
 	boolean status = false;
 	if (webPaParameters != null && !webPaParameters.isEmpty()) {
-	    boolean isWebpaConnBroken = Boolean.parseBoolean(System.getProperty(
-		    BroadBandTestConstants.SYSTEM_PROPERTY_WEBPA_CONNECTIVITY_BROKEN, BroadBandTestConstants.FALSE));
-	    if (!isWebpaConnBroken) {
+	    BroadBandWebPaCircuitBreaker circuitBreaker = BroadBandWebPaCircuitBreaker.getInstance(device, tapEnv);
+	    if (circuitBreaker.allowRequest()) {
+		long startTime = System.currentTimeMillis();
 		WebPaServerResponse serverResponse = tapEnv.setWebPaParameterValues(device, webPaParameters);
 		if (200 == serverResponse.getStatusCode() || 201 == serverResponse.getStatusCode() || serverResponse.getMessage().contains(BroadBandTestConstants.SUCCESS_TXT)) {
 		    status = true;
-		} else if (520 != serverResponse.getStatusCode()) {
-		    System.setProperty(BroadBandTestConstants.SYSTEM_PROPERTY_WEBPA_CONNECTIVITY_BROKEN,
-			    BroadBandTestConstants.TRUE);
 		}
+		// 520 is a failure reported by the device for the parameters, WebPA itself is reachable
+		circuitBreaker.record(status || 520 == serverResponse.getStatusCode(),
+			System.currentTimeMillis() - startTime);
 	    }
 
 	    if (!status) {
+		List<WebPaParameter> dmcliParameters = new ArrayList<WebPaParameter>(webPaParameters);
 		boolean isWiFiParameterPresent = false;
 		for (WebPaParameter param : webPaParameters) {
 		    if (param.getName().contains(BroadBandWebPaConstants.WEBPA_TABLE_DEVICE_WIFI)) {
@@ -676,17 +714,21 @@ public class BroadBandWebPaUtils {
 			    .generateWebpaParameterWithValueAndType(
 				    BroadBandWebPaConstants.WEBPA_PARAM_WIFI_2_4_APPLY_SETTING,
 				    BroadBandTestConstants.TRUE, WebPaDataTypes.BOOLEAN.getValue());
-		    webPaParameters.add(wifiRadio2gApplySettings);
+		    dmcliParameters.add(wifiRadio2gApplySettings);
 
 		    WebPaParameter wifiRadio5gApplySettings = BroadBandWebPaUtils
 			    .generateWebpaParameterWithValueAndType(
 				    BroadBandWebPaConstants.WEBPA_PARAM_WIFI_5_APPLY_SETTING,
 				    BroadBandTestConstants.TRUE, WebPaDataTypes.BOOLEAN.getValue());
-		    webPaParameters.add(wifiRadio5gApplySettings);
+		    dmcliParameters.add(wifiRadio5gApplySettings);
 		}
-		BroadBandResultObject resultObject = setMultipleParametersUsingDmcli(device, tapEnv, webPaParameters);
+		BroadBandResultObject resultObject = setMultipleParametersUsingDmcli(device, tapEnv, dmcliParameters);
 		status = resultObject.isStatus();
 	    }
+	    // Invalidated after the set, so that a read racing with the set cannot cache the old value
+	    for (WebPaParameter param : webPaParameters) {
+		BroadBandWebPaCache.invalidate(device, param.getName());
+	    }
 	}
 
 	return status;
@@ -782,14 +824,20 @@ public class BroadBandWebPaUtils {
     public static Map<String, String> getMultipleParameterValuesUsingWebPaOrDmcli(Dut device, AutomaticsTapApi tapApi,
 	    String[] parameters) {
 
-	boolean isWebpaConnBroken = Boolean.parseBoolean(System.getProperty(
-		BroadBandTestConstants.SYSTEM_PROPERTY_WEBPA_CONNECTIVITY_BROKEN, BroadBandTestConstants.FALSE));
+	BroadBandWebPaCircuitBreaker circuitBreaker = BroadBandWebPaCircuitBreaker.getInstance(device, tapApi);
 	Map<String, String> parameterValue = null;
-	if (!isWebpaConnBroken) {
-	    parameterValue = tapApi.executeMultipleWebPaGetCommands(device, parameters);
+	if (circuitBreaker.allowRequest()) {
+	    long startTime = System.currentTimeMillis();
+	    try {
+		parameterValue = tapApi.executeMultipleWebPaGetCommands(device, parameters);
+	    } catch (Exception e) {
+		LOGGER.error("Exception caught while retrieving values using webpa: " + e.getMessage());
+	    }
+	    circuitBreaker.record(null != parameterValue && !parameterValue.isEmpty(),
+		    System.currentTimeMillis() - startTime);
 	}
 	if (null == parameterValue || parameterValue.isEmpty()) {
-	    parameterValue = DmcliUtils.getParamValuesUsingDmcli(device, tapApi, parameters);
+	    parameterValue = DmcliUtils.getParamValuesUsingDmcliInBatch(device, tapApi, parameters);
 	}
 
 	return parameterValue;
@@ -2605,36 +2653,16 @@ public class BroadBandWebPaUtils {
 	    long pollDuration) {
 	LOGGER.debug("Entering Method: verifyWebPaValueAfterDurationWithValidatedValueInPolledTime");
 	boolean result = false;
-	String response = null;
-	long startTime = 0;
-	WebPaParameter webPaParameter = new WebPaParameter();
-	webPaParameter = generateWebpaParameterWithValueAndType(webPaParam, valueToBePassed, dataType);
+	WebPaParameter webPaParameter = generateWebpaParameterWithValueAndType(webPaParam, valueToBePassed, dataType);
 	// Polled setting of WebPA parameter
-	startTime = System.currentTimeMillis();
-	do {
-	    result = BroadBandCommonUtils.setWebPaParam(tapEnv, device, webPaParameter);
-	    if (result) {
-		LOGGER.info("WebPA set successful");
-		break;
-	    }
-	    LOGGER.info("WebPA set failed");
-	} while ((System.currentTimeMillis() - startTime) < maxDuration
-		&& BroadBandCommonUtils.hasWaitForDuration(tapEnv, pollDuration));
+	result = BroadBandPollingEngine.poll(tapEnv, BroadBandPollingPolicy.adaptive(maxDuration, pollDuration),
+		getWebPaSetPollingTask(device, tapEnv, webPaParameter), webPaParam).isComplete();
+	LOGGER.info("WebPA set " + (result ? "successful" : "failed"));
 	if (result) {
-	    // Polled fetching of WebPA parameter after setting
-	    startTime = System.currentTimeMillis();
-	    do {
-		response = tapEnv.executeWebPaCommand(device, webPaParam);
-		// Verifying WebPA value after setting is not null and
-		// equal to value to be set
-		result = CommonMethods.isNotNull(response) && response.equalsIgnoreCase(valueTobeValidated);
-		if (result) {
-		    LOGGER.info("WebPA get after set successful");
-		    break;
-		}
-		LOGGER.info("WebPA get validation after set failed");
-	    } while ((System.currentTimeMillis() - startTime) < maxDuration
-		    && BroadBandCommonUtils.hasWaitForDuration(tapEnv, pollDuration));
+	    // Polled fetching of WebPA parameter after setting and verifying it is equal to value to be validated
+	    result = BroadBandPollingEngine.poll(tapEnv, BroadBandPollingPolicy.adaptive(maxDuration, pollDuration),
+		    getWebPaGetPollingTask(device, tapEnv, webPaParam, valueTobeValidated), webPaParam).isComplete();
+	    LOGGER.info("WebPA get validation after set " + (result ? "successful" : "failed"));
 	}
 	LOGGER.info("Result of setting WebPaParameter values: " + result);
 	LOGGER.debug("Exiting Method: verifyWebPaValueAfterDurationWithValidatedValueInPolledTime");
@@ -2693,37 +2721,68 @@ public class BroadBandWebPaUtils {
      *            {@link AutomaticsTapApi}
      * @param params
      *            String list of webpa parameters to execute parallel requests
-     * @return List of webpa request outputs
+     * @return List of webpa request outputs, in the same order as the given parameters
      * @refactor Alan_Bivera
      */
     public static List<String> executeParallelWebPaRequests(Dut device, AutomaticsTapApi tapEnv, List<String> params) {
-
 	LOGGER.debug("Entering method: executeParallelWebPARequests");
-	// Restricting maximum number of threads to 5 to avoid memory or CPU issues
-	int numberOfThreads = (params.size() <= BroadBandTestConstants.CONSTANT_5) ? params.size()
-		: BroadBandTestConstants.CONSTANT_5;
-	ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
 	List<String> output = new ArrayList<String>();
+	Map<String, String> responses = executeParallelWebPaRequestsWithParameters(device, tapEnv, params);
+	for (String parameter : params) {
+	    output.add(responses.get(parameter));
+	}
+	LOGGER.debug("Exiting method: executeParallelWebPARequests");
+	return output;
+    }
 
+    /**
+     * Method to execute multiple webpa requests in parallel using the device's shared executor and the configured
+     * timeout
+     * 
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param params
+     *            String list of webpa parameters to execute parallel requests
+     * @return Map with webpa parameter as key and its output as value, in the order of the given parameters
+     */
+    public static Map<String, String> executeParallelWebPaRequestsWithParameters(Dut device, AutomaticsTapApi tapEnv,
+	    List<String> params) {
+	long timeout = BroadBandTestConstants.WEBPA_PARALLEL_REQUEST_DEFAULT_TIMEOUT_IN_MILLIS;
 	try {
-	    Set<Callable<String>> callables = new HashSet<Callable<String>>();
-	    for (String parameter : params) {
-		Callable<String> callable = new BroadBandParallelWebPaRequest(device, tapEnv, parameter);
-		callables.add(callable);
-	    }
-	    List<Future<String>> futures = executor.invokeAll(callables);
-	    LOGGER.debug("Submitted threads for execution");
-	    for (Future<String> future : futures) {
-		output.add(future.get());
+	    String configuredTimeout = AutomaticsTapApi
+		    .getSTBPropsValue(BroadBandPropertyKeyConstants.PROP_KEY_WEBPA_PARALLEL_REQUEST_TIMEOUT);
+	    if (CommonMethods.isNotNull(configuredTimeout)) {
+		timeout = Long.parseLong(configuredTimeout.trim());
 	    }
 	} catch (Exception e) {
-	    LOGGER.error("Exception occured during parallel webpa request execution: " + e.getMessage());
-	} finally {
-	    executor.shutdown();
+	    LOGGER.debug("Using default timeout for parallel webpa requests: " + timeout);
 	}
+	return executeParallelWebPaRequestsWithParameters(device, tapEnv, params, timeout);
+    }
 
-	LOGGER.debug("Exiting method: executeParallelWebPARequests");
-	return output;
+    /**
+     * Method to execute multiple webpa requests in parallel using the device's shared executor. Requests not completed
+     * within the timeout are cancelled and their output is null.
+     * 
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param params
+     *            String list of webpa parameters to execute parallel requests
+     * @param timeout
+     *            timeout in milliseconds for all the requests
+     * @return Map with webpa parameter as key and its output as value, in the order of the given parameters
+     */
+    public static Map<String, String> executeParallelWebPaRequestsWithParameters(Dut device, AutomaticsTapApi tapEnv,
+	    List<String> params, long timeout) {
+	LOGGER.debug("Entering method: executeParallelWebPaRequestsWithParameters");
+	Map<String, String> responses = BroadBandWebPaRequestExecutor.getInstance(device).execute(device, tapEnv,
+		params, timeout);
+	LOGGER.debug("Exiting method: executeParallelWebPaRequestsWithParameters");
+	return responses;
     }
 
     /**
@@ -2945,7 +3004,7 @@ public class BroadBandWebPaUtils {
 	String partnerId = null;
 	long startTime = System.currentTimeMillis();
 	do {
-	    partnerId = tapEnv.executeWebPaCommand(device,
+	    partnerId = BroadBandWebPaCache.get(device, tapEnv,
 		    BroadBandWebPaConstants.WEBPA_PARAM_FOR_SYNDICATION_PARTNER_ID);
 	    LOGGER.info("Current Partner ID of the device Retrieved via WEBPA is :" + partnerId);
 
@@ -3143,7 +3202,10 @@ public class BroadBandWebPaUtils {
 	    webPaParameters.add(erouterEnable);
 	    webPaParameters.add(portForwardingEnable);
 
-	    setValuesMap = validateMulitpleWebpaResponse(device, tapEnv, webPaParameters);
+	    BroadBandWebPaConvergeResult convergeResult = convergeWebPaParameters(device, tapEnv, webPaParameters);
+	    if (convergeResult.isStatus()) {
+		setValuesMap = convergeResult.getTargetValues();
+	    }
 	} catch (Exception e) {
 	    LOGGER.error("Exception occurred while set the common webpa parameters:" + e.getMessage());
 	}
@@ -3205,6 +3267,150 @@ public class BroadBandWebPaUtils {
 	return setValuesMap;
     }
 
+    /**
+     * Method to converge WebPA parameters to their target values. All the parameters are read in one batch, only the
+     * parameters which do not have the target value are set, in one request, and the set parameters are verified with
+     * one batched read. Wi-Fi apply settings are triggered only if a Wi-Fi parameter is set. Only WebPA is used, so
+     * that a WebPA failure is reported instead of being hidden by a dmcli fallback.
+     * 
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param webPaParameters
+     *            List of {@link WebPaParameter} with the target values
+     * @return {@link BroadBandWebPaConvergeResult} with the outcome of each parameter
+     */
+    public static BroadBandWebPaConvergeResult convergeWebPaParameters(Dut device, AutomaticsTapApi tapEnv,
+	    List<WebPaParameter> webPaParameters) {
+	LOGGER.debug("STARTING METHOD: convergeWebPaParameters()");
+	BroadBandWebPaConvergeResult result = new BroadBandWebPaConvergeResult();
+	String[] parameters = new String[webPaParameters.size()];
+	for (int index = 0; index < parameters.length; index++) {
+	    parameters[index] = webPaParameters.get(index).getName();
+	}
+	Map<String, String> initialValues = null;
+	try {
+	    initialValues = tapEnv.executeMultipleWebPaGetCommands(device, parameters);
+	} catch (Exception e) {
+	    LOGGER.error("Failed to read the initial values, setting all the parameters: " + e.getMessage());
+	}
+	if (null == initialValues) {
+	    initialValues = new HashMap<String, String>();
+	}
+	List<WebPaParameter> changedParameters = new ArrayList<WebPaParameter>();
+	for (WebPaParameter webPaParameter : webPaParameters) {
+	    if (!isWebPaValueEqual(webPaParameter, initialValues.get(webPaParameter.getName()))) {
+		changedParameters.add(webPaParameter);
+	    }
+	}
+	LOGGER.info(changedParameters.size() + " of " + webPaParameters.size()
+		+ " parameters do not have the target value");
+	Map<String, String> finalValues = new HashMap<String, String>();
+	boolean setStatus = true;
+	if (!changedParameters.isEmpty()) {
+	    setStatus = setMultipleParametersUsingWebPa(device, tapEnv, changedParameters);
+	    if (setStatus) {
+		doApplySettingsForWiFiParameter(device, tapEnv, changedParameters);
+		String[] changedParameterNames = new String[changedParameters.size()];
+		for (int index = 0; index < changedParameterNames.length; index++) {
+		    changedParameterNames[index] = changedParameters.get(index).getName();
+		}
+		try {
+		    Map<String, String> verifiedValues = tapEnv.executeMultipleWebPaGetCommands(device,
+			    changedParameterNames);
+		    if (null != verifiedValues) {
+			finalValues.putAll(verifiedValues);
+		    }
+		} catch (Exception e) {
+		    LOGGER.error("Failed to verify the set parameters: " + e.getMessage());
+		}
+	    }
+	}
+	StringBuffer errorMessage = new StringBuffer();
+	for (WebPaParameter webPaParameter : webPaParameters) {
+	    String parameter = webPaParameter.getName();
+	    String initialValue = initialValues.get(parameter);
+	    BroadBandWebPaConvergeStatusEnum status = null;
+	    String finalValue = initialValue;
+	    if (!changedParameters.contains(webPaParameter)) {
+		status = BroadBandWebPaConvergeStatusEnum.UNCHANGED;
+	    } else if (!setStatus) {
+		status = BroadBandWebPaConvergeStatusEnum.SET_FAILED;
+	    } else {
+		finalValue = finalValues.get(parameter);
+		status = isWebPaValueEqual(webPaParameter, finalValue) ? BroadBandWebPaConvergeStatusEnum.CONVERGED
+			: BroadBandWebPaConvergeStatusEnum.VERIFICATION_FAILED;
+	    }
+	    if (!status.isSuccess()) {
+		errorMessage.append(parameter).append(" ").append(status).append(": expected ")
+			.append(webPaParameter.getValue()).append(", actual ").append(finalValue).append(". ");
+	    }
+	    result.addOutcome(parameter, webPaParameter.getValue(), initialValue, finalValue, status);
+	}
+	result.setStatus(errorMessage.length() == 0);
+	result.setErrorMessage(errorMessage.toString().trim());
+	LOGGER.info("Converge WebPA parameters status: " + result.isStatus() + " " + result.getOutcomes());
+	LOGGER.debug("ENDING METHOD: convergeWebPaParameters()");
+	return result;
+    }
+
+    /**
+     * Helper method to set multiple parameters in one WebPA request, checking the set response of each parameter
+     * 
+     * @param device
+     *            {@link Dut}
+     * @param tapEnv
+     *            {@link AutomaticsTapApi}
+     * @param webPaParameters
+     *            List of {@link WebPaParameter} to be set
+     * @return true, if every parameter is set successfully
+     */
+    private static boolean setMultipleParametersUsingWebPa(Dut device, AutomaticsTapApi tapEnv,
+	    List<WebPaParameter> webPaParameters) {
+	boolean status = false;
+	try {
+	    Map<String, String> webPaResponse = tapEnv.executeMultipleWebPaSetCommands(device, webPaParameters);
+	    status = null != webPaResponse && !webPaResponse.isEmpty();
+	    if (status) {
+		for (Map.Entry<String, String> webpaResp : webPaResponse.entrySet()) {
+		    if (CommonMethods.isNull(webpaResp.getValue())
+			    || !webpaResp.getValue().trim().equalsIgnoreCase(BroadBandTestConstants.SUCCESS_TXT)) {
+			LOGGER.error("Failed to set parameter " + webpaResp.getKey() + ", webpa set response obtained is "
+				+ webpaResp.getValue());
+			status = false;
+		    }
+		}
+	    }
+	} catch (Exception e) {
+	    LOGGER.error("Exception occurred while setting the parameters using webpa: " + e.getMessage());
+	}
+	for (WebPaParameter webPaParameter : webPaParameters) {
+	    BroadBandWebPaCache.invalidate(device, webPaParameter.getName());
+	}
+	return status;
+    }
+
+    /**
+     * Helper method to compare the value of a WebPA parameter with its target value. Boolean values are compared
+     * ignoring case.
+     * 
+     * @param webPaParameter
+     *            {@link WebPaParameter} with the target value
+     * @param value
+     *            value of the parameter
+     * @return true, if the value is the target value
+     */
+    private static boolean isWebPaValueEqual(WebPaParameter webPaParameter, String value) {
+	boolean status = false;
+	if (null != value && null != webPaParameter.getValue()) {
+	    status = WebPaDataTypes.BOOLEAN.getValue() == webPaParameter.getDataType()
+		    ? value.trim().equalsIgnoreCase(webPaParameter.getValue().trim())
+		    : value.trim().equals(webPaParameter.getValue().trim());
+	}
+	return status;
+    }
+
     /**
      * Method used to do the apply settings for wifi parameter
      * 
@@ -3479,7 +3685,10 @@ public class BroadBandWebPaUtils {
 	    webPaParameters.add(radioWirelessChannelFor5Ghz);
 	    webPaParameters.add(operChannelBandwidthFor5Ghz);
 	    webPaParameters.add(dfsEnableFor5Ghz);
-	    setValuesMap = validateMulitpleWebpaResponse(device, tapEnv, webPaParameters);
+	    BroadBandWebPaConvergeResult convergeResult = convergeWebPaParameters(device, tapEnv, webPaParameters);
+	    if (convergeResult.isStatus()) {
+		setValuesMap = convergeResult.getTargetValues();
+	    }
 	} catch (Exception e) {
 	    LOGGER.error("Exception occurred while set the value for 2.4 and 5 GHz radios :" + e.getMessage());
 	}
@@ -3750,11 +3959,17 @@ public class BroadBandWebPaUtils {
      */
     public static List<String> getParameterValuesUsingWebPaOrDmcli(Dut device, AutomaticsTapApi tapEnv,
 	    String[] parameters) {
-	boolean isWebpaConnBroken = Boolean.parseBoolean(System.getProperty(
-		BroadBandTestConstants.SYSTEM_PROPERTY_WEBPA_CONNECTIVITY_BROKEN, BroadBandTestConstants.FALSE));
+	BroadBandWebPaCircuitBreaker circuitBreaker = BroadBandWebPaCircuitBreaker.getInstance(device, tapEnv);
 	List<String> parameterValue = null;
-	if (!isWebpaConnBroken) {
-	    parameterValue = tapEnv.executeWebPaCommands(device, parameters);
+	if (circuitBreaker.allowRequest()) {
+	    long startTime = System.currentTimeMillis();
+	    try {
+		parameterValue = tapEnv.executeWebPaCommands(device, parameters);
+	    } catch (Exception e) {
+		LOGGER.error("Exception caught while retrieving values using webpa: " + e.getMessage());
+	    }
+	    circuitBreaker.record(null != parameterValue && !parameterValue.isEmpty(),
+		    System.currentTimeMillis() - startTime);
 	}
 	if (null == parameterValue || parameterValue.isEmpty()) {
 	    parameterValue = DmcliUtils.getParameterValuesUsingDmcliCommand(device, tapEnv, parameters);
@@ -27,6 +27,7 @@ import com.automatics.device.Dut;
 import com.automatics.rdkb.BroadBandResultObject;
 import com.automatics.rdkb.constants.BroadBandTestConstants;
 import com.automatics.rdkb.utils.BroadBandCommonUtils;
+import com.automatics.rdkb.utils.BroadBandResourceSampler;
 import com.automatics.tap.AutomaticsTapApi;
 import com.automatics.utils.CommonMethods;
 
@@ -110,17 +111,59 @@ public class BroadBandWifiWhixUtils {
     }
     
     /**
-     * Method to calculate Average CPU and Mem utilisation
+     * Method to calculate Average CPU and Mem utilisation. The samples are taken on the device by
+     * {@link BroadBandResourceSampler} and collected at the end of the poll duration; if the sampler cannot be started
+     * top is polled over SSH instead.
      * 
      * @param device
      * @param tapEnv
      * @param pollDuration
      * @param pollInterval
-     * @return
+     * @return average memory used in KB and average CPU user percentage, separated by #
      */
     public static String calculateAverageCpuAndMemoryUtilisation(Dut device, AutomaticsTapApi tapEnv, long pollDuration,
 	    long pollInterval) {
 	String averageValues = null;
+	boolean isSampled = false;
+	// CPU utilisation is the difference of two samples, so a poll duration shorter than the poll interval is
+	// measured with a single top snapshot
+	if (pollDuration >= pollInterval) {
+	    BroadBandResourceSampler sampler = BroadBandResourceSampler.getInstance(device);
+	    if (sampler.start(tapEnv, device, (int) (pollInterval / BroadBandTestConstants.ONE_SECOND_IN_MILLIS),
+		    pollDuration + pollInterval)) {
+		isSampled = true;
+		tapEnv.waitTill(pollDuration);
+		sampler.stop(tapEnv, device);
+		BroadBandResourceSampler.Statistics memoryStatistics = sampler
+			.getStatistics(BroadBandResourceSampler.Metric.MEMORY_USED);
+		BroadBandResourceSampler.Statistics cpuStatistics = sampler
+			.getStatistics(BroadBandResourceSampler.Metric.CPU_USER);
+		LOGGER.info("Memory used (KB): " + memoryStatistics);
+		LOGGER.info("CPU user (%): " + cpuStatistics);
+		// As with the top samples, a device that was busy at all reports its mean even when it rounds to 0
+		if (cpuStatistics.getMean() > BroadBandTestConstants.CONSTANT_0
+			&& memoryStatistics.getMean() > BroadBandTestConstants.CONSTANT_0) {
+		    averageValues = Math.round(memoryStatistics.getMean())
+			    + BroadBandTestConstants.SINGLE_HASH_TERMINATING_CHAR + Math.round(cpuStatistics.getMean());
+		}
+	    } else {
+		LOGGER.error("Unable to start the resource sampler, polling top instead");
+	    }
+	}
+	if (!isSampled) {
+	    averageValues = calculateAverageCpuAndMemoryUtilisationUsingTop(device, tapEnv, pollDuration,
+		    pollInterval);
+	}
+	LOGGER.info("Return values: " + averageValues);
+	return averageValues;
+    }
+
+    /**
+     * Helper method to calculate Average CPU and Mem utilisation by polling top
+     */
+    private static String calculateAverageCpuAndMemoryUtilisationUsingTop(Dut device, AutomaticsTapApi tapEnv,
+	    long pollDuration, long pollInterval) {
+	String averageValues = null;
 	String response1, response2 = null;
 	List<String> utilisationValues = new ArrayList<String>();
 	long startTime = System.currentTimeMillis();
@@ -153,7 +196,6 @@ public class BroadBandWifiWhixUtils {
 	    }
 
 	}
-	LOGGER.info("Return values: " + averageValues);
 	return averageValues;
     }
 
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +55,7 @@ import com.automatics.rdkb.utils.BroadbandPropertyFileHandler;
 import com.automatics.rdkb.utils.CommonUtils;
 import com.automatics.rdkb.utils.ConnectedNattedClientsUtils;
 import com.automatics.rdkb.utils.DeviceModeHandler;
+import com.automatics.rdkb.utils.webpa.BroadBandWebPaCoalescingClient;
 import com.automatics.rdkb.utils.webpa.BroadBandWebPaUtils;
 import com.automatics.rdkb.utils.wifi.BroadBandWiFiUtils;
 import com.automatics.tap.AutomaticsTapApi;
@@ -93,10 +95,12 @@ public class BroadBandConnectedClientUtils {
 		int maxRange = 0;
 		int minRange = 0;
 		try {
-			String dhcpMinRange = tapEnv.executeWebPaCommand(device,
+			Future<String> dhcpMinRangeRequest = BroadBandWebPaCoalescingClient.request(device, tapEnv,
 					BroadBandWebPaConstants.WEBPA_PARAM_TO_RETRIEVE_DHCP_STARTING_IP_ADDRESS);
-			String dhcpMaxRange = tapEnv.executeWebPaCommand(device,
+			Future<String> dhcpMaxRangeRequest = BroadBandWebPaCoalescingClient.request(device, tapEnv,
 					BroadBandWebPaConstants.WEBPA_PARAM_TO_RETRIEVE_DHCP_ENDING_IP_ADDRESS);
+			String dhcpMinRange = dhcpMinRangeRequest.get();
+			String dhcpMaxRange = dhcpMaxRangeRequest.get();
 			LOGGER.info("DHCP MINIMUM IP RANGE CONFIGURED FOR GATEWAY : " + dhcpMinRange);
 			LOGGER.info("DHCP MAXIMUM IP RANGE CONFIGURED FOR GATEWAY : " + dhcpMaxRange);
 			if (CommonMethods.isIpv4Address(dhcpMinRange) && CommonMethods.isIpv4Address(dhcpMaxRange)) {
@@ -1609,11 +1613,13 @@ public class BroadBandConnectedClientUtils {
 		boolean result = false;
 		try {
 
-			String dhcpMinRange = tapEnv.executeWebPaCommand(device,
+			Future<String> dhcpMinRangeRequest = BroadBandWebPaCoalescingClient.request(device, tapEnv,
 					BroadBandWebPaConstants.WEBPA_PARAM_TO_RETRIEVE_DHCP_STARTING_IP_ADDRESS);
-			LOGGER.info("DHCP MINIMUM IP RANGE CONFIGURED FOR GATEWAY : " + dhcpMinRange);
-			String dhcpMaxRange = tapEnv.executeWebPaCommand(device,
+			Future<String> dhcpMaxRangeRequest = BroadBandWebPaCoalescingClient.request(device, tapEnv,
 					BroadBandWebPaConstants.WEBPA_PARAM_TO_RETRIEVE_DHCP_ENDING_IP_ADDRESS);
+			String dhcpMinRange = dhcpMinRangeRequest.get();
+			LOGGER.info("DHCP MINIMUM IP RANGE CONFIGURED FOR GATEWAY : " + dhcpMinRange);
+			String dhcpMaxRange = dhcpMaxRangeRequest.get();
 			LOGGER.info("DHCP MAXIMUM IP RANGE CONFIGURED FOR GATEWAY : " + dhcpMaxRange);
 			String ipAddressRetrievedFromClient = getIpv4AddressFromConnClient(tapEnv, device, connectedClientDevice);
 			LOGGER.info("IP ADDRESS ASSIGNED TO THE CONNECTED CLIENT FROM DHCP : " + ipAddressRetrievedFromClient);
@@ -6216,15 +6222,18 @@ public class BroadBandConnectedClientUtils {
 		boolean result = false;
 		try {
 			String osType = ((Device) connectedClientSettop).getOsType();
-			String delegatedPrefix = tapEnv.executeWebPaCommand(device,
+			Future<String> delegatedPrefixRequest = BroadBandWebPaCoalescingClient.request(device, tapEnv,
 					BroadBandWebPaConstants.WEB_PARAM_DELEGATED_PREFIX_IPV6);
+			Future<String> dhcpBeginRangeRequest = BroadBandWebPaCoalescingClient.request(device, tapEnv,
+					BroadBandWebPaConstants.WEB_PARAM_DHCPV6_BEGINNING_ADDRESS);
+			Future<String> dhcpEndingRangeRequest = BroadBandWebPaCoalescingClient.request(device, tapEnv,
+					BroadBandWebPaConstants.WEB_PARAM_DHCPV6_ENDING_ADDRESS);
+			String delegatedPrefix = delegatedPrefixRequest.get();
 			delegatedPrefix = delegatedPrefix.replaceAll(":/64", " ").trim();
 			LOGGER.info("DHCP DELIGATED PREFIX FOR GATEWAY : " + delegatedPrefix);
-			String dhcpBeginRange = tapEnv.executeWebPaCommand(device,
-					BroadBandWebPaConstants.WEB_PARAM_DHCPV6_BEGINNING_ADDRESS);
+			String dhcpBeginRange = dhcpBeginRangeRequest.get();
 			LOGGER.info("DHCP BEGIN IP RANGE CONFIGURED FOR GATEWAY : " + dhcpBeginRange);
-			String dhcpEndingRange = tapEnv.executeWebPaCommand(device,
-					BroadBandWebPaConstants.WEB_PARAM_DHCPV6_ENDING_ADDRESS);
+			String dhcpEndingRange = dhcpEndingRangeRequest.get();
 			LOGGER.info("DHCP ENDING IP RANGE CONFIGURED FOR GATEWAY : " + dhcpEndingRange);
 			dhcpBeginRange = delegatedPrefix + dhcpBeginRange;
 			dhcpEndingRange = delegatedPrefix + dhcpEndingRange;